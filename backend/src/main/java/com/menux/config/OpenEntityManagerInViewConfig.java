@@ -0,0 +1,35 @@
+package com.menux.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Open-in-view configuration for Menu.X application
+ *
+ * Replaces Spring Boot's open-in-view registration so long-lived requests can opt out. The
+ * EntityManager of an open-in-view request keeps its connection until the request ends, which
+ * for an order event stream is the whole session; those requests use an EntityManager per
+ * repository call instead, so the ownership check returns its connection right away.
+ */
+@Configuration
+public class OpenEntityManagerInViewConfig implements WebMvcConfigurer {
+
+    /**
+     * Requests that stay open long after the handler returns
+     */
+    static final String[] LONG_LIVED_PATHS = {"/restaurant/*/orders/stream"};
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns(LONG_LIVED_PATHS);
+    }
+}
@@ -0,0 +1,182 @@
+package com.menux.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.menux.service.CustomUserDetailsService.CustomUserPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * DataSource sending read-only transactions to a replica and everything else to the primary
+ *
+ * The route is chosen when a connection is first used, so it must sit behind a
+ * LazyConnectionDataSourceProxy to see the read-only flag of the transaction. A user whose
+ * write committed within the read-your-writes window keeps reading from the primary, and all
+ * reads fall back to the primary while the last replica health check failed or found the
+ * replica lagging too far behind. The check runs on its own thread, so a replica that is down
+ * and holds the probe until its connection timeout never delays the application's scheduled
+ * tasks. Reads whose results are cached or must see a write that just happened, such as
+ * logging in after registering, are pinned to the primary with {@link #onPrimary(Supplier)}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    /**
+     * Lookup keys of the target pools
+     */
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> primaryPinned = new ThreadLocal<>();
+
+    private final DataSource replica;
+    private final Cache<UUID, Boolean> recentWriters;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final int validationTimeoutSeconds;
+    private final long healthCheckIntervalMillis;
+    private ScheduledExecutorService healthCheckExecutor;
+
+    private volatile boolean replicaHealthy;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, long readYourWritesWindowMillis,
+                                    int maxTrackedWriters, String lagQuery, long maxLagMillis,
+                                    int validationTimeoutSeconds, long healthCheckIntervalMillis) {
+        this.replica = replica;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxTrackedWriters)
+                .expireAfterWrite(readYourWritesWindowMillis, TimeUnit.MILLISECONDS)
+                .build();
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    /**
+     * Pool the current transaction reads and writes through
+     */
+    public Route currentRoute() {
+        UUID userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recentWriters.put(userId, Boolean.TRUE);
+                    }
+                });
+            }
+            return Route.PRIMARY;
+        }
+        if (primaryPinned.get() != null || !replicaHealthy || (userId != null && recentWriters.getIfPresent(userId) != null)) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    /**
+     * Run work that reads through the primary even in read-only transactions. Has no effect
+     * when no replica is configured.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        if (primaryPinned.get() != null) {
+            return work.get();
+        }
+        primaryPinned.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            primaryPinned.remove();
+        }
+    }
+
+    /**
+     * Start checking the replica's health periodically, beginning right away
+     */
+    public synchronized void start() {
+        if (healthCheckExecutor == null) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("replica-health-");
+            threadFactory.setDaemon(true);
+            healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            healthCheckExecutor.scheduleWithFixedDelay(this::checkReplicaHealth, 0, healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized void stop() {
+        if (healthCheckExecutor != null) {
+            healthCheckExecutor.shutdownNow();
+            healthCheckExecutor = null;
+        }
+    }
+
+    /**
+     * Probe the replica and, when a lag query is configured, compare its replication lag to the limit
+     */
+    public boolean checkReplicaHealth() {
+        boolean healthy;
+        try (Connection connection = replica.getConnection()) {
+            healthy = connection.isValid(validationTimeoutSeconds);
+            if (healthy && lagQuery != null && !lagQuery.isBlank()) {
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                    long lagMillis = resultSet.next() ? resultSet.getLong(1) : Long.MAX_VALUE;
+                    healthy = lagMillis <= maxLagMillis;
+                    if (!healthy) {
+                        logger.debug("Replica is {} ms behind the primary", lagMillis);
+                    }
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            logger.debug("Replica health check failed: {}", e.getMessage());
+            healthy = false;
+        }
+
+        if (healthy != replicaHealthy) {
+            logger.warn(healthy ? "Replica is healthy again; routing read-only transactions to it"
+                    : "Replica is unhealthy; routing read-only transactions to the primary");
+        }
+        replicaHealthy = healthy;
+        return healthy;
+    }
+
+    public boolean isReplicaHealthy() {
+        return replicaHealthy;
+    }
+
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserPrincipal principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+}
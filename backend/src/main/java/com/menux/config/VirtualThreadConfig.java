@@ -0,0 +1,39 @@
+package com.menux.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for running on virtual threads
+ *
+ * With spring.threads.virtual.enabled on Java 21, Spring Boot serves Tomcat requests and runs
+ * the @Async and @Scheduled executors on virtual threads. Request concurrency is then bounded
+ * only by connections, so every connection pool is fronted by a
+ * {@link ConcurrencyLimitingDataSource} sized to the pool.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Bean
+    public static BeanPostProcessor connectionPoolConcurrencyLimiter() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource pool)) {
+                    return bean;
+                }
+                logger.info("Limiting {} to {} concurrent connections for virtual threads", beanName, pool.getMaximumPoolSize());
+                return new ConcurrencyLimitingDataSource(pool, pool.getMaximumPoolSize(), pool.getConnectionTimeout());
+            }
+        };
+    }
+}
@@ -0,0 +1,193 @@
+package com.menux.controller;
+
+import com.menux.dto.CursorPage;
+import com.menux.dto.RestaurantResponse;
+import com.menux.dto.UserResponse;
+import com.menux.entity.Restaurant;
+import com.menux.entity.UserRole;
+import com.menux.service.AnalyticsRollupService;
+import com.menux.service.AnalyticsRollupService.FoldResult;
+import com.menux.service.AnalyticsService;
+import com.menux.service.AnalyticsService.IngestionStats;
+import com.menux.service.FeedbackSummaryService;
+import com.menux.service.FeedbackSummaryService.RebuildResult;
+import com.menux.service.RestaurantService;
+import com.menux.service.SalesLedgerService;
+import com.menux.service.SalesLedgerService.LedgerRebuildResult;
+import com.menux.service.StatisticsService;
+import com.menux.service.StatisticsService.StatisticsSnapshot;
+import com.menux.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * REST Controller for super admin operations
+ */
+@RestController
+@RequestMapping("/admin")
+@Tag(name = "Admin", description = "Super admin endpoints")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class AdminController {
+
+    private final RestaurantService restaurantService;
+    private final UserService userService;
+    private final StatisticsService statisticsService;
+    private final FeedbackSummaryService feedbackSummaryService;
+    private final AnalyticsService analyticsService;
+    private final AnalyticsRollupService analyticsRollupService;
+    private final SalesLedgerService salesLedgerService;
+
+    @Autowired
+    public AdminController(RestaurantService restaurantService, UserService userService,
+                           StatisticsService statisticsService, FeedbackSummaryService feedbackSummaryService,
+                           AnalyticsService analyticsService, AnalyticsRollupService analyticsRollupService,
+                           SalesLedgerService salesLedgerService) {
+        this.restaurantService = restaurantService;
+        this.userService = userService;
+        this.statisticsService = statisticsService;
+        this.feedbackSummaryService = feedbackSummaryService;
+        this.analyticsService = analyticsService;
+        this.analyticsRollupService = analyticsRollupService;
+        this.salesLedgerService = salesLedgerService;
+    }
+
+    /**
+     * Dashboard statistics endpoint
+     */
+    @GetMapping("/statistics")
+    @Operation(summary = "Dashboard statistics", description = "Get restaurant and user counts for the admin dashboard")
+    public ResponseEntity<StatisticsSnapshot> getStatistics() {
+        return ResponseEntity.ok(statisticsService.getStatistics());
+    }
+
+    /**
+     * Restaurant listing endpoint
+     */
+    @GetMapping("/restaurants")
+    @Operation(summary = "List restaurants",
+               description = "List restaurants newest first; pass cursor (empty for the first page) to use keyset pagination instead of page numbers")
+    public ResponseEntity<?> getRestaurants(@RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "0") int page,
+                                            @RequestParam(defaultValue = "20") int size) {
+        try {
+            int pageSize = CursorPage.clampSize(size);
+
+            if (cursor != null) {
+                return ResponseEntity.ok(restaurantService.getAllRestaurants(cursor, pageSize)
+                    .map(RestaurantResponse::new));
+            }
+
+            return ResponseEntity.ok(restaurantService.getAllRestaurants(newestFirst(page, pageSize))
+                .map(RestaurantResponse::new));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Restaurant search endpoint
+     */
+    @GetMapping("/restaurants/search")
+    @Operation(summary = "Search restaurants",
+               description = "Search restaurants by name and address, best match first, tolerating typos and partial words")
+    public ResponseEntity<?> searchRestaurants(@RequestParam("q") String query,
+                                               @RequestParam(defaultValue = "false") boolean nameOnly,
+                                               @RequestParam(defaultValue = "0") int page,
+                                               @RequestParam(defaultValue = "20") int size) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), CursorPage.clampSize(size));
+        Page<Restaurant> restaurants = nameOnly
+                ? restaurantService.searchRestaurantsByName(query, pageRequest)
+                : restaurantService.searchRestaurants(query, pageRequest);
+        return ResponseEntity.ok(restaurants.map(RestaurantResponse::new));
+    }
+
+    /**
+     * User listing endpoint
+     */
+    @GetMapping("/users")
+    @Operation(summary = "List users",
+               description = "List users newest first, optionally by role; pass cursor (empty for the first page) to use keyset pagination instead of page numbers")
+    public ResponseEntity<?> getUsers(@RequestParam(required = false) UserRole role,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam(defaultValue = "0") int page,
+                                      @RequestParam(defaultValue = "20") int size) {
+        try {
+            int pageSize = CursorPage.clampSize(size);
+
+            if (cursor != null) {
+                return ResponseEntity.ok(userService.getUsers(role, cursor, pageSize)
+                    .map(UserResponse::new));
+            }
+
+            PageRequest pageRequest = newestFirst(page, pageSize);
+            return ResponseEntity.ok((role == null
+                    ? userService.getAllUsers(pageRequest)
+                    : userService.getUsersByRole(role, pageRequest))
+                .map(UserResponse::new));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Feedback summary rebuild endpoint
+     */
+    @PostMapping("/feedback-summaries/rebuild")
+    @Operation(summary = "Rebuild feedback summaries",
+               description = "Recompute feedback summaries from the feedback table, for one restaurant or all, and report corrected drift")
+    public ResponseEntity<RebuildResult> rebuildFeedbackSummaries(@RequestParam(required = false) UUID restaurantId) {
+        if (restaurantId != null) {
+            boolean corrected = feedbackSummaryService.rebuild(restaurantId);
+            return ResponseEntity.ok(new RebuildResult(1, corrected ? 1 : 0));
+        }
+        return ResponseEntity.ok(feedbackSummaryService.rebuildAll());
+    }
+
+    /**
+     * Sales ledger rebuild endpoint
+     */
+    @PostMapping("/sales-ledger/rebuild")
+    @Operation(summary = "Rebuild sales ledger",
+               description = "Recompute hourly sales buckets from completed orders, for one restaurant or all")
+    public ResponseEntity<LedgerRebuildResult> rebuildSalesLedger(@RequestParam(required = false) UUID restaurantId) {
+        if (restaurantId != null) {
+            return ResponseEntity.ok(new LedgerRebuildResult(1, salesLedgerService.rebuild(restaurantId)));
+        }
+        return ResponseEntity.ok(salesLedgerService.rebuildAll());
+    }
+
+    /**
+     * Analytics ingestion counters endpoint
+     */
+    @GetMapping("/analytics/ingestion")
+    @Operation(summary = "Analytics ingestion status", description = "Get accepted, dropped, written and buffered analytics event counts")
+    public ResponseEntity<IngestionStats> getAnalyticsIngestion() {
+        return ResponseEntity.ok(analyticsService.getStats());
+    }
+
+    /**
+     * Analytics rollup fold endpoint
+     */
+    @PostMapping("/analytics/rollups/fold")
+    @Operation(summary = "Fold analytics rollups", description = "Fold settled raw analytics events into the hourly and daily rollups now")
+    public ResponseEntity<FoldResult> foldAnalyticsRollups() {
+        return ResponseEntity.ok(analyticsRollupService.foldPending());
+    }
+
+    private static PageRequest newestFirst(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), size, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+    }
+}
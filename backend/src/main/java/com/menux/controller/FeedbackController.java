@@ -0,0 +1,76 @@
+package com.menux.controller;
+
+import com.menux.dto.FeedbackRequest;
+import com.menux.dto.FeedbackResponse;
+import com.menux.entity.AnalyticsEventType;
+import com.menux.entity.Feedback;
+import com.menux.exception.IdempotencyInProgressException;
+import com.menux.exception.ResourceNotFoundException;
+import com.menux.service.AnalyticsService;
+import com.menux.service.FeedbackService;
+import com.menux.service.IdempotencyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * REST Controller for public customer feedback
+ */
+@RestController
+@RequestMapping("/feedback")
+@Tag(name = "Feedback", description = "Public customer feedback endpoints")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class FeedbackController {
+
+    private final FeedbackService feedbackService;
+    private final AnalyticsService analyticsService;
+    private final IdempotencyService idempotencyService;
+
+    @Autowired
+    public FeedbackController(FeedbackService feedbackService, AnalyticsService analyticsService,
+                              IdempotencyService idempotencyService) {
+        this.feedbackService = feedbackService;
+        this.analyticsService = analyticsService;
+        this.idempotencyService = idempotencyService;
+    }
+
+    /**
+     * Feedback submission endpoint
+     */
+    @PostMapping
+    @Operation(summary = "Submit feedback", description = "Submit a rating and comment for a restaurant")
+    public ResponseEntity<?> submitFeedback(@Valid @RequestBody FeedbackRequest request,
+                                            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        try {
+            return idempotencyService.execute("feedback:" + request.getRestaurantId(), idempotencyKey, request,
+                () -> doSubmitFeedback(request));
+
+        } catch (IdempotencyInProgressException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<?> doSubmitFeedback(FeedbackRequest request) {
+        try {
+            Feedback feedback = feedbackService.submitFeedback(request);
+            analyticsService.record(AnalyticsEventType.FEEDBACK_SUBMITTED, request.getRestaurantId(),
+                feedback.getRating() != null ? Map.of("rating", feedback.getRating()) : Map.of());
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new FeedbackResponse(feedback));
+
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.menux.controller;
+
+import com.menux.dto.MenuItemResponse;
+import com.menux.dto.OrderReceiptResponse;
+import com.menux.dto.PlaceOrderRequest;
+import com.menux.entity.AnalyticsEventType;
+import com.menux.exception.IdempotencyInProgressException;
+import com.menux.exception.ResourceNotFoundException;
+import com.menux.service.AnalyticsService;
+import com.menux.service.IdempotencyService;
+import com.menux.service.MenuFacetIndex;
+import com.menux.service.MenuSnapshotService;
+import com.menux.service.OrderIntakeService;
+import com.menux.service.PopularityService;
+import com.menux.service.PopularityService.PopularItem;
+import com.menux.service.PopularityService.Ranking;
+import com.menux.service.SearchService;
+import com.menux.service.TextSearchIndex.Hit;
+import com.menux.service.MenuSnapshotService.MenuSnapshot;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * REST Controller for the public restaurant menu
+ */
+@RestController
+@RequestMapping("/menu")
+@Tag(name = "Menu", description = "Public menu endpoints")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class MenuController {
+
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final int MAX_POPULAR_ITEMS = 50;
+
+    private final MenuSnapshotService menuSnapshotService;
+    private final AnalyticsService analyticsService;
+    private final OrderIntakeService orderIntakeService;
+    private final IdempotencyService idempotencyService;
+    private final SearchService searchService;
+    private final PopularityService popularityService;
+
+    @Autowired
+    public MenuController(MenuSnapshotService menuSnapshotService, AnalyticsService analyticsService,
+                          OrderIntakeService orderIntakeService, IdempotencyService idempotencyService,
+                          SearchService searchService, PopularityService popularityService) {
+        this.menuSnapshotService = menuSnapshotService;
+        this.analyticsService = analyticsService;
+        this.orderIntakeService = orderIntakeService;
+        this.idempotencyService = idempotencyService;
+        this.searchService = searchService;
+        this.popularityService = popularityService;
+    }
+
+    /**
+     * Public menu endpoint
+     */
+    @GetMapping(value = "/{restaurantId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Restaurant menu", description = "Get the active categories and available items of a restaurant")
+    public ResponseEntity<byte[]> getMenu(@PathVariable UUID restaurantId,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                          WebRequest webRequest) {
+        try {
+            MenuSnapshot snapshot = menuSnapshotService.getSnapshot(restaurantId);
+            analyticsService.record(AnalyticsEventType.MENU_VIEW, restaurantId,
+                Map.of("menuVersion", snapshot.getVersion()));
+
+            if (webRequest.checkNotModified(snapshot.getEtag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .build();
+            }
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .eTag(snapshot.getEtag())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header("X-Menu-Version", String.valueOf(snapshot.getVersion()));
+
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzip());
+            }
+            return response.body(snapshot.getJson());
+
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Menu filtering endpoint
+     */
+    @GetMapping("/{restaurantId}/items")
+    @Operation(summary = "Filter menu",
+               description = "Filter the available items of a restaurant by dietary flags, categories, price range and excluded allergens, " +
+                             "with counts per facet")
+    public ResponseEntity<?> filterMenu(@PathVariable UUID restaurantId,
+                                        @RequestParam(defaultValue = "false") boolean vegetarian,
+                                        @RequestParam(defaultValue = "false") boolean vegan,
+                                        @RequestParam(defaultValue = "false") boolean glutenFree,
+                                        @RequestParam(required = false) Set<UUID> categoryId,
+                                        @RequestParam(required = false) BigDecimal minPrice,
+                                        @RequestParam(required = false) BigDecimal maxPrice,
+                                        @RequestParam(required = false) Set<String> excludeAllergen) {
+        try {
+            MenuSnapshot snapshot = menuSnapshotService.getSnapshot(restaurantId);
+            return ResponseEntity.ok(snapshot.getFacets().filter(new MenuFacetIndex.Filter(
+                    vegetarian, vegan, glutenFree, categoryId, minPrice, maxPrice, excludeAllergen)));
+
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Menu search endpoint
+     */
+    @GetMapping("/{restaurantId}/search")
+    @Operation(summary = "Search menu", description = "Search the available items of a restaurant by name or description, tolerating typos and partial words")
+    public ResponseEntity<?> searchMenu(@PathVariable UUID restaurantId,
+                                        @RequestParam("q") String query,
+                                        @RequestParam(defaultValue = "20") int limit) {
+        try {
+            MenuSnapshot snapshot = menuSnapshotService.getSnapshot(restaurantId);
+            int size = Math.min(Math.max(limit, 1), MAX_SEARCH_RESULTS);
+
+            List<MenuItemResponse> items = new ArrayList<>();
+            for (Hit hit : searchService.searchMenu(restaurantId, query, MAX_SEARCH_RESULTS)) {
+                MenuItemResponse item = snapshot.getItemsById().get(hit.getId());
+                if (item != null && items.size() < size) {
+                    items.add(item);
+                }
+            }
+            return ResponseEntity.ok(items);
+
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Popular items endpoint
+     */
+    @GetMapping("/{restaurantId}/popular")
+    @Operation(summary = "Popular items",
+               description = "Most ordered available items of a restaurant, all time, trending (recent orders weigh more) or over the last 7 days")
+    public ResponseEntity<?> getPopularItems(@PathVariable UUID restaurantId,
+                                             @RequestParam(defaultValue = "ALL_TIME") Ranking ranking,
+                                             @RequestParam(defaultValue = "10") int limit) {
+        try {
+            MenuSnapshot snapshot = menuSnapshotService.getSnapshot(restaurantId);
+            int size = Math.min(Math.max(limit, 1), MAX_POPULAR_ITEMS);
+
+            List<MenuItemResponse> items = new ArrayList<>();
+            for (PopularItem popular : popularityService.getTopItems(restaurantId, ranking, size, snapshot.getItemsById()::containsKey)) {
+                items.add(snapshot.getItemsById().get(popular.getMenuItemId()));
+            }
+            return ResponseEntity.ok(items);
+
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Order placement endpoint
+     */
+    @PostMapping("/{restaurantId}/orders")
+    @Operation(summary = "Place order", description = "Place an order priced server-side from the current menu and get a receipt")
+    public ResponseEntity<?> placeOrder(@PathVariable UUID restaurantId, @Valid @RequestBody PlaceOrderRequest request,
+                                        @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        try {
+            return idempotencyService.execute("order:" + restaurantId, idempotencyKey, request,
+                () -> doPlaceOrder(restaurantId, request));
+
+        } catch (IdempotencyInProgressException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<?> doPlaceOrder(UUID restaurantId, PlaceOrderRequest request) {
+        try {
+            OrderReceiptResponse receipt = orderIntakeService.placeOrder(restaurantId, request);
+            analyticsService.record(AnalyticsEventType.ORDER_PLACED, restaurantId,
+                Map.of("orderId", receipt.getOrderId(), "totalAmount", receipt.getTotalAmount(), "lines", receipt.getLines().size()));
+            return ResponseEntity.status(HttpStatus.CREATED).body(receipt);
+
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
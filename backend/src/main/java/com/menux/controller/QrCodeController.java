@@ -0,0 +1,88 @@
+package com.menux.controller;
+
+import com.menux.entity.AnalyticsEventType;
+import com.menux.exception.ResourceNotFoundException;
+import com.menux.service.AnalyticsService;
+import com.menux.service.QrCodeService;
+import com.menux.service.QrCodeService.QrCodeImage;
+import com.menux.service.QrCodeService.QrCodeValidationResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * REST Controller for public QR code operations
+ */
+@RestController
+@RequestMapping("/qr")
+@Tag(name = "QR Codes", description = "Public QR code endpoints")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class QrCodeController {
+
+    private final QrCodeService qrCodeService;
+    private final AnalyticsService analyticsService;
+
+    @Autowired
+    public QrCodeController(QrCodeService qrCodeService, AnalyticsService analyticsService) {
+        this.qrCodeService = qrCodeService;
+        this.analyticsService = analyticsService;
+    }
+
+    /**
+     * QR code image endpoint
+     */
+    @GetMapping(value = "/{id}/image", produces = MediaType.IMAGE_PNG_VALUE)
+    @Operation(summary = "QR code image", description = "Get the QR code as a PNG image")
+    public ResponseEntity<byte[]> getQrCodeImage(@PathVariable UUID id, WebRequest webRequest) {
+        try {
+            QrCodeImage image = qrCodeService.getQrCodeImage(id);
+
+            if (webRequest.checkNotModified(image.getEtag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(image.getEtag())
+                    .build();
+            }
+
+            return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .eTag(image.getEtag())
+                .body(image.getBytes());
+
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Resolve a scanned QR code
+     */
+    @GetMapping("/scan/{code}")
+    @Operation(summary = "Resolve QR code scan", description = "Resolve a scanned QR code to its restaurant and table")
+    public ResponseEntity<QrCodeValidationResult> scanQrCode(@PathVariable String code) {
+        QrCodeValidationResult result = qrCodeService.validateQrCode(code);
+
+        if (!result.isValid()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("code", code);
+        if (result.getTableNumber() != null) {
+            data.put("tableNumber", result.getTableNumber());
+        }
+        analyticsService.record(AnalyticsEventType.QR_SCAN, result.getRestaurantId(), data);
+
+        return ResponseEntity.ok(result);
+    }
+}
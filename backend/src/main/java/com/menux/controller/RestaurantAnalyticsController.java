@@ -0,0 +1,60 @@
+package com.menux.controller;
+
+import com.menux.entity.AnalyticsEventType;
+import com.menux.entity.RollupGranularity;
+import com.menux.service.AnalyticsRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * REST Controller for restaurant owner analytics
+ */
+@RestController
+@RequestMapping("/restaurant/{restaurantId}/analytics")
+@Tag(name = "Restaurant Analytics", description = "Usage analytics for restaurant owners")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class RestaurantAnalyticsController {
+
+    private final AnalyticsRollupService analyticsRollupService;
+
+    @Autowired
+    public RestaurantAnalyticsController(AnalyticsRollupService analyticsRollupService) {
+        this.analyticsRollupService = analyticsRollupService;
+    }
+
+    /**
+     * Event count series endpoint
+     */
+    @GetMapping
+    @PreAuthorize("@restaurantAccess.canManage(#restaurantId)")
+    @Operation(summary = "Event counts",
+               description = "Get hourly or daily counts of one event type (menu_view, qr_scan, order_placed, feedback_submitted); " +
+                             "defaults to the last 24 hours or the last 30 days")
+    public ResponseEntity<?> getEventCounts(@PathVariable UUID restaurantId,
+                                            @RequestParam String eventType,
+                                            @RequestParam(defaultValue = "HOUR") RollupGranularity granularity,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            LocalDateTime end = to != null ? to : LocalDateTime.now();
+            LocalDateTime start = from != null ? from
+                    : granularity == RollupGranularity.HOUR ? end.minusHours(24) : end.minusDays(30);
+
+            return ResponseEntity.ok(analyticsRollupService.getSeries(restaurantId,
+                    AnalyticsEventType.fromCode(eventType), granularity, start, end));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
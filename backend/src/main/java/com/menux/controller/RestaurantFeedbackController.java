@@ -0,0 +1,118 @@
+package com.menux.controller;
+
+import com.menux.dto.CursorPage;
+import com.menux.dto.FeedbackResponse;
+import com.menux.dto.FeedbackSummaryResponse;
+import com.menux.service.ExportService;
+import com.menux.service.ExportService.Format;
+import com.menux.service.FeedbackService;
+import com.menux.service.FeedbackSummaryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * REST Controller for restaurant owner feedback
+ */
+@RestController
+@RequestMapping("/restaurant/{restaurantId}/feedback")
+@Tag(name = "Restaurant Feedback", description = "Customer feedback for restaurant owners")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class RestaurantFeedbackController {
+
+    private final FeedbackService feedbackService;
+    private final FeedbackSummaryService feedbackSummaryService;
+    private final ExportService exportService;
+
+    @Autowired
+    public RestaurantFeedbackController(FeedbackService feedbackService,
+                                        FeedbackSummaryService feedbackSummaryService,
+                                        ExportService exportService) {
+        this.feedbackService = feedbackService;
+        this.feedbackSummaryService = feedbackSummaryService;
+        this.exportService = exportService;
+    }
+
+    /**
+     * Feedback summary endpoint
+     */
+    @GetMapping("/summary")
+    @PreAuthorize("@restaurantAccess.canManage(#restaurantId)")
+    @Operation(summary = "Feedback summary", description = "Get the rating histogram, average rating and sentiment counts")
+    public ResponseEntity<FeedbackSummaryResponse> getFeedbackSummary(@PathVariable UUID restaurantId) {
+        return ResponseEntity.ok(new FeedbackSummaryResponse(feedbackSummaryService.getSummary(restaurantId)));
+    }
+
+    /**
+     * Feedback listing endpoint
+     */
+    @GetMapping
+    @PreAuthorize("@restaurantAccess.canManage(#restaurantId)")
+    @Operation(summary = "List feedback",
+               description = "List feedback newest first; pass cursor (empty for the first page) to use keyset pagination instead of page numbers")
+    public ResponseEntity<?> getFeedback(@PathVariable UUID restaurantId,
+                                       @RequestParam(required = false) String cursor,
+                                       @RequestParam(defaultValue = "0") int page,
+                                       @RequestParam(defaultValue = "20") int size) {
+        try {
+            int pageSize = CursorPage.clampSize(size);
+
+            if (cursor != null) {
+                return ResponseEntity.ok(feedbackService.getRecentFeedback(restaurantId, cursor, pageSize)
+                    .map(FeedbackResponse::new));
+            }
+
+            PageRequest pageRequest = PageRequest.of(Math.max(page, 0), pageSize, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+            return ResponseEntity.ok(feedbackService.getRecentFeedback(restaurantId, pageRequest)
+                .map(FeedbackResponse::new));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Feedback export endpoint
+     */
+    @GetMapping("/export")
+    @PreAuthorize("@restaurantAccess.canManage(#restaurantId)")
+    @Operation(summary = "Export feedback",
+               description = "Download feedback created in [from, to), oldest first, as CSV or NDJSON, optionally gzip-compressed; " +
+                             "rows are streamed, so any history size can be exported")
+    public ResponseEntity<StreamingResponseBody> exportFeedback(@PathVariable UUID restaurantId,
+                                                                @RequestParam(defaultValue = "CSV") Format format,
+                                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                                @RequestParam(defaultValue = "false") boolean gzip) {
+        LocalDateTime start = from != null ? from : ExportService.EARLIEST;
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        if (!start.isBefore(end)) {
+            return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> exportService.writeError("from must be before to", outputStream));
+        }
+
+        StreamingResponseBody body = outputStream -> exportService.writeFeedback(restaurantId, start, end, format, gzip, outputStream);
+        String filename = "feedback-" + restaurantId + "." + format.getExtension() + (gzip ? ".gz" : "");
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .body(body);
+    }
+}
@@ -0,0 +1,45 @@
+package com.menux.controller;
+
+import com.menux.service.KitchenQueueService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST Controller for restaurant kitchen displays
+ */
+@RestController
+@RequestMapping("/restaurant/{restaurantId}/kitchen")
+@Tag(name = "Restaurant Kitchen", description = "Kitchen display endpoints for restaurant owners")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class RestaurantKitchenController {
+
+    private static final int MAX_QUEUE_SIZE = 200;
+
+    private final KitchenQueueService kitchenQueueService;
+
+    @Autowired
+    public RestaurantKitchenController(KitchenQueueService kitchenQueueService) {
+        this.kitchenQueueService = kitchenQueueService;
+    }
+
+    /**
+     * Kitchen queue endpoint
+     */
+    @GetMapping("/queue")
+    @PreAuthorize("@restaurantAccess.canManage(#restaurantId)")
+    @Operation(summary = "Kitchen queue",
+               description = "Open orders in cooking order: preparing, then confirmed, then pending, oldest first; " +
+                             "pass categoryId to get the view of one kitchen station")
+    public ResponseEntity<?> getQueue(@PathVariable UUID restaurantId,
+                                      @RequestParam(required = false) UUID categoryId,
+                                      @RequestParam(defaultValue = "50") int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_QUEUE_SIZE);
+        return ResponseEntity.ok(kitchenQueueService.getQueue(restaurantId, categoryId, size));
+    }
+}
@@ -0,0 +1,178 @@
+package com.menux.controller;
+
+import com.menux.dto.CursorPage;
+import com.menux.dto.OrderStatusUpdateRequest;
+import com.menux.dto.OrderSummaryResponse;
+import com.menux.entity.OrderStatus;
+import com.menux.exception.OrderStateConflictException;
+import com.menux.exception.ResourceNotFoundException;
+import com.menux.service.ExportService;
+import com.menux.service.ExportService.Format;
+import com.menux.service.OrderLifecycleService;
+import com.menux.service.OrderService;
+import com.menux.service.OrderStreamService;
+import com.menux.service.OrderStreamService.OrderUpdate;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * REST Controller for restaurant owner order management
+ */
+@RestController
+@RequestMapping("/restaurant/{restaurantId}/orders")
+@Tag(name = "Restaurant Orders", description = "Order management for restaurant owners")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class RestaurantOrderController {
+
+    private final OrderService orderService;
+    private final OrderStreamService orderStreamService;
+    private final OrderLifecycleService orderLifecycleService;
+    private final ExportService exportService;
+
+    @Autowired
+    public RestaurantOrderController(OrderService orderService, OrderStreamService orderStreamService,
+                                     OrderLifecycleService orderLifecycleService, ExportService exportService) {
+        this.orderService = orderService;
+        this.orderStreamService = orderStreamService;
+        this.orderLifecycleService = orderLifecycleService;
+        this.exportService = exportService;
+    }
+
+    /**
+     * Order status change endpoint
+     */
+    @PatchMapping("/{orderId}/status")
+    @PreAuthorize("@restaurantAccess.canManage(#restaurantId)")
+    @Operation(summary = "Change order status",
+               description = "Move an order along PENDING, CONFIRMED, PREPARING, READY, COMPLETED or cancel it before preparation; " +
+                             "send expectedStatus and version to fail with 409 if someone else changed the order first")
+    public ResponseEntity<?> updateOrderStatus(@PathVariable UUID restaurantId,
+                                               @PathVariable UUID orderId,
+                                               @Valid @RequestBody OrderStatusUpdateRequest request) {
+        try {
+            return ResponseEntity.ok(orderLifecycleService.transition(restaurantId, orderId, request.getStatus(),
+                request.getExpectedStatus(), request.getVersion()));
+
+        } catch (OrderStateConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", e.getMessage(),
+                             "currentStatus", e.getCurrentStatus(),
+                             "version", e.getCurrentVersion()));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Table-wide order status change endpoint
+     */
+    @PatchMapping("/tables/{tableNumber}/status")
+    @PreAuthorize("@restaurantAccess.canManage(#restaurantId)")
+    @Operation(summary = "Change order status for a table",
+               description = "Move every order at a table that can legally reach the given status; orders changed concurrently are reported as conflicted")
+    public ResponseEntity<?> updateTableOrderStatus(@PathVariable UUID restaurantId,
+                                                    @PathVariable String tableNumber,
+                                                    @RequestParam OrderStatus status) {
+        try {
+            return ResponseEntity.ok(orderLifecycleService.transitionTable(restaurantId, tableNumber, status));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Order event stream endpoint
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("@restaurantAccess.canManage(#restaurantId)")
+    @Operation(summary = "Order event stream",
+               description = "Server-Sent Events for new and changed orders; send Last-Event-ID to resume, reload the order list on a 'reset' event")
+    public Flux<ServerSentEvent<OrderUpdate>> streamOrders(@PathVariable UUID restaurantId,
+                                                           @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return orderStreamService.subscribe(restaurantId, lastEventId);
+    }
+
+    /**
+     * Order listing endpoint
+     */
+    @GetMapping
+    @PreAuthorize("@restaurantAccess.canManage(#restaurantId)")
+    @Operation(summary = "List orders",
+               description = "List orders newest first; pass cursor (empty for the first page) to use keyset pagination instead of page numbers")
+    public ResponseEntity<?> getOrders(@PathVariable UUID restaurantId,
+                                       @RequestParam(required = false) String cursor,
+                                       @RequestParam(defaultValue = "0") int page,
+                                       @RequestParam(defaultValue = "20") int size) {
+        try {
+            int pageSize = CursorPage.clampSize(size);
+
+            if (cursor != null) {
+                return ResponseEntity.ok(orderService.getOrdersByRestaurant(restaurantId, cursor, pageSize)
+                    .map(OrderSummaryResponse::new));
+            }
+
+            PageRequest pageRequest = PageRequest.of(Math.max(page, 0), pageSize, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+            return ResponseEntity.ok(orderService.getOrdersByRestaurant(restaurantId, pageRequest)
+                .map(OrderSummaryResponse::new));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Orders export endpoint
+     */
+    @GetMapping("/export")
+    @PreAuthorize("@restaurantAccess.canManage(#restaurantId)")
+    @Operation(summary = "Export orders",
+               description = "Download orders created in [from, to), oldest first, as CSV or NDJSON, optionally gzip-compressed; " +
+                             "rows are streamed, so any history size can be exported")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@PathVariable UUID restaurantId,
+                                                              @RequestParam(defaultValue = "CSV") Format format,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                              @RequestParam(defaultValue = "false") boolean gzip) {
+        LocalDateTime start = from != null ? from : ExportService.EARLIEST;
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        if (!start.isBefore(end)) {
+            return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> exportService.writeError("from must be before to", outputStream));
+        }
+
+        StreamingResponseBody body = outputStream -> exportService.writeOrders(restaurantId, start, end, format, gzip, outputStream);
+        String filename = "orders-" + restaurantId + "." + format.getExtension() + (gzip ? ".gz" : "");
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .body(body);
+    }
+}
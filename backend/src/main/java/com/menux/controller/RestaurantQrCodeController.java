@@ -0,0 +1,85 @@
+package com.menux.controller;
+
+import com.menux.dto.BulkQrCodeRequest;
+import com.menux.entity.Restaurant;
+import com.menux.exception.ResourceNotFoundException;
+import com.menux.service.QrCodeBulkRenderer;
+import com.menux.service.QrCodeService;
+import com.menux.service.QrCodeService.ProvisionedQrCode;
+import com.menux.service.RestaurantService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST Controller for restaurant owner QR code management
+ */
+@RestController
+@RequestMapping("/restaurant/{restaurantId}/qr-codes")
+@Tag(name = "Restaurant QR Codes", description = "QR code management for restaurant owners")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class RestaurantQrCodeController {
+
+    private final RestaurantService restaurantService;
+    private final QrCodeService qrCodeService;
+    private final QrCodeBulkRenderer qrCodeBulkRenderer;
+
+    @Autowired
+    public RestaurantQrCodeController(RestaurantService restaurantService,
+                                      QrCodeService qrCodeService,
+                                      QrCodeBulkRenderer qrCodeBulkRenderer) {
+        this.restaurantService = restaurantService;
+        this.qrCodeService = qrCodeService;
+        this.qrCodeBulkRenderer = qrCodeBulkRenderer;
+    }
+
+    /**
+     * Bulk table QR code provisioning endpoint
+     */
+    @PostMapping(value = "/bulk", produces = "application/zip")
+    @PreAuthorize("@restaurantAccess.canManage(#restaurantId)")
+    @Operation(summary = "Bulk provision table QR codes",
+               description = "Create QR codes for a range of tables and download them as a ZIP of PNG images")
+    public ResponseEntity<StreamingResponseBody> provisionTableQrCodes(@PathVariable UUID restaurantId,
+                                                   @Valid @RequestBody BulkQrCodeRequest request) {
+        try {
+            Restaurant restaurant = restaurantService.getRestaurantById(restaurantId);
+            List<ProvisionedQrCode> qrCodes = qrCodeService.provisionTableQrCodes(
+                restaurant,
+                request.getFromTable(),
+                request.getToTable(),
+                request.getTablePrefix(),
+                !Boolean.FALSE.equals(request.getSkipExisting())
+            );
+
+            StreamingResponseBody body = outputStream -> qrCodeBulkRenderer.writeZip(qrCodes, outputStream);
+            String filename = "qr-codes-" + request.getFromTable() + "-" + request.getToTable() + ".zip";
+
+            return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+
+        } catch (ResourceNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "QR code already exists", e);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.menux.controller;
+
+import com.menux.entity.RollupGranularity;
+import com.menux.service.SalesLedgerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * REST Controller for restaurant owner sales reports
+ */
+@RestController
+@RequestMapping("/restaurant/{restaurantId}/sales")
+@Tag(name = "Restaurant Sales", description = "Revenue reports over completed orders for restaurant owners")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class RestaurantSalesController {
+
+    private final SalesLedgerService salesLedgerService;
+
+    @Autowired
+    public RestaurantSalesController(SalesLedgerService salesLedgerService) {
+        this.salesLedgerService = salesLedgerService;
+    }
+
+    /**
+     * Sales report endpoint
+     */
+    @GetMapping
+    @PreAuthorize("@restaurantAccess.canManage(#restaurantId)")
+    @Operation(summary = "Sales report",
+               description = "Get completed orders, revenue and average order value as an hourly or daily series, with totals per menu item; " +
+                             "defaults to the last 24 hours or the last 30 days")
+    public ResponseEntity<?> getSalesReport(@PathVariable UUID restaurantId,
+                                            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            LocalDateTime end = to != null ? to : LocalDateTime.now();
+            LocalDateTime start = from != null ? from
+                    : granularity == RollupGranularity.HOUR ? end.minusHours(24) : end.minusDays(30);
+
+            return ResponseEntity.ok(salesLedgerService.getReport(restaurantId, granularity, start, end));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
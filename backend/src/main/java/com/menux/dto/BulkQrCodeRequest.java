@@ -0,0 +1,79 @@
+package com.menux.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for bulk table QR code provisioning request
+ */
+public class BulkQrCodeRequest {
+
+    @NotNull(message = "First table number is required")
+    @Min(value = 1, message = "First table number must be at least 1")
+    private Integer fromTable;
+
+    @NotNull(message = "Last table number is required")
+    @Min(value = 1, message = "Last table number must be at least 1")
+    private Integer toTable;
+
+    @Size(max = 10, message = "Table prefix must not exceed 10 characters")
+    @Pattern(regexp = "[A-Za-z0-9-]*", message = "Table prefix may only contain letters, digits and dashes")
+    private String tablePrefix;
+
+    private Boolean skipExisting = true;
+
+    // Constructors
+    public BulkQrCodeRequest() {
+    }
+
+    public BulkQrCodeRequest(Integer fromTable, Integer toTable, String tablePrefix) {
+        this.fromTable = fromTable;
+        this.toTable = toTable;
+        this.tablePrefix = tablePrefix;
+    }
+
+    // Getters and Setters
+    public Integer getFromTable() {
+        return fromTable;
+    }
+
+    public void setFromTable(Integer fromTable) {
+        this.fromTable = fromTable;
+    }
+
+    public Integer getToTable() {
+        return toTable;
+    }
+
+    public void setToTable(Integer toTable) {
+        this.toTable = toTable;
+    }
+
+    public String getTablePrefix() {
+        return tablePrefix;
+    }
+
+    public void setTablePrefix(String tablePrefix) {
+        this.tablePrefix = tablePrefix;
+    }
+
+    public Boolean getSkipExisting() {
+        return skipExisting;
+    }
+
+    public void setSkipExisting(Boolean skipExisting) {
+        this.skipExisting = skipExisting;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkQrCodeRequest{" +
+                "fromTable=" + fromTable +
+                ", toTable=" + toTable +
+                ", tablePrefix='" + tablePrefix + '\'' +
+                ", skipExisting=" + skipExisting +
+                '}';
+    }
+}
@@ -0,0 +1,112 @@
+package com.menux.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.UUID;
+
+/**
+ * DTO for customer feedback submission
+ */
+public class FeedbackRequest {
+
+    @NotNull(message = "Restaurant is required")
+    private UUID restaurantId;
+
+    private UUID orderId;
+
+    @Size(max = 100, message = "Customer name must not exceed 100 characters")
+    private String customerName;
+
+    @Email(message = "Email should be valid")
+    @Size(max = 255, message = "Customer email must not exceed 255 characters")
+    private String customerEmail;
+
+    @Min(value = 1, message = "Rating must be at least 1")
+    @Max(value = 5, message = "Rating must not exceed 5")
+    private Integer rating;
+
+    @Size(max = 2000, message = "Comment must not exceed 2000 characters")
+    private String comment;
+
+    private Boolean isAnonymous = false;
+
+    // Constructors
+    public FeedbackRequest() {
+    }
+
+    public FeedbackRequest(UUID restaurantId, Integer rating, String comment) {
+        this.restaurantId = restaurantId;
+        this.rating = rating;
+        this.comment = comment;
+    }
+
+    // Getters and Setters
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(UUID restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(UUID orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public void setCustomerEmail(String customerEmail) {
+        this.customerEmail = customerEmail;
+    }
+
+    public Integer getRating() {
+        return rating;
+    }
+
+    public void setRating(Integer rating) {
+        this.rating = rating;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+
+    public Boolean getIsAnonymous() {
+        return isAnonymous;
+    }
+
+    public void setIsAnonymous(Boolean isAnonymous) {
+        this.isAnonymous = isAnonymous;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackRequest{" +
+                "restaurantId=" + restaurantId +
+                ", orderId=" + orderId +
+                ", rating=" + rating +
+                '}';
+    }
+}
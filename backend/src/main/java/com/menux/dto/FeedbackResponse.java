@@ -0,0 +1,146 @@
+package com.menux.dto;
+
+import com.menux.entity.Feedback;
+import com.menux.entity.SentimentType;
+import com.menux.repository.projection.FeedbackListView;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for feedback in restaurant feedback listings
+ */
+public class FeedbackResponse {
+
+    private UUID id;
+    private UUID restaurantId;
+    private UUID orderId;
+    private String customerName;
+    private Integer rating;
+    private String comment;
+    private SentimentType sentiment;
+    private BigDecimal sentimentScore;
+    private Boolean isAnonymous;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public FeedbackResponse() {
+    }
+
+    public FeedbackResponse(Feedback feedback) {
+        this.id = feedback.getId();
+        this.restaurantId = feedback.getRestaurant().getId();
+        this.orderId = feedback.getOrder() != null ? feedback.getOrder().getId() : null;
+        this.isAnonymous = feedback.getIsAnonymous();
+        this.customerName = Boolean.TRUE.equals(feedback.getIsAnonymous()) ? null : feedback.getCustomerName();
+        this.rating = feedback.getRating();
+        this.comment = feedback.getComment();
+        this.sentiment = feedback.getSentiment();
+        this.sentimentScore = feedback.getSentimentScore();
+        this.createdAt = feedback.getCreatedAt();
+    }
+
+    public FeedbackResponse(FeedbackListView feedback) {
+        this.id = feedback.getId();
+        this.restaurantId = feedback.getRestaurantId();
+        this.orderId = feedback.getOrderId();
+        this.isAnonymous = feedback.getIsAnonymous();
+        this.customerName = Boolean.TRUE.equals(feedback.getIsAnonymous()) ? null : feedback.getCustomerName();
+        this.rating = feedback.getRating();
+        this.comment = feedback.getComment();
+        this.sentiment = feedback.getSentiment();
+        this.sentimentScore = feedback.getSentimentScore();
+        this.createdAt = feedback.getCreatedAt();
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(UUID restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(UUID orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
+    public Integer getRating() {
+        return rating;
+    }
+
+    public void setRating(Integer rating) {
+        this.rating = rating;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+
+    public SentimentType getSentiment() {
+        return sentiment;
+    }
+
+    public void setSentiment(SentimentType sentiment) {
+        this.sentiment = sentiment;
+    }
+
+    public BigDecimal getSentimentScore() {
+        return sentimentScore;
+    }
+
+    public void setSentimentScore(BigDecimal sentimentScore) {
+        this.sentimentScore = sentimentScore;
+    }
+
+    public Boolean getIsAnonymous() {
+        return isAnonymous;
+    }
+
+    public void setIsAnonymous(Boolean isAnonymous) {
+        this.isAnonymous = isAnonymous;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackResponse{" +
+                "id=" + id +
+                ", rating=" + rating +
+                ", sentiment=" + sentiment +
+                '}';
+    }
+}
@@ -0,0 +1,108 @@
+package com.menux.dto;
+
+import com.menux.entity.FeedbackSummary;
+import com.menux.entity.SentimentType;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO for the feedback summary of a restaurant
+ */
+public class FeedbackSummaryResponse {
+
+    private UUID restaurantId;
+    private long feedbackCount;
+    private long ratingCount;
+    private Double averageRating;
+    private Map<Integer, Long> ratingHistogram = new LinkedHashMap<>();
+    private Map<SentimentType, Long> sentimentCounts = new EnumMap<>(SentimentType.class);
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public FeedbackSummaryResponse() {
+    }
+
+    public FeedbackSummaryResponse(FeedbackSummary summary) {
+        this.restaurantId = summary.getRestaurantId();
+        this.feedbackCount = summary.getFeedbackCount();
+        this.ratingCount = summary.getRatingCount();
+        this.averageRating = summary.getAverageRating();
+        for (int rating = 1; rating <= 5; rating++) {
+            this.ratingHistogram.put(rating, summary.getRatingCount(rating));
+        }
+        for (SentimentType sentiment : SentimentType.values()) {
+            this.sentimentCounts.put(sentiment, summary.getSentimentCount(sentiment));
+        }
+        this.updatedAt = summary.getUpdatedAt();
+    }
+
+    // Getters and Setters
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(UUID restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public long getFeedbackCount() {
+        return feedbackCount;
+    }
+
+    public void setFeedbackCount(long feedbackCount) {
+        this.feedbackCount = feedbackCount;
+    }
+
+    public long getRatingCount() {
+        return ratingCount;
+    }
+
+    public void setRatingCount(long ratingCount) {
+        this.ratingCount = ratingCount;
+    }
+
+    public Double getAverageRating() {
+        return averageRating;
+    }
+
+    public void setAverageRating(Double averageRating) {
+        this.averageRating = averageRating;
+    }
+
+    public Map<Integer, Long> getRatingHistogram() {
+        return ratingHistogram;
+    }
+
+    public void setRatingHistogram(Map<Integer, Long> ratingHistogram) {
+        this.ratingHistogram = ratingHistogram;
+    }
+
+    public Map<SentimentType, Long> getSentimentCounts() {
+        return sentimentCounts;
+    }
+
+    public void setSentimentCounts(Map<SentimentType, Long> sentimentCounts) {
+        this.sentimentCounts = sentimentCounts;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackSummaryResponse{" +
+                "restaurantId=" + restaurantId +
+                ", feedbackCount=" + feedbackCount +
+                ", averageRating=" + averageRating +
+                '}';
+    }
+}
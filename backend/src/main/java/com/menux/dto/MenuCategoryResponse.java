@@ -0,0 +1,80 @@
+package com.menux.dto;
+
+import com.menux.entity.MenuCategory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for a menu category and its available items on the public menu
+ */
+public class MenuCategoryResponse {
+
+    private UUID id;
+    private String name;
+    private String description;
+    private Integer displayOrder;
+    private List<MenuItemResponse> items = new ArrayList<>();
+
+    // Constructors
+    public MenuCategoryResponse() {
+    }
+
+    public MenuCategoryResponse(MenuCategory category) {
+        this.id = category.getId();
+        this.name = category.getName();
+        this.description = category.getDescription();
+        this.displayOrder = category.getDisplayOrder();
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Integer getDisplayOrder() {
+        return displayOrder;
+    }
+
+    public void setDisplayOrder(Integer displayOrder) {
+        this.displayOrder = displayOrder;
+    }
+
+    public List<MenuItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<MenuItemResponse> items) {
+        this.items = items;
+    }
+
+    @Override
+    public String toString() {
+        return "MenuCategoryResponse{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", items=" + items.size() +
+                '}';
+    }
+}
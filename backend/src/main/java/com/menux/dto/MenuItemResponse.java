@@ -0,0 +1,152 @@
+package com.menux.dto;
+
+import com.menux.entity.MenuItem;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for a menu item on the public menu
+ */
+public class MenuItemResponse {
+
+    private UUID id;
+    private UUID categoryId;
+    private String name;
+    private String description;
+    private BigDecimal price;
+    private String imageUrl;
+    private Boolean isVegetarian;
+    private Boolean isVegan;
+    private Boolean isGlutenFree;
+    private List<String> allergens;
+    private Integer preparationTime;
+    private Integer displayOrder;
+
+    // Constructors
+    public MenuItemResponse() {
+    }
+
+    public MenuItemResponse(MenuItem item) {
+        this.id = item.getId();
+        this.categoryId = item.getCategory() != null ? item.getCategory().getId() : null;
+        this.name = item.getName();
+        this.description = item.getDescription();
+        this.price = item.getPrice();
+        this.imageUrl = item.getImageUrl();
+        this.isVegetarian = item.getIsVegetarian();
+        this.isVegan = item.getIsVegan();
+        this.isGlutenFree = item.getIsGlutenFree();
+        this.allergens = new ArrayList<>(item.getAllergens());
+        this.preparationTime = item.getPreparationTime();
+        this.displayOrder = item.getDisplayOrder();
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(UUID categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public Boolean getIsVegetarian() {
+        return isVegetarian;
+    }
+
+    public void setIsVegetarian(Boolean isVegetarian) {
+        this.isVegetarian = isVegetarian;
+    }
+
+    public Boolean getIsVegan() {
+        return isVegan;
+    }
+
+    public void setIsVegan(Boolean isVegan) {
+        this.isVegan = isVegan;
+    }
+
+    public Boolean getIsGlutenFree() {
+        return isGlutenFree;
+    }
+
+    public void setIsGlutenFree(Boolean isGlutenFree) {
+        this.isGlutenFree = isGlutenFree;
+    }
+
+    public List<String> getAllergens() {
+        return allergens;
+    }
+
+    public void setAllergens(List<String> allergens) {
+        this.allergens = allergens;
+    }
+
+    public Integer getPreparationTime() {
+        return preparationTime;
+    }
+
+    public void setPreparationTime(Integer preparationTime) {
+        this.preparationTime = preparationTime;
+    }
+
+    public Integer getDisplayOrder() {
+        return displayOrder;
+    }
+
+    public void setDisplayOrder(Integer displayOrder) {
+        this.displayOrder = displayOrder;
+    }
+
+    @Override
+    public String toString() {
+        return "MenuItemResponse{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", price=" + price +
+                '}';
+    }
+}
@@ -0,0 +1,99 @@
+package com.menux.dto;
+
+import com.menux.entity.Restaurant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for the public menu of a restaurant
+ */
+public class MenuResponse {
+
+    private UUID restaurantId;
+    private String name;
+    private String description;
+    private String address;
+    private String phone;
+    private List<MenuCategoryResponse> categories = new ArrayList<>();
+    private List<MenuItemResponse> uncategorizedItems = new ArrayList<>();
+
+    // Constructors
+    public MenuResponse() {
+    }
+
+    public MenuResponse(Restaurant restaurant) {
+        this.restaurantId = restaurant.getId();
+        this.name = restaurant.getName();
+        this.description = restaurant.getDescription();
+        this.address = restaurant.getAddress();
+        this.phone = restaurant.getPhone();
+    }
+
+    // Getters and Setters
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(UUID restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public List<MenuCategoryResponse> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(List<MenuCategoryResponse> categories) {
+        this.categories = categories;
+    }
+
+    public List<MenuItemResponse> getUncategorizedItems() {
+        return uncategorizedItems;
+    }
+
+    public void setUncategorizedItems(List<MenuItemResponse> uncategorizedItems) {
+        this.uncategorizedItems = uncategorizedItems;
+    }
+
+    @Override
+    public String toString() {
+        return "MenuResponse{" +
+                "restaurantId=" + restaurantId +
+                ", name='" + name + '\'' +
+                ", categories=" + categories.size() +
+                '}';
+    }
+}
@@ -0,0 +1,67 @@
+package com.menux.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.UUID;
+
+/**
+ * DTO for one line of a diner's cart
+ */
+public class OrderLineRequest {
+
+    @NotNull(message = "Menu item is required")
+    private UUID menuItemId;
+
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    @Max(value = 99, message = "Quantity must not exceed 99")
+    private Integer quantity;
+
+    @Size(max = 500, message = "Special instructions must not exceed 500 characters")
+    private String specialInstructions;
+
+    // Constructors
+    public OrderLineRequest() {
+    }
+
+    public OrderLineRequest(UUID menuItemId, Integer quantity) {
+        this.menuItemId = menuItemId;
+        this.quantity = quantity;
+    }
+
+    // Getters and Setters
+    public UUID getMenuItemId() {
+        return menuItemId;
+    }
+
+    public void setMenuItemId(UUID menuItemId) {
+        this.menuItemId = menuItemId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public String getSpecialInstructions() {
+        return specialInstructions;
+    }
+
+    public void setSpecialInstructions(String specialInstructions) {
+        this.specialInstructions = specialInstructions;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderLineRequest{" +
+                "menuItemId=" + menuItemId +
+                ", quantity=" + quantity +
+                '}';
+    }
+}
@@ -0,0 +1,161 @@
+package com.menux.dto;
+
+import com.menux.entity.Order;
+import com.menux.entity.OrderItem;
+import com.menux.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for the receipt returned to a diner after placing an order
+ */
+public class OrderReceiptResponse {
+
+    private UUID orderId;
+    private UUID restaurantId;
+    private String tableNumber;
+    private OrderStatus status;
+    private List<Line> lines = new ArrayList<>();
+    private BigDecimal totalAmount;
+    private long menuVersion;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public OrderReceiptResponse() {
+    }
+
+    public OrderReceiptResponse(Order order, UUID restaurantId, List<String> itemNames, long menuVersion) {
+        this.orderId = order.getId();
+        this.restaurantId = restaurantId;
+        this.tableNumber = order.getTableNumber();
+        this.status = order.getStatus();
+        this.totalAmount = order.getTotalAmount();
+        this.menuVersion = menuVersion;
+        this.createdAt = order.getCreatedAt();
+
+        List<OrderItem> items = order.getOrderItems();
+        for (int i = 0; i < items.size(); i++) {
+            this.lines.add(new Line(items.get(i), itemNames.get(i)));
+        }
+    }
+
+    // Getters and Setters
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(UUID orderId) {
+        this.orderId = orderId;
+    }
+
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(UUID restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public String getTableNumber() {
+        return tableNumber;
+    }
+
+    public void setTableNumber(String tableNumber) {
+        this.tableNumber = tableNumber;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<Line> lines) {
+        this.lines = lines;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public long getMenuVersion() {
+        return menuVersion;
+    }
+
+    public void setMenuVersion(long menuVersion) {
+        this.menuVersion = menuVersion;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderReceiptResponse{" +
+                "orderId=" + orderId +
+                ", totalAmount=" + totalAmount +
+                ", lines=" + lines.size() +
+                '}';
+    }
+
+    /**
+     * One priced line of the receipt
+     */
+    public static class Line {
+        private UUID menuItemId;
+        private String name;
+        private Integer quantity;
+        private BigDecimal unitPrice;
+        private BigDecimal lineTotal;
+
+        public Line() {
+        }
+
+        public Line(OrderItem item, String name) {
+            this.menuItemId = item.getMenuItem().getId();
+            this.name = name;
+            this.quantity = item.getQuantity();
+            this.unitPrice = item.getUnitPrice();
+            this.lineTotal = item.getTotalPrice();
+        }
+
+        public UUID getMenuItemId() {
+            return menuItemId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public BigDecimal getUnitPrice() {
+            return unitPrice;
+        }
+
+        public BigDecimal getLineTotal() {
+            return lineTotal;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.menux.dto;
+
+import com.menux.entity.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO for an order status change request
+ */
+public class OrderStatusUpdateRequest {
+
+    @NotNull(message = "Status is required")
+    private OrderStatus status;
+
+    private OrderStatus expectedStatus;
+
+    private Long version;
+
+    // Constructors
+    public OrderStatusUpdateRequest() {
+    }
+
+    public OrderStatusUpdateRequest(OrderStatus status, OrderStatus expectedStatus, Long version) {
+        this.status = status;
+        this.expectedStatus = expectedStatus;
+        this.version = version;
+    }
+
+    // Getters and Setters
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public OrderStatus getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public void setExpectedStatus(OrderStatus expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderStatusUpdateRequest{" +
+                "status=" + status +
+                ", expectedStatus=" + expectedStatus +
+                ", version=" + version +
+                '}';
+    }
+}
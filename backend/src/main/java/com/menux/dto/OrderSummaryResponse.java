@@ -0,0 +1,147 @@
+package com.menux.dto;
+
+import com.menux.entity.Order;
+import com.menux.entity.OrderStatus;
+import com.menux.repository.projection.OrderSummaryView;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for an order in restaurant order listings
+ */
+public class OrderSummaryResponse {
+
+    private UUID id;
+    private UUID restaurantId;
+    private String tableNumber;
+    private String customerName;
+    private String customerPhone;
+    private OrderStatus status;
+    private BigDecimal totalAmount;
+    private String specialInstructions;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public OrderSummaryResponse() {
+    }
+
+    public OrderSummaryResponse(Order order) {
+        this.id = order.getId();
+        this.restaurantId = order.getRestaurant().getId();
+        this.tableNumber = order.getTableNumber();
+        this.customerName = order.getCustomerName();
+        this.customerPhone = order.getCustomerPhone();
+        this.status = order.getStatus();
+        this.totalAmount = order.getTotalAmount();
+        this.specialInstructions = order.getSpecialInstructions();
+        this.createdAt = order.getCreatedAt();
+        this.updatedAt = order.getUpdatedAt();
+    }
+
+    public OrderSummaryResponse(OrderSummaryView order) {
+        this.id = order.getId();
+        this.restaurantId = order.getRestaurantId();
+        this.tableNumber = order.getTableNumber();
+        this.customerName = order.getCustomerName();
+        this.customerPhone = order.getCustomerPhone();
+        this.status = order.getStatus();
+        this.totalAmount = order.getTotalAmount();
+        this.specialInstructions = order.getSpecialInstructions();
+        this.createdAt = order.getCreatedAt();
+        this.updatedAt = order.getUpdatedAt();
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(UUID restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public String getTableNumber() {
+        return tableNumber;
+    }
+
+    public void setTableNumber(String tableNumber) {
+        this.tableNumber = tableNumber;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
+    public String getCustomerPhone() {
+        return customerPhone;
+    }
+
+    public void setCustomerPhone(String customerPhone) {
+        this.customerPhone = customerPhone;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public String getSpecialInstructions() {
+        return specialInstructions;
+    }
+
+    public void setSpecialInstructions(String specialInstructions) {
+        this.specialInstructions = specialInstructions;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderSummaryResponse{" +
+                "id=" + id +
+                ", tableNumber='" + tableNumber + '\'' +
+                ", status=" + status +
+                ", totalAmount=" + totalAmount +
+                '}';
+    }
+}
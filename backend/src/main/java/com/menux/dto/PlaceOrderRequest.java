@@ -0,0 +1,89 @@
+package com.menux.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for a diner's order placement request
+ */
+public class PlaceOrderRequest {
+
+    @Size(max = 20, message = "Table number must not exceed 20 characters")
+    private String tableNumber;
+
+    @Size(max = 100, message = "Customer name must not exceed 100 characters")
+    private String customerName;
+
+    @Size(max = 20, message = "Customer phone must not exceed 20 characters")
+    private String customerPhone;
+
+    @Size(max = 2000, message = "Special instructions must not exceed 2000 characters")
+    private String specialInstructions;
+
+    @NotEmpty(message = "Order must contain at least one item")
+    @Size(max = 50, message = "Order must not contain more than 50 lines")
+    @Valid
+    private List<OrderLineRequest> items = new ArrayList<>();
+
+    // Constructors
+    public PlaceOrderRequest() {
+    }
+
+    public PlaceOrderRequest(String tableNumber, List<OrderLineRequest> items) {
+        this.tableNumber = tableNumber;
+        this.items = items;
+    }
+
+    // Getters and Setters
+    public String getTableNumber() {
+        return tableNumber;
+    }
+
+    public void setTableNumber(String tableNumber) {
+        this.tableNumber = tableNumber;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
+    public String getCustomerPhone() {
+        return customerPhone;
+    }
+
+    public void setCustomerPhone(String customerPhone) {
+        this.customerPhone = customerPhone;
+    }
+
+    public String getSpecialInstructions() {
+        return specialInstructions;
+    }
+
+    public void setSpecialInstructions(String specialInstructions) {
+        this.specialInstructions = specialInstructions;
+    }
+
+    public List<OrderLineRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<OrderLineRequest> items) {
+        this.items = items;
+    }
+
+    @Override
+    public String toString() {
+        return "PlaceOrderRequest{" +
+                "tableNumber='" + tableNumber + '\'' +
+                ", items=" + items +
+                '}';
+    }
+}
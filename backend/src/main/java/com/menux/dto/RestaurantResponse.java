@@ -0,0 +1,141 @@
+package com.menux.dto;
+
+import com.menux.entity.Restaurant;
+import com.menux.entity.SubscriptionType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for a restaurant in admin listings
+ */
+public class RestaurantResponse {
+
+    private UUID id;
+    private UUID ownerId;
+    private String name;
+    private String description;
+    private String address;
+    private String phone;
+    private String email;
+    private SubscriptionType subscriptionType;
+    private Boolean isActive;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public RestaurantResponse() {
+    }
+
+    public RestaurantResponse(Restaurant restaurant) {
+        this.id = restaurant.getId();
+        this.ownerId = restaurant.getOwner().getId();
+        this.name = restaurant.getName();
+        this.description = restaurant.getDescription();
+        this.address = restaurant.getAddress();
+        this.phone = restaurant.getPhone();
+        this.email = restaurant.getEmail();
+        this.subscriptionType = restaurant.getSubscriptionType();
+        this.isActive = restaurant.getIsActive();
+        this.createdAt = restaurant.getCreatedAt();
+        this.updatedAt = restaurant.getUpdatedAt();
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(UUID ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public SubscriptionType getSubscriptionType() {
+        return subscriptionType;
+    }
+
+    public void setSubscriptionType(SubscriptionType subscriptionType) {
+        this.subscriptionType = subscriptionType;
+    }
+
+    public Boolean getIsActive() {
+        return isActive;
+    }
+
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "RestaurantResponse{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", subscriptionType=" + subscriptionType +
+                '}';
+    }
+}
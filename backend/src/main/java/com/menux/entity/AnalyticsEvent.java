@@ -0,0 +1,128 @@
+package com.menux.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing a raw analytics event
+ *
+ * Rows are written in batches by AnalyticsService over JDBC; the mapping defines the
+ * table for schema generation and read access.
+ */
+@Entity
+@Table(name = "analytics", indexes = {
+    @Index(name = "idx_analytics_restaurant_id", columnList = "restaurant_id"),
+    @Index(name = "idx_analytics_event_type", columnList = "event_type"),
+    @Index(name = "idx_analytics_created_at", columnList = "created_at")
+})
+public class AnalyticsEvent {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "restaurant_id")
+    private UUID restaurantId;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "event_data")
+    private String eventData;
+
+    @Column(name = "ip_address", length = 45)
+    private String ipAddress;
+
+    @Column(name = "user_agent", columnDefinition = "TEXT")
+    private String userAgent;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public AnalyticsEvent() {
+    }
+
+    public AnalyticsEvent(UUID id, UUID restaurantId, AnalyticsEventType eventType, String eventData,
+                          String ipAddress, String userAgent, LocalDateTime createdAt) {
+        this.id = id;
+        this.restaurantId = restaurantId;
+        this.eventType = eventType.getCode();
+        this.eventData = eventData;
+        this.ipAddress = ipAddress;
+        this.userAgent = userAgent;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(UUID restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getEventData() {
+        return eventData;
+    }
+
+    public void setEventData(String eventData) {
+        this.eventData = eventData;
+    }
+
+    public String getIpAddress() {
+        return ipAddress;
+    }
+
+    public void setIpAddress(String ipAddress) {
+        this.ipAddress = ipAddress;
+    }
+
+    public String getUserAgent() {
+        return userAgent;
+    }
+
+    public void setUserAgent(String userAgent) {
+        this.userAgent = userAgent;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "AnalyticsEvent{" +
+                "id=" + id +
+                ", restaurantId=" + restaurantId +
+                ", eventType='" + eventType + '\'' +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
@@ -0,0 +1,48 @@
+package com.menux.entity;
+
+/**
+ * Enum representing the kinds of analytics events recorded by the system
+ */
+public enum AnalyticsEventType {
+    /**
+     * A diner loaded a restaurant's public menu
+     */
+    MENU_VIEW("menu_view"),
+
+    /**
+     * A diner scanned a table QR code
+     */
+    QR_SCAN("qr_scan"),
+
+    /**
+     * A diner placed an order
+     */
+    ORDER_PLACED("order_placed"),
+
+    /**
+     * A diner submitted feedback
+     */
+    FEEDBACK_SUBMITTED("feedback_submitted");
+
+    private final String code;
+
+    AnalyticsEventType(String code) {
+        this.code = code;
+    }
+
+    /**
+     * Value stored in the analytics.event_type column
+     */
+    public String getCode() {
+        return code;
+    }
+
+    public static AnalyticsEventType fromCode(String code) {
+        for (AnalyticsEventType type : values()) {
+            if (type.code.equals(code)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown analytics event type: " + code);
+    }
+}
@@ -0,0 +1,91 @@
+package com.menux.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity holding the number of analytics events of one type for a restaurant in one time bucket
+ */
+@Entity
+@Table(name = "analytics_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_analytics_rollups_bucket",
+                      columnNames = {"restaurant_id", "event_type", "granularity", "bucket_start"})
+})
+public class AnalyticsRollup {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private UUID restaurantId;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    // Constructors
+    public AnalyticsRollup() {
+    }
+
+    public AnalyticsRollup(UUID restaurantId, String eventType, RollupGranularity granularity,
+                           LocalDateTime bucketStart, long eventCount) {
+        this.id = UUID.randomUUID();
+        this.restaurantId = restaurantId;
+        this.eventType = eventType;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.eventCount = eventCount;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public RollupGranularity getGranularity() {
+        return granularity;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    public void setEventCount(long eventCount) {
+        this.eventCount = eventCount;
+    }
+
+    @Override
+    public String toString() {
+        return "AnalyticsRollup{" +
+                "restaurantId=" + restaurantId +
+                ", eventType='" + eventType + '\'' +
+                ", granularity=" + granularity +
+                ", bucketStart=" + bucketStart +
+                ", eventCount=" + eventCount +
+                '}';
+    }
+}
@@ -0,0 +1,56 @@
+package com.menux.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity recording how far raw analytics events have been folded into rollups
+ *
+ * Events created before processedUpTo are counted in the rollups; later ones are not yet.
+ */
+@Entity
+@Table(name = "analytics_rollup_watermarks")
+public class AnalyticsRollupWatermark {
+
+    @Id
+    @Column(name = "name", length = 50, updatable = false, nullable = false)
+    private String name;
+
+    @Column(name = "processed_up_to", nullable = false)
+    private LocalDateTime processedUpTo;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public AnalyticsRollupWatermark() {
+    }
+
+    public AnalyticsRollupWatermark(String name, LocalDateTime processedUpTo) {
+        this.name = name;
+        this.processedUpTo = processedUpTo;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public LocalDateTime getProcessedUpTo() {
+        return processedUpTo;
+    }
+
+    public void setProcessedUpTo(LocalDateTime processedUpTo) {
+        this.processedUpTo = processedUpTo;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
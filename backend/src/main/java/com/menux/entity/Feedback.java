@@ -14,7 +14,8 @@ import java.math.BigDecimal;
 @Table(name = "feedback", indexes = {
     @Index(name = "idx_feedback_restaurant_id", columnList = "restaurant_id"),
     @Index(name = "idx_feedback_rating", columnList = "rating"),
-    @Index(name = "idx_feedback_sentiment", columnList = "sentiment")
+    @Index(name = "idx_feedback_sentiment", columnList = "sentiment"),
+    @Index(name = "idx_feedback_restaurant_created_at", columnList = "restaurant_id, created_at, id")
 })
 public class Feedback extends BaseEntity {
 
@@ -0,0 +1,210 @@
+package com.menux.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity holding the maintained feedback aggregates of one restaurant
+ */
+@Entity
+@Table(name = "feedback_summaries")
+public class FeedbackSummary {
+
+    @Id
+    @Column(name = "restaurant_id", updatable = false, nullable = false)
+    private UUID restaurantId;
+
+    @Column(name = "feedback_count", nullable = false)
+    private long feedbackCount;
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_1_count", nullable = false)
+    private long rating1Count;
+
+    @Column(name = "rating_2_count", nullable = false)
+    private long rating2Count;
+
+    @Column(name = "rating_3_count", nullable = false)
+    private long rating3Count;
+
+    @Column(name = "rating_4_count", nullable = false)
+    private long rating4Count;
+
+    @Column(name = "rating_5_count", nullable = false)
+    private long rating5Count;
+
+    @Column(name = "positive_count", nullable = false)
+    private long positiveCount;
+
+    @Column(name = "neutral_count", nullable = false)
+    private long neutralCount;
+
+    @Column(name = "negative_count", nullable = false)
+    private long negativeCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public FeedbackSummary() {
+    }
+
+    public FeedbackSummary(UUID restaurantId) {
+        this.restaurantId = restaurantId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Average rating over rated feedback, or null when nothing has been rated
+     */
+    public Double getAverageRating() {
+        return ratingCount == 0 ? null : (double) ratingSum / ratingCount;
+    }
+
+    /**
+     * Number of feedback entries with the given rating (1-5)
+     */
+    public long getRatingCount(int rating) {
+        return switch (rating) {
+            case 1 -> rating1Count;
+            case 2 -> rating2Count;
+            case 3 -> rating3Count;
+            case 4 -> rating4Count;
+            case 5 -> rating5Count;
+            default -> throw new IllegalArgumentException("Rating must be between 1 and 5");
+        };
+    }
+
+    /**
+     * Number of feedback entries with the given sentiment
+     */
+    public long getSentimentCount(SentimentType sentiment) {
+        return switch (sentiment) {
+            case POSITIVE -> positiveCount;
+            case NEUTRAL -> neutralCount;
+            case NEGATIVE -> negativeCount;
+        };
+    }
+
+    // Getters and Setters
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(UUID restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public long getFeedbackCount() {
+        return feedbackCount;
+    }
+
+    public void setFeedbackCount(long feedbackCount) {
+        this.feedbackCount = feedbackCount;
+    }
+
+    public long getRatingCount() {
+        return ratingCount;
+    }
+
+    public void setRatingCount(long ratingCount) {
+        this.ratingCount = ratingCount;
+    }
+
+    public long getRatingSum() {
+        return ratingSum;
+    }
+
+    public void setRatingSum(long ratingSum) {
+        this.ratingSum = ratingSum;
+    }
+
+    public long getRating1Count() {
+        return rating1Count;
+    }
+
+    public void setRating1Count(long rating1Count) {
+        this.rating1Count = rating1Count;
+    }
+
+    public long getRating2Count() {
+        return rating2Count;
+    }
+
+    public void setRating2Count(long rating2Count) {
+        this.rating2Count = rating2Count;
+    }
+
+    public long getRating3Count() {
+        return rating3Count;
+    }
+
+    public void setRating3Count(long rating3Count) {
+        this.rating3Count = rating3Count;
+    }
+
+    public long getRating4Count() {
+        return rating4Count;
+    }
+
+    public void setRating4Count(long rating4Count) {
+        this.rating4Count = rating4Count;
+    }
+
+    public long getRating5Count() {
+        return rating5Count;
+    }
+
+    public void setRating5Count(long rating5Count) {
+        this.rating5Count = rating5Count;
+    }
+
+    public long getPositiveCount() {
+        return positiveCount;
+    }
+
+    public void setPositiveCount(long positiveCount) {
+        this.positiveCount = positiveCount;
+    }
+
+    public long getNeutralCount() {
+        return neutralCount;
+    }
+
+    public void setNeutralCount(long neutralCount) {
+        this.neutralCount = neutralCount;
+    }
+
+    public long getNegativeCount() {
+        return negativeCount;
+    }
+
+    public void setNegativeCount(long negativeCount) {
+        this.negativeCount = negativeCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackSummary{" +
+                "restaurantId=" + restaurantId +
+                ", feedbackCount=" + feedbackCount +
+                ", ratingCount=" + ratingCount +
+                ", ratingSum=" + ratingSum +
+                '}';
+    }
+}
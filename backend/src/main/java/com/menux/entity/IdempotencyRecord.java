@@ -0,0 +1,77 @@
+package com.menux.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity recording the outcome of a request submitted with an Idempotency-Key
+ *
+ * A row without a status code is claimed by an execution still in progress, identified by
+ * its claim token.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "key_hash", length = 64, updatable = false, nullable = false)
+    private String keyHash;
+
+    @Column(name = "request_hash", length = 64, nullable = false)
+    private String requestHash;
+
+    @Column(name = "claim_token", length = 36, nullable = false)
+    private String claimToken;
+
+    @Column(name = "status_code")
+    private Integer statusCode;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Constructors
+    public IdempotencyRecord() {
+    }
+
+    // Getters
+    public String getKeyHash() {
+        return keyHash;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public String getClaimToken() {
+        return claimToken;
+    }
+
+    public Integer getStatusCode() {
+        return statusCode;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isCompleted() {
+        return statusCode != null;
+    }
+}
@@ -0,0 +1,102 @@
+package com.menux.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity holding the completed sales of one menu item of a restaurant in one hour
+ */
+@Entity
+@Table(name = "item_sales_hours", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_item_sales_hours_bucket", columnNames = {"restaurant_id", "bucket_start", "menu_item_id"})
+})
+public class ItemSalesHour {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private UUID restaurantId;
+
+    @Column(name = "menu_item_id", nullable = false)
+    private UUID menuItemId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "quantity", nullable = false)
+    private long quantity;
+
+    @Column(name = "line_count", nullable = false)
+    private long lineCount;
+
+    @Column(name = "revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    // Constructors
+    public ItemSalesHour() {
+    }
+
+    public ItemSalesHour(UUID restaurantId, UUID menuItemId, LocalDateTime bucketStart) {
+        this.id = UUID.randomUUID();
+        this.restaurantId = restaurantId;
+        this.menuItemId = menuItemId;
+        this.bucketStart = bucketStart;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public UUID getMenuItemId() {
+        return menuItemId;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(long quantity) {
+        this.quantity = quantity;
+    }
+
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    public void setLineCount(long lineCount) {
+        this.lineCount = lineCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    @Override
+    public String toString() {
+        return "ItemSalesHour{" +
+                "restaurantId=" + restaurantId +
+                ", menuItemId=" + menuItemId +
+                ", bucketStart=" + bucketStart +
+                ", quantity=" + quantity +
+                ", revenue=" + revenue +
+                '}';
+    }
+}
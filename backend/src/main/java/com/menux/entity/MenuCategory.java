@@ -1,5 +1,6 @@
 package com.menux.entity;
 
+import com.menux.event.MenuEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -11,6 +12,7 @@ import java.util.List;
  * Entity representing a menu category in a restaurant
  */
 @Entity
+@EntityListeners(MenuEntityListener.class)
 @Table(name = "menu_categories")
 public class MenuCategory extends BaseEntity {
 
@@ -1,5 +1,6 @@
 package com.menux.entity;
 
+import com.menux.event.MenuEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
@@ -14,6 +15,7 @@ import java.util.List;
  * Entity representing a menu item in a restaurant
  */
 @Entity
+@EntityListeners(MenuEntityListener.class)
 @Table(name = "menu_items", indexes = {
     @Index(name = "idx_menu_items_restaurant_id", columnList = "restaurant_id"),
     @Index(name = "idx_menu_items_category_id", columnList = "category_id")
@@ -1,9 +1,11 @@
 package com.menux.entity;
 
+import com.menux.event.OrderEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -16,8 +18,11 @@ import java.util.List;
 @Table(name = "orders", indexes = {
     @Index(name = "idx_orders_restaurant_id", columnList = "restaurant_id"),
     @Index(name = "idx_orders_status", columnList = "status"),
-    @Index(name = "idx_orders_created_at", columnList = "created_at")
+    @Index(name = "idx_orders_created_at", columnList = "created_at"),
+    @Index(name = "idx_orders_restaurant_created_at", columnList = "restaurant_id, created_at, id"),
+    @Index(name = "idx_orders_restaurant_table", columnList = "restaurant_id, table_number, status")
 })
+@EntityListeners(OrderEntityListener.class)
 public class Order extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -48,6 +53,11 @@ public class Order extends BaseEntity {
     @Column(name = "special_instructions", columnDefinition = "TEXT")
     private String specialInstructions;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // Relationships
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<OrderItem> orderItems = new ArrayList<>();
@@ -121,6 +131,10 @@ public class Order extends BaseEntity {
         this.specialInstructions = specialInstructions;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public List<OrderItem> getOrderItems() {
         return orderItems;
     }
@@ -12,7 +12,8 @@ import java.math.BigDecimal;
  */
 @Entity
 @Table(name = "order_items", indexes = {
-    @Index(name = "idx_order_items_order_id", columnList = "order_id")
+    @Index(name = "idx_order_items_order_id", columnList = "order_id"),
+    @Index(name = "idx_order_items_menu_item_id", columnList = "menu_item_id")
 })
 public class OrderItem extends BaseEntity {
 
@@ -1,5 +1,8 @@
 package com.menux.entity;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Enum representing different order statuses in the system
  */
@@ -44,6 +47,35 @@ public enum OrderStatus {
         return displayName;
     }
 
+    /**
+     * Whether an order in this status may move to the given status
+     *
+     * Orders advance PENDING, CONFIRMED, PREPARING, READY, COMPLETED; they may be cancelled
+     * until preparation starts.
+     */
+    public boolean canTransitionTo(OrderStatus next) {
+        return switch (this) {
+            case PENDING -> next == CONFIRMED || next == CANCELLED;
+            case CONFIRMED -> next == PREPARING || next == CANCELLED;
+            case PREPARING -> next == READY;
+            case READY -> next == COMPLETED;
+            case COMPLETED, CANCELLED -> false;
+        };
+    }
+
+    /**
+     * Statuses from which an order may move to the given status
+     */
+    public static Set<OrderStatus> predecessorsOf(OrderStatus target) {
+        Set<OrderStatus> predecessors = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus status : values()) {
+            if (status.canTransitionTo(target)) {
+                predecessors.add(status);
+            }
+        }
+        return predecessors;
+    }
+
     @Override
     public String toString() {
         return displayName;
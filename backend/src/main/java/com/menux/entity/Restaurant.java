@@ -14,7 +14,8 @@ import java.util.List;
 @Entity
 @Table(name = "restaurants", indexes = {
     @Index(name = "idx_restaurants_owner_id", columnList = "owner_id"),
-    @Index(name = "idx_restaurants_subscription", columnList = "subscription_type")
+    @Index(name = "idx_restaurants_subscription", columnList = "subscription_type"),
+    @Index(name = "idx_restaurants_created_at", columnList = "created_at, id")
 })
 public class Restaurant extends BaseEntity {
 
@@ -0,0 +1,82 @@
+package com.menux.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity holding the completed orders and revenue of a restaurant in one hour
+ */
+@Entity
+@Table(name = "sales_hours", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_sales_hours_bucket", columnNames = {"restaurant_id", "bucket_start"})
+})
+public class SalesHour {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private UUID restaurantId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    // Constructors
+    public SalesHour() {
+    }
+
+    public SalesHour(UUID restaurantId, LocalDateTime bucketStart) {
+        this.id = UUID.randomUUID();
+        this.restaurantId = restaurantId;
+        this.bucketStart = bucketStart;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    @Override
+    public String toString() {
+        return "SalesHour{" +
+                "restaurantId=" + restaurantId +
+                ", bucketStart=" + bucketStart +
+                ", orderCount=" + orderCount +
+                ", revenue=" + revenue +
+                '}';
+    }
+}
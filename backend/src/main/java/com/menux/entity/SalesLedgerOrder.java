@@ -0,0 +1,59 @@
+package com.menux.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity marking an order as recorded in the sales ledger, and in which hour
+ *
+ * The marker keeps recording idempotent and lets a reversal subtract from the same buckets.
+ */
+@Entity
+@Table(name = "sales_ledger_orders", indexes = {
+    @Index(name = "idx_sales_ledger_orders_restaurant_id", columnList = "restaurant_id")
+})
+public class SalesLedgerOrder {
+
+    @Id
+    @Column(name = "order_id", updatable = false, nullable = false)
+    private UUID orderId;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private UUID restaurantId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    // Constructors
+    public SalesLedgerOrder() {
+    }
+
+    public SalesLedgerOrder(UUID orderId, UUID restaurantId, LocalDateTime bucketStart) {
+        this.orderId = orderId;
+        this.restaurantId = restaurantId;
+        this.bucketStart = bucketStart;
+        this.recordedAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+}
@@ -16,7 +16,9 @@ import java.util.List;
 @Entity
 @Table(name = "users", indexes = {
     @Index(name = "idx_users_email", columnList = "email"),
-    @Index(name = "idx_users_role", columnList = "role")
+    @Index(name = "idx_users_role", columnList = "role"),
+    @Index(name = "idx_users_created_at", columnList = "created_at, id"),
+    @Index(name = "idx_users_role_created_at", columnList = "role, created_at, id")
 })
 public class User extends BaseEntity {
 
@@ -0,0 +1,64 @@
+package com.menux.event;
+
+import java.util.UUID;
+
+/**
+ * Application event published when a menu item or menu category is written
+ */
+public class MenuChangedEvent {
+
+    /**
+     * Kind of menu entity that changed
+     */
+    public enum EntityType {
+        ITEM,
+        CATEGORY
+    }
+
+    /**
+     * Kind of change applied to the entity
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final UUID restaurantId;
+    private final EntityType entityType;
+    private final UUID entityId;
+    private final ChangeType changeType;
+
+    public MenuChangedEvent(UUID restaurantId, EntityType entityType, UUID entityId, ChangeType changeType) {
+        this.restaurantId = restaurantId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.changeType = changeType;
+    }
+
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public UUID getEntityId() {
+        return entityId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    @Override
+    public String toString() {
+        return "MenuChangedEvent{" +
+                "restaurantId=" + restaurantId +
+                ", entityType=" + entityType +
+                ", entityId=" + entityId +
+                ", changeType=" + changeType +
+                '}';
+    }
+}
@@ -0,0 +1,59 @@
+package com.menux.event;
+
+import com.menux.entity.MenuCategory;
+import com.menux.entity.MenuItem;
+import com.menux.entity.Restaurant;
+import com.menux.event.MenuChangedEvent.ChangeType;
+import com.menux.event.MenuChangedEvent.EntityType;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * JPA entity listener that publishes a MenuChangedEvent for every menu item or category write
+ */
+@Component
+public class MenuEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public MenuEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        publish(entity, ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        publish(entity, ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        publish(entity, ChangeType.DELETED);
+    }
+
+    private void publish(Object entity, ChangeType changeType) {
+        if (entity instanceof MenuItem item) {
+            publish(item.getRestaurant(), EntityType.ITEM, item.getId(), changeType);
+        } else if (entity instanceof MenuCategory category) {
+            publish(category.getRestaurant(), EntityType.CATEGORY, category.getId(), changeType);
+        }
+    }
+
+    private void publish(Restaurant restaurant, EntityType entityType, UUID entityId, ChangeType changeType) {
+        if (restaurant == null) {
+            return;
+        }
+        eventPublisher.publishEvent(new MenuChangedEvent(restaurant.getId(), entityType, entityId, changeType));
+    }
+}
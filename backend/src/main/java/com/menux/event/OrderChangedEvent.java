@@ -0,0 +1,71 @@
+package com.menux.event;
+
+import com.menux.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Application event published when an order is placed or changed
+ */
+public class OrderChangedEvent {
+
+    /**
+     * Kind of change applied to the order
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED
+    }
+
+    private final UUID restaurantId;
+    private final UUID orderId;
+    private final ChangeType changeType;
+    private final OrderStatus status;
+    private final String tableNumber;
+    private final BigDecimal totalAmount;
+
+    public OrderChangedEvent(UUID restaurantId, UUID orderId, ChangeType changeType,
+                             OrderStatus status, String tableNumber, BigDecimal totalAmount) {
+        this.restaurantId = restaurantId;
+        this.orderId = orderId;
+        this.changeType = changeType;
+        this.status = status;
+        this.tableNumber = tableNumber;
+        this.totalAmount = totalAmount;
+    }
+
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public String getTableNumber() {
+        return tableNumber;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderChangedEvent{" +
+                "restaurantId=" + restaurantId +
+                ", orderId=" + orderId +
+                ", changeType=" + changeType +
+                ", status=" + status +
+                '}';
+    }
+}
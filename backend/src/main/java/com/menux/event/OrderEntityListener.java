@@ -0,0 +1,41 @@
+package com.menux.event;
+
+import com.menux.entity.Order;
+import com.menux.event.OrderChangedEvent.ChangeType;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that publishes an OrderChangedEvent for every order insert or update
+ */
+@Component
+public class OrderEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public OrderEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onPersist(Order order) {
+        publish(order, ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdate(Order order) {
+        publish(order, ChangeType.UPDATED);
+    }
+
+    private void publish(Order order, ChangeType changeType) {
+        if (order.getRestaurant() == null) {
+            return;
+        }
+        eventPublisher.publishEvent(new OrderChangedEvent(order.getRestaurant().getId(), order.getId(), changeType,
+                order.getStatus(), order.getTableNumber(), order.getTotalAmount()));
+    }
+}
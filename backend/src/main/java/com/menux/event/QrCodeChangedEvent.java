@@ -0,0 +1,43 @@
+package com.menux.event;
+
+import java.util.UUID;
+
+/**
+ * Application event published when a QR code is updated, toggled or deleted
+ */
+public class QrCodeChangedEvent {
+
+    private final UUID qrCodeId;
+    private final UUID restaurantId;
+    private final String code;
+
+    public QrCodeChangedEvent(UUID qrCodeId, UUID restaurantId, String code) {
+        this.qrCodeId = qrCodeId;
+        this.restaurantId = restaurantId;
+        this.code = code;
+    }
+
+    public UUID getQrCodeId() {
+        return qrCodeId;
+    }
+
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Code string the QR code had before the change
+     */
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String toString() {
+        return "QrCodeChangedEvent{" +
+                "qrCodeId=" + qrCodeId +
+                ", restaurantId=" + restaurantId +
+                ", code='" + code + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,42 @@
+package com.menux.event;
+
+import java.util.UUID;
+
+/**
+ * Application event published when a restaurant is created, updated or deleted
+ */
+public class RestaurantChangedEvent {
+
+    /**
+     * Kind of change applied to the restaurant
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final UUID restaurantId;
+    private final ChangeType changeType;
+
+    public RestaurantChangedEvent(UUID restaurantId, ChangeType changeType) {
+        this.restaurantId = restaurantId;
+        this.changeType = changeType;
+    }
+
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    @Override
+    public String toString() {
+        return "RestaurantChangedEvent{" +
+                "restaurantId=" + restaurantId +
+                ", changeType=" + changeType +
+                '}';
+    }
+}
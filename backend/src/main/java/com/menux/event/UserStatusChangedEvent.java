@@ -0,0 +1,26 @@
+package com.menux.event;
+
+import java.util.UUID;
+
+/**
+ * Application event published when a user is activated, deactivated or deleted
+ */
+public class UserStatusChangedEvent {
+
+    private final UUID userId;
+
+    public UserStatusChangedEvent(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String toString() {
+        return "UserStatusChangedEvent{" +
+                "userId=" + userId +
+                '}';
+    }
+}
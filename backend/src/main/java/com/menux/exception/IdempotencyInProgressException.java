@@ -0,0 +1,11 @@
+package com.menux.exception;
+
+/**
+ * Exception thrown when a request with the same idempotency key is still being processed
+ */
+public class IdempotencyInProgressException extends RuntimeException {
+
+    public IdempotencyInProgressException(String message) {
+        super(message);
+    }
+}
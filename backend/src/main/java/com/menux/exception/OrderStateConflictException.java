@@ -0,0 +1,35 @@
+package com.menux.exception;
+
+import com.menux.entity.OrderStatus;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when an order status transition does not apply to the order's current state
+ */
+public class OrderStateConflictException extends RuntimeException {
+
+    private final UUID orderId;
+    private final OrderStatus currentStatus;
+    private final Long currentVersion;
+
+    public OrderStateConflictException(UUID orderId, OrderStatus currentStatus, Long currentVersion, OrderStatus targetStatus) {
+        super("Order " + orderId + " is " + currentStatus.name() + " at version " + currentVersion
+                + " and cannot move to " + targetStatus.name());
+        this.orderId = orderId;
+        this.currentStatus = currentStatus;
+        this.currentVersion = currentVersion;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public OrderStatus getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -0,0 +1,53 @@
+package com.menux.repository;
+
+import com.menux.entity.AnalyticsRollup;
+import com.menux.entity.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for AnalyticsRollup entity operations
+ */
+@Repository
+public interface AnalyticsRollupRepository extends JpaRepository<AnalyticsRollup, UUID> {
+
+    /**
+     * Add to the count of an existing bucket, returning the number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE AnalyticsRollup r SET r.eventCount = r.eventCount + :delta " +
+           "WHERE r.restaurantId = :restaurantId AND r.eventType = :eventType " +
+           "AND r.granularity = :granularity AND r.bucketStart = :bucketStart")
+    int addToBucket(@Param("restaurantId") UUID restaurantId,
+                    @Param("eventType") String eventType,
+                    @Param("granularity") RollupGranularity granularity,
+                    @Param("bucketStart") LocalDateTime bucketStart,
+                    @Param("delta") long delta);
+
+    /**
+     * Find the buckets of a restaurant and event type in [from, to), oldest first
+     */
+    @Query("SELECT r FROM AnalyticsRollup r " +
+           "WHERE r.restaurantId = :restaurantId AND r.eventType = :eventType AND r.granularity = :granularity " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+           "ORDER BY r.bucketStart")
+    List<AnalyticsRollup> findSeries(@Param("restaurantId") UUID restaurantId,
+                                     @Param("eventType") String eventType,
+                                     @Param("granularity") RollupGranularity granularity,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+
+    /**
+     * Delete all buckets of a restaurant
+     */
+    @Modifying
+    @Query("DELETE FROM AnalyticsRollup r WHERE r.restaurantId = :restaurantId")
+    int deleteByRestaurantId(@Param("restaurantId") UUID restaurantId);
+}
@@ -0,0 +1,37 @@
+package com.menux.repository;
+
+import com.menux.entity.AnalyticsRollupWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for AnalyticsRollupWatermark entity operations
+ */
+@Repository
+public interface AnalyticsRollupWatermarkRepository extends JpaRepository<AnalyticsRollupWatermark, String> {
+
+    /**
+     * Find a watermark and lock it for update
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM AnalyticsRollupWatermark w WHERE w.name = :name")
+    Optional<AnalyticsRollupWatermark> findByIdForUpdate(@Param("name") String name);
+
+    /**
+     * Create a watermark unless one exists, in the caller's transaction
+     */
+    @Modifying
+    @Query(value = "INSERT INTO analytics_rollup_watermarks (name, processed_up_to, updated_at) " +
+                   "VALUES (:name, :processedUpTo, :updatedAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name,
+                       @Param("processedUpTo") LocalDateTime processedUpTo,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -3,16 +3,24 @@ package com.menux.repository;
 import com.menux.entity.Feedback;
 import com.menux.entity.Restaurant;
 import com.menux.entity.SentimentType;
+import com.menux.repository.projection.FeedbackCountsView;
+import com.menux.repository.projection.FeedbackListView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Feedback entity operations
@@ -83,6 +91,63 @@ public interface FeedbackRepository extends JpaRepository<Feedback, UUID> {
     @Query("SELECT f FROM Feedback f WHERE f.restaurant = :restaurant ORDER BY f.createdAt DESC")
     Page<Feedback> findRecentFeedbackByRestaurant(@Param("restaurant") Restaurant restaurant, Pageable pageable);
 
+    /**
+     * Find recent feedback by restaurant ID with pagination
+     */
+    @Query("SELECT f FROM Feedback f WHERE f.restaurant.id = :restaurantId ORDER BY f.createdAt DESC")
+    Page<Feedback> findRecentFeedbackByRestaurantId(@Param("restaurantId") UUID restaurantId, Pageable pageable);
+
+    /**
+     * Find recent feedback entries by restaurant ID with pagination
+     */
+    @Query(value = "SELECT f.id AS id, f.restaurant.id AS restaurantId, f.order.id AS orderId, f.isAnonymous AS isAnonymous, " +
+           "f.customerName AS customerName, f.rating AS rating, f.comment AS comment, f.sentiment AS sentiment, " +
+           "f.sentimentScore AS sentimentScore, f.createdAt AS createdAt " +
+           "FROM Feedback f WHERE f.restaurant.id = :restaurantId",
+           countQuery = "SELECT COUNT(f) FROM Feedback f WHERE f.restaurant.id = :restaurantId")
+    Page<FeedbackListView> findRecentViewsByRestaurantId(@Param("restaurantId") UUID restaurantId, Pageable pageable);
+
+    /**
+     * Find recent feedback entries by restaurant ID, first keyset page (newest first)
+     */
+    @Query("SELECT f.id AS id, f.restaurant.id AS restaurantId, f.order.id AS orderId, f.isAnonymous AS isAnonymous, " +
+           "f.customerName AS customerName, f.rating AS rating, f.comment AS comment, f.sentiment AS sentiment, " +
+           "f.sentimentScore AS sentimentScore, f.createdAt AS createdAt " +
+           "FROM Feedback f WHERE f.restaurant.id = :restaurantId ORDER BY f.createdAt DESC, f.id DESC")
+    List<FeedbackListView> findRecentViewsByRestaurantIdFirstPage(@Param("restaurantId") UUID restaurantId, Limit limit);
+
+    /**
+     * Find recent feedback entries by restaurant ID, keyset page after the given (createdAt, id) position
+     */
+    @Query("SELECT f.id AS id, f.restaurant.id AS restaurantId, f.order.id AS orderId, f.isAnonymous AS isAnonymous, " +
+           "f.customerName AS customerName, f.rating AS rating, f.comment AS comment, f.sentiment AS sentiment, " +
+           "f.sentimentScore AS sentimentScore, f.createdAt AS createdAt " +
+           "FROM Feedback f WHERE f.restaurant.id = :restaurantId AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FeedbackListView> findRecentViewsByRestaurantIdAfter(@Param("restaurantId") UUID restaurantId, @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Compute the feedback aggregates of one restaurant from scratch
+     */
+    @Query("SELECT f.restaurant.id AS restaurantId, COUNT(f) AS feedbackCount, COUNT(f.rating) AS ratingCount, " +
+           "COALESCE(SUM(f.rating), 0) AS ratingSum, " +
+           "SUM(CASE WHEN f.rating = 1 THEN 1 ELSE 0 END) AS rating1Count, " +
+           "SUM(CASE WHEN f.rating = 2 THEN 1 ELSE 0 END) AS rating2Count, " +
+           "SUM(CASE WHEN f.rating = 3 THEN 1 ELSE 0 END) AS rating3Count, " +
+           "SUM(CASE WHEN f.rating = 4 THEN 1 ELSE 0 END) AS rating4Count, " +
+           "SUM(CASE WHEN f.rating = 5 THEN 1 ELSE 0 END) AS rating5Count, " +
+           "SUM(CASE WHEN f.sentiment = com.menux.entity.SentimentType.POSITIVE THEN 1 ELSE 0 END) AS positiveCount, " +
+           "SUM(CASE WHEN f.sentiment = com.menux.entity.SentimentType.NEUTRAL THEN 1 ELSE 0 END) AS neutralCount, " +
+           "SUM(CASE WHEN f.sentiment = com.menux.entity.SentimentType.NEGATIVE THEN 1 ELSE 0 END) AS negativeCount " +
+           "FROM Feedback f WHERE f.restaurant.id = :restaurantId GROUP BY f.restaurant.id")
+    Optional<FeedbackCountsView> countBucketsByRestaurantId(@Param("restaurantId") UUID restaurantId);
+
+    /**
+     * Find the restaurant IDs that have feedback
+     */
+    @Query("SELECT DISTINCT f.restaurant.id FROM Feedback f")
+    List<UUID> findDistinctRestaurantIds();
+
     /**
      * Find feedback with comments by restaurant
      */
@@ -99,4 +164,22 @@ public interface FeedbackRepository extends JpaRepository<Feedback, UUID> {
      */
     @Query("SELECT f FROM Feedback f WHERE f.restaurant = :restaurant AND LOWER(f.comment) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<Feedback> searchByRestaurantAndComment(@Param("restaurant") Restaurant restaurant, @Param("searchTerm") String searchTerm);
+
+    /**
+     * Stream the feedback entries of a restaurant created in [from, to), oldest first, reading
+     * 500 rows per round trip; must be consumed inside a transaction
+     */
+    @Query("SELECT f.id AS id, f.restaurant.id AS restaurantId, f.order.id AS orderId, f.isAnonymous AS isAnonymous, " +
+           "f.customerName AS customerName, f.rating AS rating, f.comment AS comment, f.sentiment AS sentiment, " +
+           "f.sentimentScore AS sentimentScore, f.createdAt AS createdAt " +
+           "FROM Feedback f WHERE f.restaurant.id = :restaurantId AND f.createdAt >= :from AND f.createdAt < :to " +
+           "ORDER BY f.createdAt, f.id")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<FeedbackListView> streamViewsByRestaurantIdAndCreatedAtBetween(@Param("restaurantId") UUID restaurantId,
+                                                                        @Param("from") LocalDateTime from,
+                                                                        @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,65 @@
+package com.menux.repository;
+
+import com.menux.entity.SentimentType;
+
+/**
+ * Change to apply to a restaurant's feedback summary row
+ */
+public final class FeedbackSummaryDelta {
+
+    private final long feedbackCount;
+    private final long ratingCount;
+    private final long ratingSum;
+    private final long[] ratingCounts = new long[6];
+    private final long[] sentimentCounts = new long[SentimentType.values().length];
+
+    private FeedbackSummaryDelta(long feedbackCount, Integer rating) {
+        this.feedbackCount = feedbackCount;
+        this.ratingCount = rating != null ? 1 : 0;
+        this.ratingSum = rating != null ? rating : 0;
+        if (rating != null) {
+            ratingCounts[rating] = 1;
+        }
+    }
+
+    /**
+     * Delta for a newly inserted feedback entry
+     */
+    public static FeedbackSummaryDelta forNewFeedback(Integer rating, SentimentType sentiment) {
+        if (rating != null && (rating < 1 || rating > 5)) {
+            throw new IllegalArgumentException("Rating must be between 1 and 5");
+        }
+        FeedbackSummaryDelta delta = new FeedbackSummaryDelta(1, rating);
+        if (sentiment != null) {
+            delta.sentimentCounts[sentiment.ordinal()] = 1;
+        }
+        return delta;
+    }
+
+    /**
+     * Delta for a feedback entry whose sentiment was (re)classified
+     */
+    public static FeedbackSummaryDelta forSentimentChange(SentimentType previous, SentimentType current) {
+        FeedbackSummaryDelta delta = new FeedbackSummaryDelta(0, null);
+        if (previous != null) {
+            delta.sentimentCounts[previous.ordinal()] -= 1;
+        }
+        if (current != null) {
+            delta.sentimentCounts[current.ordinal()] += 1;
+        }
+        return delta;
+    }
+
+    // Getters
+    public long getFeedbackCount() { return feedbackCount; }
+    public long getRatingCount() { return ratingCount; }
+    public long getRatingSum() { return ratingSum; }
+    public long getRating1Count() { return ratingCounts[1]; }
+    public long getRating2Count() { return ratingCounts[2]; }
+    public long getRating3Count() { return ratingCounts[3]; }
+    public long getRating4Count() { return ratingCounts[4]; }
+    public long getRating5Count() { return ratingCounts[5]; }
+    public long getPositiveCount() { return sentimentCounts[SentimentType.POSITIVE.ordinal()]; }
+    public long getNeutralCount() { return sentimentCounts[SentimentType.NEUTRAL.ordinal()]; }
+    public long getNegativeCount() { return sentimentCounts[SentimentType.NEGATIVE.ordinal()]; }
+}
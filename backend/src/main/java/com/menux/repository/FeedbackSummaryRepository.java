@@ -0,0 +1,68 @@
+package com.menux.repository;
+
+import com.menux.entity.FeedbackSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for FeedbackSummary entity operations
+ */
+@Repository
+public interface FeedbackSummaryRepository extends JpaRepository<FeedbackSummary, UUID> {
+
+    /**
+     * Create an empty summary row for a restaurant unless one exists, in the caller's transaction
+     */
+    @Modifying
+    @Query(value = "INSERT INTO feedback_summaries (restaurant_id, feedback_count, rating_count, rating_sum, " +
+                   "rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, " +
+                   "positive_count, neutral_count, negative_count, updated_at) " +
+                   "VALUES (:restaurantId, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, :updatedAt) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("restaurantId") UUID restaurantId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Atomically add a delta to a restaurant's summary row, returning the number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE FeedbackSummary s SET " +
+           "s.feedbackCount = s.feedbackCount + :#{#delta.feedbackCount}, " +
+           "s.ratingCount = s.ratingCount + :#{#delta.ratingCount}, " +
+           "s.ratingSum = s.ratingSum + :#{#delta.ratingSum}, " +
+           "s.rating1Count = s.rating1Count + :#{#delta.rating1Count}, " +
+           "s.rating2Count = s.rating2Count + :#{#delta.rating2Count}, " +
+           "s.rating3Count = s.rating3Count + :#{#delta.rating3Count}, " +
+           "s.rating4Count = s.rating4Count + :#{#delta.rating4Count}, " +
+           "s.rating5Count = s.rating5Count + :#{#delta.rating5Count}, " +
+           "s.positiveCount = s.positiveCount + :#{#delta.positiveCount}, " +
+           "s.neutralCount = s.neutralCount + :#{#delta.neutralCount}, " +
+           "s.negativeCount = s.negativeCount + :#{#delta.negativeCount}, " +
+           "s.updatedAt = :updatedAt " +
+           "WHERE s.restaurantId = :restaurantId")
+    int applyDelta(@Param("restaurantId") UUID restaurantId,
+                   @Param("delta") FeedbackSummaryDelta delta,
+                   @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Find a summary row and lock it for update
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM FeedbackSummary s WHERE s.restaurantId = :restaurantId")
+    Optional<FeedbackSummary> findByIdForUpdate(@Param("restaurantId") UUID restaurantId);
+
+    /**
+     * Find the restaurant IDs that have a summary row
+     */
+    @Query("SELECT s.restaurantId FROM FeedbackSummary s")
+    List<UUID> findAllRestaurantIds();
+}
@@ -0,0 +1,74 @@
+package com.menux.repository;
+
+import com.menux.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for IdempotencyRecord entity operations
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Claim a key for an execution; fails with a unique key violation if the key is already recorded
+     */
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (key_hash, request_hash, claim_token, created_at, expires_at) " +
+                   "VALUES (:keyHash, :requestHash, :claimToken, :createdAt, :expiresAt)", nativeQuery = true)
+    int claim(@Param("keyHash") String keyHash,
+              @Param("requestHash") String requestHash,
+              @Param("claimToken") String claimToken,
+              @Param("createdAt") LocalDateTime createdAt,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Extend the lease of a claim still in progress
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.expiresAt = :expiresAt " +
+           "WHERE r.keyHash = :keyHash AND r.claimToken = :claimToken AND r.statusCode IS NULL")
+    int renew(@Param("keyHash") String keyHash,
+              @Param("claimToken") String claimToken,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Store the response of a claim and keep it until it expires; does nothing if the key was
+     * claimed again since
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.statusCode = :statusCode, r.responseBody = :responseBody, " +
+           "r.expiresAt = :expiresAt WHERE r.keyHash = :keyHash AND r.claimToken = :claimToken")
+    int complete(@Param("keyHash") String keyHash,
+                 @Param("claimToken") String claimToken,
+                 @Param("statusCode") int statusCode,
+                 @Param("responseBody") String responseBody,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Release a claim still in progress; does nothing if the key was claimed again since
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r " +
+           "WHERE r.keyHash = :keyHash AND r.claimToken = :claimToken AND r.statusCode IS NULL")
+    int release(@Param("keyHash") String keyHash, @Param("claimToken") String claimToken);
+
+    /**
+     * Release a key, optionally only if it has expired
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.keyHash = :keyHash AND r.expiresAt < :before")
+    int deleteIfExpiredBefore(@Param("keyHash") String keyHash, @Param("before") LocalDateTime before);
+
+    /**
+     * Delete expired records
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
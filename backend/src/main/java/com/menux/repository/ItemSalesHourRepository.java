@@ -0,0 +1,66 @@
+package com.menux.repository;
+
+import com.menux.entity.ItemSalesHour;
+import com.menux.repository.projection.ItemSalesView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for ItemSalesHour entity operations
+ */
+@Repository
+public interface ItemSalesHourRepository extends JpaRepository<ItemSalesHour, UUID> {
+
+    /**
+     * Add to the totals of an existing bucket, returning the number of rows updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ItemSalesHour s SET s.quantity = s.quantity + :quantity, s.lineCount = s.lineCount + :lines, " +
+           "s.revenue = s.revenue + :revenue " +
+           "WHERE s.restaurantId = :restaurantId AND s.bucketStart = :bucketStart AND s.menuItemId = :menuItemId")
+    int addToBucket(@Param("restaurantId") UUID restaurantId,
+                    @Param("menuItemId") UUID menuItemId,
+                    @Param("bucketStart") LocalDateTime bucketStart,
+                    @Param("quantity") long quantity,
+                    @Param("lines") long lines,
+                    @Param("revenue") BigDecimal revenue);
+
+    /**
+     * Sum the buckets of a restaurant in [from, to) per menu item, highest revenue first
+     */
+    @Query("SELECT s.menuItemId AS menuItemId, m.name AS name, SUM(s.quantity) AS quantity, " +
+           "SUM(s.lineCount) AS lineCount, SUM(s.revenue) AS revenue " +
+           "FROM ItemSalesHour s LEFT JOIN MenuItem m ON m.id = s.menuItemId " +
+           "WHERE s.restaurantId = :restaurantId AND s.bucketStart >= :from AND s.bucketStart < :to " +
+           "GROUP BY s.menuItemId, m.name ORDER BY SUM(s.revenue) DESC, s.menuItemId")
+    List<ItemSalesView> sumByMenuItem(@Param("restaurantId") UUID restaurantId,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    /**
+     * Create an empty bucket unless it already exists, without failing the calling transaction
+     */
+    @Modifying
+    @Query(value = "INSERT INTO item_sales_hours (id, restaurant_id, menu_item_id, bucket_start, quantity, line_count, revenue) " +
+                   "VALUES (:id, :restaurantId, :menuItemId, :bucketStart, 0, 0, 0) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("restaurantId") UUID restaurantId,
+                       @Param("menuItemId") UUID menuItemId,
+                       @Param("bucketStart") LocalDateTime bucketStart);
+
+    /**
+     * Delete all buckets of a restaurant
+     */
+    @Modifying
+    @Query("DELETE FROM ItemSalesHour s WHERE s.restaurantId = :restaurantId")
+    int deleteByRestaurantId(@Param("restaurantId") UUID restaurantId);
+}
@@ -29,6 +29,11 @@ public interface MenuCategoryRepository extends JpaRepository<MenuCategory, UUID
      */
     List<MenuCategory> findByRestaurantId(UUID restaurantId);
 
+    /**
+     * Find menu categories by restaurant ID and status ordered by display order
+     */
+    List<MenuCategory> findByRestaurantIdAndIsActiveOrderByDisplayOrder(UUID restaurantId, Boolean isActive);
+
     /**
      * Find active menu categories by restaurant
      */
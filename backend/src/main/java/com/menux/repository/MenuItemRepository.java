@@ -3,6 +3,8 @@ package com.menux.repository;
 import com.menux.entity.MenuItem;
 import com.menux.entity.MenuCategory;
 import com.menux.entity.Restaurant;
+import com.menux.repository.projection.MenuItemSearchView;
+import com.menux.repository.projection.OrderableItemView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,7 +13,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -41,6 +45,12 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, UUID> {
     @Query("SELECT m FROM MenuItem m WHERE m.restaurant.id = :restaurantId AND m.isAvailable = true ORDER BY m.displayOrder, m.name")
     List<MenuItem> findAvailableByRestaurantIdOrderByDisplayOrder(@Param("restaurantId") UUID restaurantId);
 
+    /**
+     * Find available menu items with allergens by restaurant ID ordered by display order
+     */
+    @Query("SELECT DISTINCT m FROM MenuItem m LEFT JOIN FETCH m.allergens WHERE m.restaurant.id = :restaurantId AND m.isAvailable = true ORDER BY m.displayOrder, m.name")
+    List<MenuItem> findAvailableWithAllergensByRestaurantId(@Param("restaurantId") UUID restaurantId);
+
     /**
      * Find menu items by category
      */
@@ -85,6 +95,28 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, UUID> {
     @Query("SELECT m FROM MenuItem m WHERE m.restaurant = :restaurant AND LOWER(m.name) LIKE LOWER(CONCAT('%', :name, '%')) AND m.isAvailable = true")
     List<MenuItem> searchByRestaurantAndName(@Param("restaurant") Restaurant restaurant, @Param("name") String name);
 
+    /**
+     * Find the searchable text of all menu items
+     */
+    @Query("SELECT m.id AS id, m.restaurant.id AS restaurantId, m.name AS name, m.description AS description FROM MenuItem m")
+    List<MenuItemSearchView> findAllSearchViews();
+
+    /**
+     * Find the searchable text of one menu item
+     */
+    @Query("SELECT m.id AS id, m.restaurant.id AS restaurantId, m.name AS name, m.description AS description FROM MenuItem m WHERE m.id = :id")
+    Optional<MenuItemSearchView> findSearchViewById(@Param("id") UUID id);
+
+    /**
+     * Find the items of a cart that can be ordered now: available, in an active category if any,
+     * on the menu of an active restaurant
+     */
+    @Query("SELECT m.id AS id, m.name AS name, m.price AS price FROM MenuItem m JOIN m.restaurant r LEFT JOIN m.category c " +
+           "WHERE r.id = :restaurantId AND r.isActive = true AND m.isAvailable = true " +
+           "AND (c IS NULL OR c.isActive = true) AND m.id IN :ids")
+    List<OrderableItemView> findOrderableByRestaurantIdAndIdIn(@Param("restaurantId") UUID restaurantId,
+                                                              @Param("ids") Collection<UUID> ids);
+
     /**
      * Find menu items with categories by restaurant
      */
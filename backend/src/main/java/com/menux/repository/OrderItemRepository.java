@@ -3,7 +3,11 @@ package com.menux.repository;
 import com.menux.entity.MenuItem;
 import com.menux.entity.Order;
 import com.menux.entity.OrderItem;
+import com.menux.entity.OrderStatus;
 import com.menux.entity.Restaurant;
+import com.menux.repository.projection.ItemQuantityView;
+import com.menux.repository.projection.OrderLineQuantityView;
+import com.menux.repository.projection.SalesLineView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,6 +17,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -112,4 +117,45 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, UUID> {
      */
     @Query("SELECT AVG(oi.quantity * oi.unitPrice) FROM OrderItem oi JOIN oi.order o WHERE o.restaurant = :restaurant")
     Double calculateAverageOrderItemValueByRestaurant(@Param("restaurant") Restaurant restaurant);
+
+    /**
+     * Total quantity ordered per restaurant and menu item over orders in the given statuses
+     */
+    @Query("SELECT o.restaurant.id AS restaurantId, oi.menuItem.id AS menuItemId, SUM(oi.quantity) AS quantity " +
+           "FROM OrderItem oi JOIN oi.order o WHERE o.status IN :statuses GROUP BY o.restaurant.id, oi.menuItem.id")
+    List<ItemQuantityView> sumQuantitiesByStatusIn(@Param("statuses") Collection<OrderStatus> statuses);
+
+    /**
+     * Lines of orders in the given statuses changed since a point in time
+     */
+    @Query("SELECT o.restaurant.id AS restaurantId, o.id AS orderId, oi.menuItem.id AS menuItemId, " +
+           "oi.quantity AS quantity, o.updatedAt AS updatedAt " +
+           "FROM OrderItem oi JOIN oi.order o WHERE o.status IN :statuses AND o.updatedAt >= :since")
+    List<OrderLineQuantityView> findQuantitiesByStatusInUpdatedSince(@Param("statuses") Collection<OrderStatus> statuses,
+                                                                    @Param("since") LocalDateTime since);
+
+    /**
+     * Lines of one order
+     */
+    @Query("SELECT o.restaurant.id AS restaurantId, o.id AS orderId, oi.menuItem.id AS menuItemId, " +
+           "oi.quantity AS quantity, o.updatedAt AS updatedAt " +
+           "FROM OrderItem oi JOIN oi.order o WHERE o.id = :orderId")
+    List<OrderLineQuantityView> findQuantitiesByOrderId(@Param("orderId") UUID orderId);
+
+    /**
+     * Lines of one order with the order fields recorded in the sales ledger
+     */
+    @Query("SELECT o.id AS orderId, o.restaurant.id AS restaurantId, o.updatedAt AS updatedAt, o.totalAmount AS totalAmount, " +
+           "oi.menuItem.id AS menuItemId, oi.quantity AS quantity, oi.unitPrice AS unitPrice " +
+           "FROM OrderItem oi JOIN oi.order o WHERE o.id = :orderId")
+    List<SalesLineView> findSalesLinesByOrderId(@Param("orderId") UUID orderId);
+
+    /**
+     * Lines of the orders of a restaurant in the given statuses, grouped by order
+     */
+    @Query("SELECT o.id AS orderId, o.restaurant.id AS restaurantId, o.updatedAt AS updatedAt, o.totalAmount AS totalAmount, " +
+           "oi.menuItem.id AS menuItemId, oi.quantity AS quantity, oi.unitPrice AS unitPrice " +
+           "FROM OrderItem oi JOIN oi.order o WHERE o.restaurant.id = :restaurantId AND o.status IN :statuses ORDER BY o.id")
+    List<SalesLineView> findSalesLinesByRestaurantIdAndStatusIn(@Param("restaurantId") UUID restaurantId,
+                                                               @Param("statuses") Collection<OrderStatus> statuses);
 }
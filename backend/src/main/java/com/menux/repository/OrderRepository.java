@@ -3,16 +3,27 @@ package com.menux.repository;
 import com.menux.entity.Order;
 import com.menux.entity.OrderStatus;
 import com.menux.entity.Restaurant;
+import com.menux.repository.projection.KitchenLineView;
+import com.menux.repository.projection.OrderStateView;
+import com.menux.repository.projection.OrderSummaryView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Order entity operations
@@ -35,6 +46,94 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
      */
     List<Order> findByRestaurantId(UUID restaurantId);
 
+    /**
+     * Find orders by restaurant ID with pagination
+     */
+    Page<Order> findByRestaurantId(UUID restaurantId, Pageable pageable);
+
+    /**
+     * Find order summaries by restaurant ID with pagination
+     */
+    @Query(value = "SELECT o.id AS id, o.restaurant.id AS restaurantId, o.tableNumber AS tableNumber, o.customerName AS customerName, " +
+           "o.customerPhone AS customerPhone, o.status AS status, o.totalAmount AS totalAmount, " +
+           "o.specialInstructions AS specialInstructions, o.createdAt AS createdAt, o.updatedAt AS updatedAt " +
+           "FROM Order o WHERE o.restaurant.id = :restaurantId",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.restaurant.id = :restaurantId")
+    Page<OrderSummaryView> findSummariesByRestaurantId(@Param("restaurantId") UUID restaurantId, Pageable pageable);
+
+    /**
+     * Find order summaries by restaurant ID, first keyset page (newest first)
+     */
+    @Query("SELECT o.id AS id, o.restaurant.id AS restaurantId, o.tableNumber AS tableNumber, o.customerName AS customerName, " +
+           "o.customerPhone AS customerPhone, o.status AS status, o.totalAmount AS totalAmount, " +
+           "o.specialInstructions AS specialInstructions, o.createdAt AS createdAt, o.updatedAt AS updatedAt " +
+           "FROM Order o WHERE o.restaurant.id = :restaurantId ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderSummaryView> findSummariesByRestaurantIdFirstPage(@Param("restaurantId") UUID restaurantId, Limit limit);
+
+    /**
+     * Find order summaries by restaurant ID, keyset page after the given (createdAt, id) position
+     */
+    @Query("SELECT o.id AS id, o.restaurant.id AS restaurantId, o.tableNumber AS tableNumber, o.customerName AS customerName, " +
+           "o.customerPhone AS customerPhone, o.status AS status, o.totalAmount AS totalAmount, " +
+           "o.specialInstructions AS specialInstructions, o.createdAt AS createdAt, o.updatedAt AS updatedAt " +
+           "FROM Order o WHERE o.restaurant.id = :restaurantId AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderSummaryView> findSummariesByRestaurantIdAfter(@Param("restaurantId") UUID restaurantId, @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Move an order to a new status if its current status (and version, when given) is as expected,
+     * returning the number of rows updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :target, o.version = o.version + 1, o.updatedAt = :updatedAt " +
+           "WHERE o.id = :orderId AND o.restaurant.id = :restaurantId AND o.status IN :expected " +
+           "AND (:version IS NULL OR o.version = :version)")
+    int transitionStatus(@Param("restaurantId") UUID restaurantId,
+                         @Param("orderId") UUID orderId,
+                         @Param("expected") Collection<OrderStatus> expected,
+                         @Param("version") Long version,
+                         @Param("target") OrderStatus target,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Find the lifecycle state of an order
+     */
+    @Query("SELECT o.id AS id, o.status AS status, o.version AS version, o.tableNumber AS tableNumber, o.totalAmount AS totalAmount " +
+           "FROM Order o WHERE o.id = :orderId AND o.restaurant.id = :restaurantId")
+    Optional<OrderStateView> findStateById(@Param("restaurantId") UUID restaurantId, @Param("orderId") UUID orderId);
+
+    /**
+     * Find the lifecycle state of the orders at a table that are in one of the given statuses, oldest first
+     */
+    @Query("SELECT o.id AS id, o.status AS status, o.version AS version, o.tableNumber AS tableNumber, o.totalAmount AS totalAmount " +
+           "FROM Order o WHERE o.restaurant.id = :restaurantId AND o.tableNumber = :tableNumber AND o.status IN :statuses " +
+           "ORDER BY o.createdAt, o.id")
+    List<OrderStateView> findStatesByTable(@Param("restaurantId") UUID restaurantId,
+                                           @Param("tableNumber") String tableNumber,
+                                           @Param("statuses") Collection<OrderStatus> statuses);
+
+    /**
+     * Find the kitchen lines of all orders in the given statuses in one query
+     */
+    @Query("SELECT o.id AS orderId, o.restaurant.id AS restaurantId, o.tableNumber AS tableNumber, o.status AS status, " +
+           "o.createdAt AS createdAt, o.specialInstructions AS orderInstructions, oi.id AS lineId, mi.id AS menuItemId, " +
+           "mi.name AS itemName, c.id AS categoryId, c.name AS categoryName, oi.quantity AS quantity, " +
+           "oi.specialInstructions AS lineInstructions " +
+           "FROM Order o LEFT JOIN o.orderItems oi LEFT JOIN oi.menuItem mi LEFT JOIN mi.category c " +
+           "WHERE o.status IN :statuses ORDER BY o.id, oi.id")
+    List<KitchenLineView> findKitchenLinesByStatusIn(@Param("statuses") Collection<OrderStatus> statuses);
+
+    /**
+     * Find the kitchen lines of one order
+     */
+    @Query("SELECT o.id AS orderId, o.restaurant.id AS restaurantId, o.tableNumber AS tableNumber, o.status AS status, " +
+           "o.createdAt AS createdAt, o.specialInstructions AS orderInstructions, oi.id AS lineId, mi.id AS menuItemId, " +
+           "mi.name AS itemName, c.id AS categoryId, c.name AS categoryName, oi.quantity AS quantity, " +
+           "oi.specialInstructions AS lineInstructions " +
+           "FROM Order o LEFT JOIN o.orderItems oi LEFT JOIN oi.menuItem mi LEFT JOIN mi.category c " +
+           "WHERE o.id = :orderId ORDER BY oi.id")
+    List<KitchenLineView> findKitchenLinesByOrderId(@Param("orderId") UUID orderId);
+
     /**
      * Find orders by restaurant and status
      */
@@ -118,4 +217,28 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
      */
     @Query("SELECT o FROM Order o WHERE o.restaurant = :restaurant AND LOWER(o.customerName) LIKE LOWER(CONCAT('%', :customerName, '%'))")
     List<Order> findByRestaurantAndCustomerNameContaining(@Param("restaurant") Restaurant restaurant, @Param("customerName") String customerName);
+
+    /**
+     * Find the ids of restaurants with orders in the given statuses
+     */
+    @Query("SELECT DISTINCT o.restaurant.id FROM Order o WHERE o.status IN :statuses")
+    List<UUID> findDistinctRestaurantIdsByStatusIn(@Param("statuses") Collection<OrderStatus> statuses);
+
+    /**
+     * Stream the order summaries of a restaurant created in [from, to), oldest first, reading
+     * 500 rows per round trip; must be consumed inside a transaction
+     */
+    @Query("SELECT o.id AS id, o.restaurant.id AS restaurantId, o.tableNumber AS tableNumber, o.customerName AS customerName, " +
+           "o.customerPhone AS customerPhone, o.status AS status, o.totalAmount AS totalAmount, " +
+           "o.specialInstructions AS specialInstructions, o.createdAt AS createdAt, o.updatedAt AS updatedAt " +
+           "FROM Order o WHERE o.restaurant.id = :restaurantId AND o.createdAt >= :from AND o.createdAt < :to " +
+           "ORDER BY o.createdAt, o.id")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<OrderSummaryView> streamSummariesByRestaurantIdAndCreatedAtBetween(@Param("restaurantId") UUID restaurantId,
+                                                                            @Param("from") LocalDateTime from,
+                                                                            @Param("to") LocalDateTime to);
 }
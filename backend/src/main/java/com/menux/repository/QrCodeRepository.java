@@ -2,7 +2,10 @@ package com.menux.repository;
 
 import com.menux.entity.QrCode;
 import com.menux.entity.Restaurant;
+import com.menux.repository.projection.QrCodeScanView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,6 +23,13 @@ public interface QrCodeRepository extends JpaRepository<QrCode, UUID> {
      */
     Optional<QrCode> findByCode(String code);
 
+    /**
+     * Find scan resolution data by code string in a single query
+     */
+    @Query("SELECT r.id AS restaurantId, q.tableNumber AS tableNumber, q.isActive AS qrActive, r.isActive AS restaurantActive " +
+           "FROM QrCode q JOIN q.restaurant r WHERE q.code = :code")
+    Optional<QrCodeScanView> findScanViewByCode(@Param("code") String code);
+
     /**
      * Check if QR code exists by code string
      */
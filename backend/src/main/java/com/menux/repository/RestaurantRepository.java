@@ -3,6 +3,9 @@ package com.menux.repository;
 import com.menux.entity.Restaurant;
 import com.menux.entity.SubscriptionType;
 import com.menux.entity.User;
+import com.menux.repository.projection.RestaurantCountsView;
+import com.menux.repository.projection.RestaurantSearchView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,6 +13,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,6 +34,11 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, UUID> {
      */
     List<Restaurant> findByOwnerId(UUID ownerId);
 
+    /**
+     * Check if restaurant belongs to owner
+     */
+    boolean existsByIdAndOwnerId(UUID id, UUID ownerId);
+
     /**
      * Find active restaurants by owner
      */
@@ -87,12 +96,34 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, UUID> {
      */
     long countByIsActive(Boolean isActive);
 
+    /**
+     * Count restaurants in total, per subscription type and active in a single query
+     */
+    @Query("SELECT COUNT(r) AS total, " +
+           "COALESCE(SUM(CASE WHEN r.subscriptionType = com.menux.entity.SubscriptionType.FREE THEN 1 ELSE 0 END), 0) AS free, " +
+           "COALESCE(SUM(CASE WHEN r.subscriptionType = com.menux.entity.SubscriptionType.PRO THEN 1 ELSE 0 END), 0) AS pro, " +
+           "COALESCE(SUM(CASE WHEN r.isActive = true THEN 1 ELSE 0 END), 0) AS active " +
+           "FROM Restaurant r")
+    RestaurantCountsView countAllBuckets();
+
     /**
      * Find Pro restaurants
      */
     @Query("SELECT r FROM Restaurant r WHERE r.subscriptionType = 'PRO' AND r.isActive = true")
     List<Restaurant> findProRestaurants();
 
+    /**
+     * Find restaurants, first keyset page (newest first)
+     */
+    @Query("SELECT r FROM Restaurant r ORDER BY r.createdAt DESC, r.id DESC")
+    List<Restaurant> findFirstPage(Limit limit);
+
+    /**
+     * Find restaurants, keyset page after the given (createdAt, id) position
+     */
+    @Query("SELECT r FROM Restaurant r WHERE (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) ORDER BY r.createdAt DESC, r.id DESC")
+    List<Restaurant> findAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
     /**
      * Search restaurants by name or address
      */
@@ -100,4 +131,16 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, UUID> {
            "LOWER(r.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(r.address) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     Page<Restaurant> searchRestaurants(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    /**
+     * Find the searchable text of all restaurants
+     */
+    @Query("SELECT r.id AS id, r.name AS name, r.address AS address FROM Restaurant r")
+    List<RestaurantSearchView> findAllSearchViews();
+
+    /**
+     * Find the searchable text of one restaurant
+     */
+    @Query("SELECT r.id AS id, r.name AS name, r.address AS address FROM Restaurant r WHERE r.id = :id")
+    Optional<RestaurantSearchView> findSearchViewById(@Param("id") UUID id);
 }
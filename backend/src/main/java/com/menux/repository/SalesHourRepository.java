@@ -0,0 +1,58 @@
+package com.menux.repository;
+
+import com.menux.entity.SalesHour;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for SalesHour entity operations
+ */
+@Repository
+public interface SalesHourRepository extends JpaRepository<SalesHour, UUID> {
+
+    /**
+     * Add to the totals of an existing bucket, returning the number of rows updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SalesHour s SET s.orderCount = s.orderCount + :orders, s.revenue = s.revenue + :revenue " +
+           "WHERE s.restaurantId = :restaurantId AND s.bucketStart = :bucketStart")
+    int addToBucket(@Param("restaurantId") UUID restaurantId,
+                    @Param("bucketStart") LocalDateTime bucketStart,
+                    @Param("orders") long orders,
+                    @Param("revenue") BigDecimal revenue);
+
+    /**
+     * Find the buckets of a restaurant in [from, to), oldest first
+     */
+    @Query("SELECT s FROM SalesHour s WHERE s.restaurantId = :restaurantId " +
+           "AND s.bucketStart >= :from AND s.bucketStart < :to ORDER BY s.bucketStart")
+    List<SalesHour> findSeries(@Param("restaurantId") UUID restaurantId,
+                               @Param("from") LocalDateTime from,
+                               @Param("to") LocalDateTime to);
+
+    /**
+     * Create an empty bucket unless it already exists, without failing the calling transaction
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sales_hours (id, restaurant_id, bucket_start, order_count, revenue) " +
+                   "VALUES (:id, :restaurantId, :bucketStart, 0, 0) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("restaurantId") UUID restaurantId,
+                       @Param("bucketStart") LocalDateTime bucketStart);
+
+    /**
+     * Delete all buckets of a restaurant
+     */
+    @Modifying
+    @Query("DELETE FROM SalesHour s WHERE s.restaurantId = :restaurantId")
+    int deleteByRestaurantId(@Param("restaurantId") UUID restaurantId);
+}
@@ -0,0 +1,31 @@
+package com.menux.repository;
+
+import com.menux.entity.SalesLedgerOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for SalesLedgerOrder entity operations
+ */
+@Repository
+public interface SalesLedgerOrderRepository extends JpaRepository<SalesLedgerOrder, UUID> {
+
+    /**
+     * Find the ids of restaurants with recorded orders
+     */
+    @Query("SELECT DISTINCT o.restaurantId FROM SalesLedgerOrder o")
+    List<UUID> findDistinctRestaurantIds();
+
+    /**
+     * Delete the markers of all orders of a restaurant
+     */
+    @Modifying
+    @Query("DELETE FROM SalesLedgerOrder o WHERE o.restaurantId = :restaurantId")
+    int deleteByRestaurantId(@Param("restaurantId") UUID restaurantId);
+}
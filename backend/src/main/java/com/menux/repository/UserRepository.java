@@ -2,6 +2,8 @@ package com.menux.repository;
 
 import com.menux.entity.User;
 import com.menux.entity.UserRole;
+import com.menux.repository.projection.UserCountsView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +32,12 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     Optional<User> findByEmailAndIsActive(String email, Boolean isActive);
 
+    /**
+     * Find active status by user ID
+     */
+    @Query("SELECT u.isActive FROM User u WHERE u.id = :id")
+    Optional<Boolean> findIsActiveById(@Param("id") UUID id);
+
     /**
      * Check if user exists by email
      */
@@ -44,6 +53,30 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     Page<User> findByRole(UserRole role, Pageable pageable);
 
+    /**
+     * Find users, first keyset page (newest first)
+     */
+    @Query("SELECT u FROM User u ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findFirstPage(Limit limit);
+
+    /**
+     * Find users, keyset page after the given (createdAt, id) position
+     */
+    @Query("SELECT u FROM User u WHERE (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id)) ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Find users by role, first keyset page (newest first)
+     */
+    @Query("SELECT u FROM User u WHERE u.role = :role ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findByRoleFirstPage(@Param("role") UserRole role, Limit limit);
+
+    /**
+     * Find users by role, keyset page after the given (createdAt, id) position
+     */
+    @Query("SELECT u FROM User u WHERE u.role = :role AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id)) ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findByRoleAfter(@Param("role") UserRole role, @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
     /**
      * Find active users by role
      */
@@ -73,6 +106,16 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     long countByIsActive(Boolean isActive);
 
+    /**
+     * Count users in total, per role and active in a single query
+     */
+    @Query("SELECT COUNT(u) AS total, " +
+           "COALESCE(SUM(CASE WHEN u.role = com.menux.entity.UserRole.SUPER_ADMIN THEN 1 ELSE 0 END), 0) AS superAdmins, " +
+           "COALESCE(SUM(CASE WHEN u.role = com.menux.entity.UserRole.RESTAURANT_OWNER THEN 1 ELSE 0 END), 0) AS restaurantOwners, " +
+           "COALESCE(SUM(CASE WHEN u.isActive = true THEN 1 ELSE 0 END), 0) AS active " +
+           "FROM User u")
+    UserCountsView countAllBuckets();
+
     /**
      * Find users created in the last N days
      */
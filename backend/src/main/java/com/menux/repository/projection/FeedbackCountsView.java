@@ -0,0 +1,33 @@
+package com.menux.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Projection of one restaurant's feedback aggregates computed from the feedback table
+ */
+public interface FeedbackCountsView {
+
+    UUID getRestaurantId();
+
+    Long getFeedbackCount();
+
+    Long getRatingCount();
+
+    Long getRatingSum();
+
+    Long getRating1Count();
+
+    Long getRating2Count();
+
+    Long getRating3Count();
+
+    Long getRating4Count();
+
+    Long getRating5Count();
+
+    Long getPositiveCount();
+
+    Long getNeutralCount();
+
+    Long getNegativeCount();
+}
@@ -0,0 +1,33 @@
+package com.menux.repository.projection;
+
+import com.menux.entity.SentimentType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a feedback entry as shown in restaurant feedback listings
+ */
+public interface FeedbackListView {
+
+    UUID getId();
+
+    UUID getRestaurantId();
+
+    UUID getOrderId();
+
+    Boolean getIsAnonymous();
+
+    String getCustomerName();
+
+    Integer getRating();
+
+    String getComment();
+
+    SentimentType getSentiment();
+
+    BigDecimal getSentimentScore();
+
+    LocalDateTime getCreatedAt();
+}
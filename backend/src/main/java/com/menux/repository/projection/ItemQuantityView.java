@@ -0,0 +1,15 @@
+package com.menux.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Projection of the total quantity ordered of one menu item
+ */
+public interface ItemQuantityView {
+
+    UUID getRestaurantId();
+
+    UUID getMenuItemId();
+
+    Long getQuantity();
+}
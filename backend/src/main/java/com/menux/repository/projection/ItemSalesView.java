@@ -0,0 +1,20 @@
+package com.menux.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projection of the summed sales of one menu item over a range of hours
+ */
+public interface ItemSalesView {
+
+    UUID getMenuItemId();
+
+    String getName();
+
+    Long getQuantity();
+
+    Long getLineCount();
+
+    BigDecimal getRevenue();
+}
@@ -0,0 +1,38 @@
+package com.menux.repository.projection;
+
+import com.menux.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of one order line as shown on a kitchen display; an order without lines yields one row with a null line
+ */
+public interface KitchenLineView {
+
+    UUID getOrderId();
+
+    UUID getRestaurantId();
+
+    String getTableNumber();
+
+    OrderStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+
+    String getOrderInstructions();
+
+    UUID getLineId();
+
+    UUID getMenuItemId();
+
+    String getItemName();
+
+    UUID getCategoryId();
+
+    String getCategoryName();
+
+    Integer getQuantity();
+
+    String getLineInstructions();
+}
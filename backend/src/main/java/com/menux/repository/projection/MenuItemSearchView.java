@@ -0,0 +1,17 @@
+package com.menux.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Projection of the searchable text of a menu item
+ */
+public interface MenuItemSearchView {
+
+    UUID getId();
+
+    UUID getRestaurantId();
+
+    String getName();
+
+    String getDescription();
+}
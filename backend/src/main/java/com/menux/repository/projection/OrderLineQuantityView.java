@@ -0,0 +1,20 @@
+package com.menux.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of the menu item and quantity of one order line, with the time its order last changed
+ */
+public interface OrderLineQuantityView {
+
+    UUID getRestaurantId();
+
+    UUID getOrderId();
+
+    UUID getMenuItemId();
+
+    Integer getQuantity();
+
+    LocalDateTime getUpdatedAt();
+}
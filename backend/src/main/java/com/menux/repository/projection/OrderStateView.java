@@ -0,0 +1,22 @@
+package com.menux.repository.projection;
+
+import com.menux.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projection of the lifecycle state of an order, read without loading the entity
+ */
+public interface OrderStateView {
+
+    UUID getId();
+
+    OrderStatus getStatus();
+
+    Long getVersion();
+
+    String getTableNumber();
+
+    BigDecimal getTotalAmount();
+}
@@ -0,0 +1,33 @@
+package com.menux.repository.projection;
+
+import com.menux.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of an order as shown in restaurant order listings
+ */
+public interface OrderSummaryView {
+
+    UUID getId();
+
+    UUID getRestaurantId();
+
+    String getTableNumber();
+
+    String getCustomerName();
+
+    String getCustomerPhone();
+
+    OrderStatus getStatus();
+
+    BigDecimal getTotalAmount();
+
+    String getSpecialInstructions();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
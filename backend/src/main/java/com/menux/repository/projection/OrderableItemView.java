@@ -0,0 +1,16 @@
+package com.menux.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projection of a menu item that can currently be ordered, with its price
+ */
+public interface OrderableItemView {
+
+    UUID getId();
+
+    String getName();
+
+    BigDecimal getPrice();
+}
@@ -0,0 +1,17 @@
+package com.menux.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Projection of the fields needed to resolve a diner QR code scan
+ */
+public interface QrCodeScanView {
+
+    UUID getRestaurantId();
+
+    String getTableNumber();
+
+    Boolean getQrActive();
+
+    Boolean getRestaurantActive();
+}
@@ -0,0 +1,15 @@
+package com.menux.repository.projection;
+
+/**
+ * Projection of restaurant counts computed in a single aggregate query
+ */
+public interface RestaurantCountsView {
+
+    Long getTotal();
+
+    Long getFree();
+
+    Long getPro();
+
+    Long getActive();
+}
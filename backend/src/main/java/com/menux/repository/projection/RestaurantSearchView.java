@@ -0,0 +1,15 @@
+package com.menux.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Projection of the searchable text of a restaurant
+ */
+public interface RestaurantSearchView {
+
+    UUID getId();
+
+    String getName();
+
+    String getAddress();
+}
@@ -0,0 +1,25 @@
+package com.menux.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of one order line with the order fields the sales ledger records
+ */
+public interface SalesLineView {
+
+    UUID getOrderId();
+
+    UUID getRestaurantId();
+
+    LocalDateTime getUpdatedAt();
+
+    BigDecimal getTotalAmount();
+
+    UUID getMenuItemId();
+
+    Integer getQuantity();
+
+    BigDecimal getUnitPrice();
+}
@@ -0,0 +1,15 @@
+package com.menux.repository.projection;
+
+/**
+ * Projection of user counts computed in a single aggregate query
+ */
+public interface UserCountsView {
+
+    Long getTotal();
+
+    Long getSuperAdmins();
+
+    Long getRestaurantOwners();
+
+    Long getActive();
+}
@@ -0,0 +1,42 @@
+package com.menux.security;
+
+import com.menux.entity.UserRole;
+import com.menux.repository.RestaurantRepository;
+import com.menux.service.CustomUserDetailsService.CustomUserPrincipal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Authorization checks for restaurant-scoped endpoints
+ * Used from method security expressions as {@code @restaurantAccess.canManage(#restaurantId)}
+ */
+@Component("restaurantAccess")
+public class RestaurantAccessEvaluator {
+
+    private final RestaurantRepository restaurantRepository;
+
+    @Autowired
+    public RestaurantAccessEvaluator(RestaurantRepository restaurantRepository) {
+        this.restaurantRepository = restaurantRepository;
+    }
+
+    /**
+     * Check if the current user is a super admin or owns the restaurant
+     */
+    public boolean canManage(UUID restaurantId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserPrincipal principal)) {
+            return false;
+        }
+
+        if (principal.getRole() == UserRole.SUPER_ADMIN) {
+            return true;
+        }
+
+        return restaurantId != null && restaurantRepository.existsByIdAndOwnerId(restaurantId, principal.getUserId());
+    }
+}
@@ -0,0 +1,335 @@
+package com.menux.service;
+
+import com.menux.entity.AnalyticsEventType;
+import com.menux.entity.AnalyticsRollup;
+import com.menux.entity.AnalyticsRollupWatermark;
+import com.menux.entity.RollupGranularity;
+import com.menux.event.RestaurantChangedEvent;
+import com.menux.repository.AnalyticsRollupRepository;
+import com.menux.repository.AnalyticsRollupWatermarkRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Service folding raw analytics events into hourly and daily rollups
+ *
+ * A watermark records the creation time up to which raw events have been counted. Each fold
+ * locks the watermark row, counts the events between the watermark and now minus a settle lag,
+ * adds the counts to the rollup buckets and advances the watermark in the same transaction,
+ * so every event is counted exactly once. The batched writer stamps rows when it inserts them
+ * and bounds each insert to half the settle lag, so a row is committed before the watermark
+ * can pass its creation time, however far the writer falls behind. Dashboard queries read
+ * only the rollups.
+ */
+@Service
+@Transactional
+public class AnalyticsRollupService {
+
+    static final String WATERMARK = "analytics";
+
+    private static final int MAX_SERIES_BUCKETS = 24 * 93;
+
+    private final AnalyticsRollupRepository rollupRepository;
+    private final AnalyticsRollupWatermarkRepository watermarkRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final Duration settleLag;
+    private final Duration maxWindow;
+    private final Duration rawRetention;
+    private final int deleteBatchSize;
+
+    @Autowired
+    public AnalyticsRollupService(AnalyticsRollupRepository rollupRepository,
+                                  AnalyticsRollupWatermarkRepository watermarkRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.analytics.rollup.settle-lag:120000}") long settleLagMillis,
+                                  @Value("${app.analytics.rollup.max-window:86400000}") long maxWindowMillis,
+                                  @Value("${app.analytics.retention.raw-max-age-days:90}") int rawMaxAgeDays,
+                                  @Value("${app.analytics.retention.delete-batch-size:5000}") int deleteBatchSize) {
+        this.rollupRepository = rollupRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.settleLag = Duration.ofMillis(settleLagMillis);
+        this.maxWindow = Duration.ofMillis(maxWindowMillis);
+        this.rawRetention = Duration.ofDays(rawMaxAgeDays);
+        this.deleteBatchSize = deleteBatchSize;
+    }
+
+    /**
+     * Fold all settled raw events into the rollups, one transaction per window
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.rollup.interval:60000}",
+               initialDelayString = "${app.analytics.rollup.interval:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FoldResult foldPending() {
+        LocalDateTime upperBound = LocalDateTime.now().minus(settleLag);
+
+        long eventsFolded = 0;
+        FoldResult window;
+        do {
+            window = newTransaction.execute(status -> foldWindow(upperBound));
+            eventsFolded += window.getEventsFolded();
+        } while (window.getProcessedUpTo().isBefore(upperBound));
+
+        return new FoldResult(eventsFolded, window.getProcessedUpTo());
+    }
+
+    /**
+     * Get the event counts of a restaurant per bucket in [from, to), including empty buckets
+     */
+    @Transactional(readOnly = true)
+    public AnalyticsSeries getSeries(UUID restaurantId, AnalyticsEventType eventType,
+                                     RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = granularity.bucketStart(from);
+        if (!start.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (granularity.getUnit().between(start, to) >= MAX_SERIES_BUCKETS) {
+            throw new IllegalArgumentException("Range must not exceed " + MAX_SERIES_BUCKETS + " buckets");
+        }
+
+        Map<LocalDateTime, Long> counts = new HashMap<>();
+        for (AnalyticsRollup rollup : rollupRepository.findSeries(restaurantId, eventType.getCode(), granularity, start, to)) {
+            counts.put(rollup.getBucketStart(), rollup.getEventCount());
+        }
+
+        List<SeriesPoint> points = new ArrayList<>();
+        long total = 0;
+        for (LocalDateTime bucket = start; bucket.isBefore(to); bucket = bucket.plus(1, granularity.getUnit())) {
+            long count = counts.getOrDefault(bucket, 0L);
+            points.add(new SeriesPoint(bucket, count));
+            total += count;
+        }
+
+        LocalDateTime processedUpTo = watermarkRepository.findById(WATERMARK)
+                .map(AnalyticsRollupWatermark::getProcessedUpTo)
+                .orElse(null);
+        return new AnalyticsSeries(eventType.getCode(), granularity, start, to, processedUpTo, total, points);
+    }
+
+    /**
+     * Delete raw events older than the retention age, never touching events not yet folded
+     */
+    @Scheduled(cron = "${app.analytics.retention.cron:0 30 3 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long pruneRawEvents() {
+        AnalyticsRollupWatermark watermark = watermarkRepository.findById(WATERMARK).orElse(null);
+        if (watermark == null) {
+            return 0;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(rawRetention);
+        if (watermark.getProcessedUpTo().isBefore(cutoff)) {
+            cutoff = watermark.getProcessedUpTo();
+        }
+
+        Timestamp before = Timestamp.valueOf(cutoff);
+        long deleted = 0;
+        int batch;
+        do {
+            batch = jdbcTemplate.update(
+                    "DELETE FROM analytics WHERE id IN (SELECT id FROM analytics WHERE created_at < ? LIMIT ?)",
+                    before, deleteBatchSize);
+            deleted += batch;
+        } while (batch == deleteBatchSize);
+        return deleted;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.getChangeType() == RestaurantChangedEvent.ChangeType.DELETED) {
+            rollupRepository.deleteByRestaurantId(event.getRestaurantId());
+        }
+    }
+
+    private FoldResult foldWindow(LocalDateTime upperBound) {
+        AnalyticsRollupWatermark watermark = lockWatermark(upperBound);
+        LocalDateTime from = watermark.getProcessedUpTo();
+        if (!from.isBefore(upperBound)) {
+            return new FoldResult(0, from);
+        }
+
+        LocalDateTime windowEnd = from.plus(maxWindow);
+        LocalDateTime to = windowEnd.isBefore(upperBound) ? windowEnd : upperBound;
+
+        Map<BucketKey, Long> daily = new HashMap<>();
+        long eventsFolded = 0;
+        for (HourlyCount hourly : countHourly(from, to)) {
+            addToBucket(new BucketKey(hourly.restaurantId, hourly.eventType, hourly.hourStart), RollupGranularity.HOUR, hourly.count);
+            daily.merge(new BucketKey(hourly.restaurantId, hourly.eventType, RollupGranularity.DAY.bucketStart(hourly.hourStart)),
+                    hourly.count, Long::sum);
+            eventsFolded += hourly.count;
+        }
+        daily.forEach((key, count) -> addToBucket(key, RollupGranularity.DAY, count));
+
+        watermark.setProcessedUpTo(to);
+        watermark.setUpdatedAt(LocalDateTime.now());
+        return new FoldResult(eventsFolded, to);
+    }
+
+    private List<HourlyCount> countHourly(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+                "SELECT restaurant_id, event_type, DATE_TRUNC('hour', created_at) AS hour_start, COUNT(*) AS event_count " +
+                "FROM analytics " +
+                "WHERE created_at >= ? AND created_at < ? AND restaurant_id IS NOT NULL " +
+                "GROUP BY restaurant_id, event_type, DATE_TRUNC('hour', created_at)",
+                (rs, rowNum) -> new HourlyCount(
+                        rs.getObject("restaurant_id", UUID.class),
+                        rs.getString("event_type"),
+                        rs.getTimestamp("hour_start").toLocalDateTime(),
+                        rs.getLong("event_count")),
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    private void addToBucket(BucketKey key, RollupGranularity granularity, long count) {
+        // Folds are serialized by the watermark lock, so no other writer can create the bucket meanwhile
+        if (rollupRepository.addToBucket(key.restaurantId, key.eventType, granularity, key.bucketStart, count) == 0) {
+            rollupRepository.save(new AnalyticsRollup(key.restaurantId, key.eventType, granularity, key.bucketStart, count));
+        }
+    }
+
+    private AnalyticsRollupWatermark lockWatermark(LocalDateTime upperBound) {
+        return watermarkRepository.findByIdForUpdate(WATERMARK).orElseGet(() -> {
+            createWatermarkRow(upperBound);
+            return watermarkRepository.findByIdForUpdate(WATERMARK).orElseThrow();
+        });
+    }
+
+    private void createWatermarkRow(LocalDateTime upperBound) {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM analytics", Timestamp.class);
+        LocalDateTime start = oldest != null && oldest.toLocalDateTime().isBefore(upperBound)
+                ? oldest.toLocalDateTime()
+                : upperBound;
+        watermarkRepository.insertIfAbsent(WATERMARK, start, LocalDateTime.now());
+    }
+
+    private static final class HourlyCount {
+        private final UUID restaurantId;
+        private final String eventType;
+        private final LocalDateTime hourStart;
+        private final long count;
+
+        private HourlyCount(UUID restaurantId, String eventType, LocalDateTime hourStart, long count) {
+            this.restaurantId = restaurantId;
+            this.eventType = eventType;
+            this.hourStart = hourStart;
+            this.count = count;
+        }
+    }
+
+    private static final class BucketKey {
+        private final UUID restaurantId;
+        private final String eventType;
+        private final LocalDateTime bucketStart;
+
+        private BucketKey(UUID restaurantId, String eventType, LocalDateTime bucketStart) {
+            this.restaurantId = restaurantId;
+            this.eventType = eventType;
+            this.bucketStart = bucketStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BucketKey other)) return false;
+            return restaurantId.equals(other.restaurantId)
+                    && eventType.equals(other.eventType)
+                    && bucketStart.equals(other.bucketStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(restaurantId, eventType, bucketStart);
+        }
+    }
+
+    /**
+     * Result of folding raw events into the rollups
+     */
+    public static class FoldResult {
+        private final long eventsFolded;
+        private final LocalDateTime processedUpTo;
+
+        public FoldResult(long eventsFolded, LocalDateTime processedUpTo) {
+            this.eventsFolded = eventsFolded;
+            this.processedUpTo = processedUpTo;
+        }
+
+        // Getters
+        public long getEventsFolded() { return eventsFolded; }
+        public LocalDateTime getProcessedUpTo() { return processedUpTo; }
+    }
+
+    /**
+     * Event counts of one restaurant and event type over consecutive buckets
+     */
+    public static class AnalyticsSeries {
+        private final String eventType;
+        private final RollupGranularity granularity;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final LocalDateTime processedUpTo;
+        private final long total;
+        private final List<SeriesPoint> points;
+
+        public AnalyticsSeries(String eventType, RollupGranularity granularity, LocalDateTime from, LocalDateTime to,
+                               LocalDateTime processedUpTo, long total, List<SeriesPoint> points) {
+            this.eventType = eventType;
+            this.granularity = granularity;
+            this.from = from;
+            this.to = to;
+            this.processedUpTo = processedUpTo;
+            this.total = total;
+            this.points = points;
+        }
+
+        // Getters
+        public String getEventType() { return eventType; }
+        public RollupGranularity getGranularity() { return granularity; }
+        public LocalDateTime getFrom() { return from; }
+        public LocalDateTime getTo() { return to; }
+        public LocalDateTime getProcessedUpTo() { return processedUpTo; }
+        public long getTotal() { return total; }
+        public List<SeriesPoint> getPoints() { return points; }
+    }
+
+    /**
+     * Event count of one bucket
+     */
+    public static class SeriesPoint {
+        private final LocalDateTime bucketStart;
+        private final long count;
+
+        public SeriesPoint(LocalDateTime bucketStart, long count) {
+            this.bucketStart = bucketStart;
+            this.count = count;
+        }
+
+        // Getters
+        public LocalDateTime getBucketStart() { return bucketStart; }
+        public long getCount() { return count; }
+    }
+}
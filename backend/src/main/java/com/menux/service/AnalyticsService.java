@@ -0,0 +1,362 @@
+package com.menux.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.menux.entity.AnalyticsEventType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Service for asynchronous analytics event ingestion
+ *
+ * Request threads hand events to a bounded lock-free ring buffer and return immediately;
+ * a single background writer drains the buffer and inserts events into the analytics
+ * table as multi-row batches, flushing when a batch fills up or the flush interval passes.
+ * When the buffer is full, events are dropped, or with the BLOCK policy the producer waits
+ * up to the block timeout for space before dropping.
+ *
+ * Rows are stamped when their batch is written, and the insert may run for at most half the
+ * rollup settle lag, so a row is always committed before the rollup fold can pass its
+ * creation time.
+ */
+@Service
+public class AnalyticsService {
+
+    /**
+     * What a producer does when the buffer is full
+     */
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsService.class);
+
+    private static final String[] COLUMNS = {
+        "id", "restaurant_id", "event_type", "event_data", "ip_address", "user_agent", "created_at"
+    };
+    private static final int MAX_USER_AGENT_LENGTH = 512;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final int writeTimeoutSeconds;
+    private final EventRingBuffer<PendingEvent> buffer;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private final Map<Integer, String> insertSqlBySize = new HashMap<>();
+    private String[] placeholders;
+    private volatile boolean running;
+    private Thread writer;
+
+    @Autowired
+    public AnalyticsService(JdbcTemplate jdbcTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${app.analytics.enabled:true}") boolean enabled,
+                            @Value("${app.analytics.buffer-capacity:8192}") int bufferCapacity,
+                            @Value("${app.analytics.batch-size:500}") int batchSize,
+                            @Value("${app.analytics.flush-interval:1000}") long flushIntervalMillis,
+                            @Value("${app.analytics.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+                            @Value("${app.analytics.block-timeout:5}") long blockTimeoutMillis,
+                            @Value("${app.analytics.rollup.settle-lag:120000}") long settleLagMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+        this.writeTimeoutSeconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(settleLagMillis / 2));
+        this.buffer = new EventRingBuffer<>(bufferCapacity);
+    }
+
+    @PostConstruct
+    void startWriter() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "analytics-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stopWriter() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * Record an event, capturing the client address and user agent of the current request
+     */
+    public void record(AnalyticsEventType type, UUID restaurantId, Map<String, ?> data) {
+        if (!enabled) {
+            return;
+        }
+
+        String ipAddress = null;
+        String userAgent = null;
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            ipAddress = clientAddress(request);
+            userAgent = truncate(request.getHeader("User-Agent"), MAX_USER_AGENT_LENGTH);
+        }
+
+        enqueue(new PendingEvent(type, restaurantId, data, ipAddress, userAgent));
+    }
+
+    /**
+     * Get ingestion counters
+     */
+    public IngestionStats getStats() {
+        return new IngestionStats(accepted.get(), dropped.get(), written.get(), failed.get(), buffer.size(), buffer.capacity());
+    }
+
+    private void enqueue(PendingEvent event) {
+        if (buffer.offer(event)) {
+            accepted.incrementAndGet();
+            return;
+        }
+
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            while (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+                if (buffer.offer(event)) {
+                    accepted.incrementAndGet();
+                    return;
+                }
+            }
+        }
+        dropped.incrementAndGet();
+    }
+
+    private void runWriter() {
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        long idleParkNanos = Math.min(flushIntervalNanos, TimeUnit.MILLISECONDS.toNanos(10));
+        long lastFlush = System.nanoTime();
+
+        while (running || buffer.size() > 0) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            boolean due = System.nanoTime() - lastFlush >= flushIntervalNanos;
+
+            if (batch.size() >= batchSize || (due && !batch.isEmpty())) {
+                flush(batch);
+                batch.clear();
+                lastFlush = System.nanoTime();
+            } else if (due) {
+                lastFlush = System.nanoTime();
+            } else {
+                LockSupport.parkNanos(idleParkNanos);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<PendingEvent> batch) {
+        try {
+            Timestamp writtenAt = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.update(insertSql(batch.size()), statement -> {
+                statement.setQueryTimeout(writeTimeoutSeconds);
+                int index = 1;
+                for (PendingEvent event : batch) {
+                    statement.setObject(index++, UUID.randomUUID());
+                    statement.setObject(index++, event.restaurantId);
+                    statement.setString(index++, event.type.getCode());
+                    statement.setString(index++, toJson(event.data));
+                    statement.setString(index++, event.ipAddress);
+                    statement.setString(index++, event.userAgent);
+                    statement.setTimestamp(index++, writtenAt);
+                }
+            });
+            written.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            failed.addAndGet(batch.size());
+            logger.warn("Failed to write {} analytics events", batch.size(), e);
+        }
+    }
+
+    private String insertSql(int rows) {
+        return insertSqlBySize.computeIfAbsent(rows, size -> {
+            String row = "(" + String.join(", ", resolvePlaceholders()) + ")";
+            StringBuilder sql = new StringBuilder("INSERT INTO analytics (")
+                    .append(String.join(", ", COLUMNS))
+                    .append(") VALUES ");
+            for (int i = 0; i < size; i++) {
+                sql.append(i == 0 ? "" : ", ").append(row);
+            }
+            return sql.toString();
+        });
+    }
+
+    /**
+     * Bind parameters with casts matching the actual column types (jsonb/inet on PostgreSQL)
+     */
+    private String[] resolvePlaceholders() {
+        if (placeholders != null) {
+            return placeholders;
+        }
+
+        Map<String, String> columnTypes = new HashMap<>();
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : new String[] {"analytics", "ANALYTICS"}) {
+                try (ResultSet columns = metaData.getColumns(null, null, table, null)) {
+                    while (columns.next()) {
+                        columnTypes.put(columns.getString("COLUMN_NAME").toLowerCase(Locale.ROOT),
+                                columns.getString("TYPE_NAME").toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return metaData.getDatabaseProductName();
+        });
+
+        String[] resolved = new String[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            String type = columnTypes.getOrDefault(COLUMNS[i], "");
+            if (type.equals("jsonb") || type.equals("inet")) {
+                resolved[i] = "CAST(? AS " + type + ")";
+            } else if (type.equals("json")) {
+                resolved[i] = "H2".equalsIgnoreCase(product) ? "? FORMAT JSON" : "CAST(? AS json)";
+            } else {
+                resolved[i] = "?";
+            }
+        }
+        placeholders = resolved;
+        return resolved;
+    }
+
+    private String toJson(Map<String, ?> data) {
+        if (data == null || data.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Client address as resolved by the server; X-Forwarded-For is only honoured from trusted
+     * proxies through server.forward-headers-strategy, never read here directly
+     */
+    private static String clientAddress(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        return isIpLiteral(address) ? address : null;
+    }
+
+    /**
+     * Only IP literals are stored, so a malformed header can never fail an inet batch insert
+     */
+    private static boolean isIpLiteral(String address) {
+        if (address == null || address.isEmpty() || address.length() > 45) {
+            return false;
+        }
+        if (address.indexOf(':') >= 0) {
+            return address.chars().allMatch(c -> Character.digit(c, 16) >= 0 || c == ':' || c == '.');
+        }
+        String[] octets = address.split("\\.", -1);
+        if (octets.length != 4) {
+            return false;
+        }
+        for (String octet : octets) {
+            if (octet.isEmpty() || octet.length() > 3 || !octet.chars().allMatch(Character::isDigit)
+                    || Integer.parseInt(octet) > 255) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    private static final class PendingEvent {
+        private final AnalyticsEventType type;
+        private final UUID restaurantId;
+        private final Map<String, ?> data;
+        private final String ipAddress;
+        private final String userAgent;
+
+        private PendingEvent(AnalyticsEventType type, UUID restaurantId, Map<String, ?> data,
+                             String ipAddress, String userAgent) {
+            this.type = type;
+            this.restaurantId = restaurantId;
+            this.data = data;
+            this.ipAddress = ipAddress;
+            this.userAgent = userAgent;
+        }
+    }
+
+    /**
+     * Analytics ingestion counters
+     */
+    public static class IngestionStats {
+        private final long accepted;
+        private final long dropped;
+        private final long written;
+        private final long failed;
+        private final int buffered;
+        private final int capacity;
+
+        public IngestionStats(long accepted, long dropped, long written, long failed, int buffered, int capacity) {
+            this.accepted = accepted;
+            this.dropped = dropped;
+            this.written = written;
+            this.failed = failed;
+            this.buffered = buffered;
+            this.capacity = capacity;
+        }
+
+        // Getters
+        public long getAccepted() { return accepted; }
+        public long getDropped() { return dropped; }
+        public long getWritten() { return written; }
+        public long getFailed() { return failed; }
+        public int getBuffered() { return buffered; }
+        public int getCapacity() { return capacity; }
+    }
+}
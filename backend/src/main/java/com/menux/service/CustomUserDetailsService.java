@@ -1,6 +1,8 @@
 package com.menux.service;
 
+import com.menux.config.ReplicaRoutingDataSource;
 import com.menux.entity.User;
+import com.menux.entity.UserRole;
 import com.menux.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
@@ -13,6 +15,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Custom UserDetailsService implementation for Spring Security
@@ -21,46 +25,97 @@ import java.util.Collections;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserStatusCache userStatusCache;
 
     @Autowired
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, UserStatusCache userStatusCache) {
         this.userRepository = userRepository;
+        this.userStatusCache = userStatusCache;
     }
 
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmailAndIsActive(email, true)
+        // A user may log in right after registering, before the replica has the account
+        User user = ReplicaRoutingDataSource.onPrimary(() -> userRepository.findByEmailAndIsActive(email, true))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
         return new CustomUserPrincipal(user);
     }
 
+    /**
+     * Build a principal from verified token claims without loading the user entity.
+     * Returns empty when the claims are incomplete so callers can fall back to
+     * {@link #loadUserByUsername(String)}.
+     */
+    public Optional<UserDetails> loadUserFromTokenClaims(String email, String userId, String role) {
+        if (email == null || userId == null || role == null) {
+            return Optional.empty();
+        }
+
+        UUID id;
+        UserRole userRole;
+        try {
+            id = UUID.fromString(userId);
+            userRole = UserRole.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        if (!userStatusCache.isActive(id)) {
+            throw new UsernameNotFoundException("User not found with email: " + email);
+        }
+
+        return Optional.of(new CustomUserPrincipal(id, email, userRole));
+    }
+
     /**
      * Custom UserDetails implementation
      */
     public static class CustomUserPrincipal implements UserDetails {
+        private final UUID userId;
+        private final String email;
+        private final String passwordHash;
+        private final UserRole role;
+        private final boolean active;
         private final User user;
 
         public CustomUserPrincipal(User user) {
+            this.userId = user.getId();
+            this.email = user.getEmail();
+            this.passwordHash = user.getPasswordHash();
+            this.role = user.getRole();
+            this.active = Boolean.TRUE.equals(user.getIsActive());
             this.user = user;
         }
 
+        /**
+         * Principal built from token claims; carries no password and no user entity
+         */
+        public CustomUserPrincipal(UUID userId, String email, UserRole role) {
+            this.userId = userId;
+            this.email = email;
+            this.passwordHash = null;
+            this.role = role;
+            this.active = true;
+            this.user = null;
+        }
+
         @Override
         public Collection<? extends GrantedAuthority> getAuthorities() {
             return Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
+                new SimpleGrantedAuthority("ROLE_" + role.name())
             );
         }
 
         @Override
         public String getPassword() {
-            return user.getPasswordHash();
+            return passwordHash;
         }
 
         @Override
         public String getUsername() {
-            return user.getEmail();
+            return email;
         }
 
         @Override
@@ -80,9 +135,20 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         @Override
         public boolean isEnabled() {
-            return user.getIsActive();
+            return active;
+        }
+
+        public UUID getUserId() {
+            return userId;
+        }
+
+        public UserRole getRole() {
+            return role;
         }
 
+        /**
+         * Loaded user entity, or null when the principal was built from token claims
+         */
         public User getUser() {
             return user;
         }
@@ -0,0 +1,187 @@
+package com.menux.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.menux.dto.FeedbackResponse;
+import com.menux.dto.OrderSummaryResponse;
+import com.menux.repository.FeedbackRepository;
+import com.menux.repository.OrderRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Service exporting the order and feedback history of a restaurant as CSV or NDJSON
+ *
+ * Rows are streamed from a forward-only cursor inside a read-only transaction and written to
+ * the output as they arrive, so memory use does not depend on the size of the history.
+ */
+@Service
+public class ExportService {
+
+    /**
+     * Output formats of an export
+     */
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * Lower bound of an export without a start date
+     */
+    public static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private static final List<String> ORDER_COLUMNS = List.of("id", "table_number", "customer_name", "customer_phone",
+            "status", "total_amount", "special_instructions", "created_at", "updated_at");
+    private static final List<String> FEEDBACK_COLUMNS = List.of("id", "order_id", "customer_name", "rating", "comment",
+            "sentiment", "sentiment_score", "created_at");
+
+    private final OrderRepository orderRepository;
+    private final FeedbackRepository feedbackRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Autowired
+    public ExportService(OrderRepository orderRepository, FeedbackRepository feedbackRepository,
+                         ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.feedbackRepository = feedbackRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Write the orders of a restaurant created in [from, to), oldest first
+     */
+    public void writeOrders(UUID restaurantId, LocalDateTime from, LocalDateTime to, Format format, boolean gzip,
+                            OutputStream outputStream) throws IOException {
+        write(() -> orderRepository.streamSummariesByRestaurantIdAndCreatedAtBetween(restaurantId, from, to)
+                        .map(OrderSummaryResponse::new),
+                ORDER_COLUMNS,
+                order -> new Object[] {order.getId(), order.getTableNumber(), order.getCustomerName(), order.getCustomerPhone(),
+                        order.getStatus() != null ? order.getStatus().name() : null, order.getTotalAmount(),
+                        order.getSpecialInstructions(), order.getCreatedAt(), order.getUpdatedAt()},
+                format, gzip, outputStream);
+    }
+
+    /**
+     * Write the feedback of a restaurant created in [from, to), oldest first
+     */
+    public void writeFeedback(UUID restaurantId, LocalDateTime from, LocalDateTime to, Format format, boolean gzip,
+                              OutputStream outputStream) throws IOException {
+        write(() -> feedbackRepository.streamViewsByRestaurantIdAndCreatedAtBetween(restaurantId, from, to)
+                        .map(FeedbackResponse::new),
+                FEEDBACK_COLUMNS,
+                feedback -> new Object[] {feedback.getId(), feedback.getOrderId(), feedback.getCustomerName(),
+                        feedback.getRating(), feedback.getComment(),
+                        feedback.getSentiment() != null ? feedback.getSentiment().name() : null,
+                        feedback.getSentimentScore(), feedback.getCreatedAt()},
+                format, gzip, outputStream);
+    }
+
+    private <T> void write(Supplier<Stream<T>> rows, List<String> columns, Function<T, Object[]> values,
+                           Format format, boolean gzip, OutputStream outputStream) throws IOException {
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(compressed != null ? compressed : outputStream,
+                StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<T> stream = rows.get()) {
+                    if (format == Format.CSV) {
+                        writeCsvRow(writer, columns.toArray());
+                    }
+                    stream.forEach(row -> {
+                        try {
+                            if (format == Format.CSV) {
+                                writeCsvRow(writer, values.apply(row));
+                            } else {
+                                writer.write(objectMapper.writeValueAsString(row));
+                                writer.write('\n');
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (compressed != null) {
+            compressed.finish();
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Write the body of a rejected export in the same shape as the error responses of other endpoints
+     */
+    public void writeError(String message, OutputStream outputStream) throws IOException {
+        outputStream.write(objectMapper.writeValueAsBytes(Map.of("error", message)));
+    }
+
+    /**
+     * Quote a CSV field when needed, and neutralize text a spreadsheet would run as a formula
+     */
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        boolean quote = text.chars().anyMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r');
+        return quote ? '"' + text.replace("\"", "\"\"") + '"' : text;
+    }
+}
@@ -0,0 +1,116 @@
+package com.menux.service;
+
+import com.menux.dto.CursorPage;
+import com.menux.dto.FeedbackRequest;
+import com.menux.dto.KeysetCursor;
+import com.menux.entity.Feedback;
+import com.menux.entity.Order;
+import com.menux.entity.Restaurant;
+import com.menux.entity.SentimentType;
+import com.menux.exception.ResourceNotFoundException;
+import com.menux.repository.FeedbackRepository;
+import com.menux.repository.FeedbackSummaryDelta;
+import com.menux.repository.OrderRepository;
+import com.menux.repository.RestaurantRepository;
+import com.menux.repository.projection.FeedbackListView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service class for Feedback entity operations
+ */
+@Service
+@Transactional
+public class FeedbackService {
+
+    private final FeedbackRepository feedbackRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final OrderRepository orderRepository;
+    private final FeedbackSummaryService feedbackSummaryService;
+
+    @Autowired
+    public FeedbackService(FeedbackRepository feedbackRepository,
+                           RestaurantRepository restaurantRepository,
+                           OrderRepository orderRepository,
+                           FeedbackSummaryService feedbackSummaryService) {
+        this.feedbackRepository = feedbackRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.orderRepository = orderRepository;
+        this.feedbackSummaryService = feedbackSummaryService;
+    }
+
+    /**
+     * Submit customer feedback for an active restaurant
+     */
+    public Feedback submitFeedback(FeedbackRequest request) {
+        Restaurant restaurant = restaurantRepository.findById(request.getRestaurantId())
+                .filter(Restaurant::getIsActive)
+                .orElseThrow(() -> new ResourceNotFoundException("Restaurant not found with id: " + request.getRestaurantId()));
+
+        Feedback feedback = new Feedback(restaurant, request.getRating(), request.getComment());
+        feedback.setCustomerName(request.getCustomerName());
+        feedback.setCustomerEmail(request.getCustomerEmail());
+        feedback.setIsAnonymous(Boolean.TRUE.equals(request.getIsAnonymous()));
+
+        if (request.getOrderId() != null) {
+            Order order = orderRepository.findById(request.getOrderId())
+                    .filter(o -> o.getRestaurant().getId().equals(restaurant.getId()))
+                    .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + request.getOrderId()));
+            feedback.setOrder(order);
+        }
+
+        Feedback savedFeedback = feedbackRepository.save(feedback);
+        feedbackSummaryService.applyDelta(restaurant.getId(),
+                FeedbackSummaryDelta.forNewFeedback(savedFeedback.getRating(), savedFeedback.getSentiment()));
+        return savedFeedback;
+    }
+
+    /**
+     * Record the sentiment classification of a feedback entry
+     */
+    public Feedback updateSentiment(UUID feedbackId, SentimentType sentiment, BigDecimal sentimentScore) {
+        Feedback feedback = feedbackRepository.findById(feedbackId)
+                .orElseThrow(() -> new ResourceNotFoundException("Feedback not found with id: " + feedbackId));
+
+        SentimentType previous = feedback.getSentiment();
+        feedback.setSentiment(sentiment);
+        feedback.setSentimentScore(sentimentScore);
+
+        if (previous != sentiment) {
+            feedbackSummaryService.applyDelta(feedback.getRestaurant().getId(),
+                    FeedbackSummaryDelta.forSentimentChange(previous, sentiment));
+        }
+        return feedback;
+    }
+
+    /**
+     * Get recent feedback by restaurant with offset pagination
+     */
+    @Transactional(readOnly = true)
+    public Page<FeedbackListView> getRecentFeedback(UUID restaurantId, Pageable pageable) {
+        return feedbackRepository.findRecentViewsByRestaurantId(restaurantId, pageable);
+    }
+
+    /**
+     * Get recent feedback by restaurant with keyset pagination, newest first
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<FeedbackListView> getRecentFeedback(UUID restaurantId, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+
+        List<FeedbackListView> rows = position == null
+                ? feedbackRepository.findRecentViewsByRestaurantIdFirstPage(restaurantId, limit)
+                : feedbackRepository.findRecentViewsByRestaurantIdAfter(restaurantId, position.getCreatedAt(), position.getId(), limit);
+
+        return CursorPage.fromRows(rows, size, row -> new KeysetCursor(row.getCreatedAt(), row.getId()));
+    }
+}
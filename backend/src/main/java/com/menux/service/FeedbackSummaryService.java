@@ -0,0 +1,175 @@
+package com.menux.service;
+
+import com.menux.entity.FeedbackSummary;
+import com.menux.event.RestaurantChangedEvent;
+import com.menux.repository.FeedbackRepository;
+import com.menux.repository.FeedbackSummaryDelta;
+import com.menux.repository.FeedbackSummaryRepository;
+import com.menux.repository.projection.FeedbackCountsView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service maintaining per-restaurant feedback aggregates
+ *
+ * Each feedback write adds a delta to the restaurant's summary row in the same transaction,
+ * so reading a summary is a primary-key lookup. A missing row is inserted with ON CONFLICT DO
+ * NOTHING in that transaction too, so a write never needs a second connection. A rebuild recomputes rows from the
+ * feedback table and reports any drift it corrected.
+ */
+@Service
+@Transactional
+public class FeedbackSummaryService {
+
+    private final FeedbackSummaryRepository feedbackSummaryRepository;
+    private final FeedbackRepository feedbackRepository;
+    private final TransactionTemplate newTransaction;
+
+    @Autowired
+    public FeedbackSummaryService(FeedbackSummaryRepository feedbackSummaryRepository,
+                                  FeedbackRepository feedbackRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.feedbackSummaryRepository = feedbackSummaryRepository;
+        this.feedbackRepository = feedbackRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Apply a delta to the summary of a restaurant, creating the summary row on first use
+     */
+    public void applyDelta(UUID restaurantId, FeedbackSummaryDelta delta) {
+        if (feedbackSummaryRepository.applyDelta(restaurantId, delta, LocalDateTime.now()) == 0) {
+            feedbackSummaryRepository.insertIfAbsent(restaurantId, LocalDateTime.now());
+            feedbackSummaryRepository.applyDelta(restaurantId, delta, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Get the summary of a restaurant; restaurants without feedback get an empty summary
+     */
+    @Transactional(readOnly = true)
+    public FeedbackSummary getSummary(UUID restaurantId) {
+        return feedbackSummaryRepository.findById(restaurantId)
+                .orElseGet(() -> new FeedbackSummary(restaurantId));
+    }
+
+    /**
+     * Recompute the summary of one restaurant from the feedback table
+     *
+     * @return true if the maintained summary differed from the recomputed one
+     */
+    public boolean rebuild(UUID restaurantId) {
+        FeedbackSummary summary = feedbackSummaryRepository.findByIdForUpdate(restaurantId).orElse(null);
+        if (summary == null) {
+            feedbackSummaryRepository.insertIfAbsent(restaurantId, LocalDateTime.now());
+            summary = feedbackSummaryRepository.findByIdForUpdate(restaurantId).orElseThrow();
+        }
+
+        FeedbackSummary recomputed = new FeedbackSummary(restaurantId);
+        feedbackRepository.countBucketsByRestaurantId(restaurantId)
+                .ifPresent(counts -> copyCounts(counts, recomputed));
+
+        boolean drifted = !sameCounts(summary, recomputed);
+        if (drifted) {
+            copyCounts(recomputed, summary);
+            summary.setUpdatedAt(LocalDateTime.now());
+        }
+        return drifted;
+    }
+
+    /**
+     * Recompute the summaries of all restaurants, one transaction per restaurant
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RebuildResult rebuildAll() {
+        Set<UUID> restaurantIds = new LinkedHashSet<>(feedbackRepository.findDistinctRestaurantIds());
+        restaurantIds.addAll(feedbackSummaryRepository.findAllRestaurantIds());
+
+        int corrected = 0;
+        for (UUID restaurantId : restaurantIds) {
+            if (Boolean.TRUE.equals(newTransaction.execute(status -> rebuild(restaurantId)))) {
+                corrected++;
+            }
+        }
+        return new RebuildResult(restaurantIds.size(), corrected);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.getChangeType() == RestaurantChangedEvent.ChangeType.DELETED) {
+            feedbackSummaryRepository.deleteById(event.getRestaurantId());
+        }
+    }
+
+    private static void copyCounts(FeedbackCountsView counts, FeedbackSummary target) {
+        target.setFeedbackCount(counts.getFeedbackCount());
+        target.setRatingCount(counts.getRatingCount());
+        target.setRatingSum(counts.getRatingSum());
+        target.setRating1Count(counts.getRating1Count());
+        target.setRating2Count(counts.getRating2Count());
+        target.setRating3Count(counts.getRating3Count());
+        target.setRating4Count(counts.getRating4Count());
+        target.setRating5Count(counts.getRating5Count());
+        target.setPositiveCount(counts.getPositiveCount());
+        target.setNeutralCount(counts.getNeutralCount());
+        target.setNegativeCount(counts.getNegativeCount());
+    }
+
+    private static void copyCounts(FeedbackSummary source, FeedbackSummary target) {
+        target.setFeedbackCount(source.getFeedbackCount());
+        target.setRatingCount(source.getRatingCount());
+        target.setRatingSum(source.getRatingSum());
+        target.setRating1Count(source.getRating1Count());
+        target.setRating2Count(source.getRating2Count());
+        target.setRating3Count(source.getRating3Count());
+        target.setRating4Count(source.getRating4Count());
+        target.setRating5Count(source.getRating5Count());
+        target.setPositiveCount(source.getPositiveCount());
+        target.setNeutralCount(source.getNeutralCount());
+        target.setNegativeCount(source.getNegativeCount());
+    }
+
+    private static boolean sameCounts(FeedbackSummary a, FeedbackSummary b) {
+        return a.getFeedbackCount() == b.getFeedbackCount()
+                && a.getRatingCount() == b.getRatingCount()
+                && a.getRatingSum() == b.getRatingSum()
+                && a.getRating1Count() == b.getRating1Count()
+                && a.getRating2Count() == b.getRating2Count()
+                && a.getRating3Count() == b.getRating3Count()
+                && a.getRating4Count() == b.getRating4Count()
+                && a.getRating5Count() == b.getRating5Count()
+                && a.getPositiveCount() == b.getPositiveCount()
+                && a.getNeutralCount() == b.getNeutralCount()
+                && a.getNegativeCount() == b.getNegativeCount();
+    }
+
+    /**
+     * Result of a summary rebuild
+     */
+    public static class RebuildResult {
+        private final int restaurantsRebuilt;
+        private final int summariesCorrected;
+
+        public RebuildResult(int restaurantsRebuilt, int summariesCorrected) {
+            this.restaurantsRebuilt = restaurantsRebuilt;
+            this.summariesCorrected = summariesCorrected;
+        }
+
+        // Getters
+        public int getRestaurantsRebuilt() { return restaurantsRebuilt; }
+        public int getSummariesCorrected() { return summariesCorrected; }
+    }
+}
@@ -0,0 +1,321 @@
+package com.menux.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.menux.config.ReplicaRoutingDataSource;
+import com.menux.entity.IdempotencyRecord;
+import com.menux.exception.IdempotencyInProgressException;
+import com.menux.repository.IdempotencyRecordRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Service executing client submissions at most once per Idempotency-Key
+ *
+ * Executions are shared through a bounded in-memory map of futures, so duplicates arriving
+ * on this instance wait for the first execution. The idempotency_keys table claims keys across
+ * instances and keeps successful responses for replay after the in-memory entry is evicted.
+ * A claim is leased for the wait timeout and renewed while its action runs, so the key of an
+ * instance that died mid-execution frees up quickly while a slow execution keeps its key; it is
+ * kept for the full TTL once completed. Each claim carries a random token, and completing or
+ * releasing a key only touches the row of that claim, never one taken over by another
+ * execution. Failed executions release their key so the client can retry.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_INTERVAL_MILLIS = 50;
+    private static final String IN_PROGRESS_MESSAGE = "A request with the same " + HEADER + " is still being processed";
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate newTransaction;
+    private final Cache<String, CompletableFuture<StoredResponse>> executions;
+    private final Duration ttl;
+    private final Duration lease;
+    private final long waitTimeoutMillis;
+    private final ScheduledExecutorService leaseRenewer;
+
+    @Autowired
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.idempotency.max-size:100000}") long maxSize,
+                              @Value("${app.idempotency.ttl:86400000}") long ttlMillis,
+                              @Value("${app.idempotency.wait-timeout:10000}") long waitTimeoutMillis) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .build();
+        this.ttl = Duration.ofMillis(ttlMillis);
+        this.lease = Duration.ofMillis(waitTimeoutMillis);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("idempotency-lease-");
+        threadFactory.setDaemon(true);
+        this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    /**
+     * Execute an action once for a key within a scope, replaying the stored response for repeats.
+     * Without a key the action simply runs.
+     */
+    public ResponseEntity<?> execute(String scope, String idempotencyKey, Object request,
+                                     Supplier<ResponseEntity<?>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters"));
+        }
+
+        String keyHash = sha256(scope + "\n" + idempotencyKey);
+        String requestHash = sha256(toJson(request));
+
+        CompletableFuture<StoredResponse> execution = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> inFlight = executions.asMap().putIfAbsent(keyHash, execution);
+        if (inFlight != null) {
+            return await(inFlight, requestHash);
+        }
+
+        String claimToken = UUID.randomUUID().toString();
+        try {
+            Optional<StoredResponse> recorded = claim(keyHash, requestHash, claimToken);
+            if (recorded.isPresent()) {
+                execution.complete(recorded.get());
+                return replay(recorded.get(), requestHash);
+            }
+        } catch (RuntimeException e) {
+            executions.asMap().remove(keyHash, execution);
+            execution.completeExceptionally(e);
+            throw e;
+        }
+
+        long renewIntervalMillis = Math.max(1, lease.toMillis() / 3);
+        ScheduledFuture<?> renewal = leaseRenewer.scheduleWithFixedDelay(() -> renewLease(keyHash, claimToken),
+                renewIntervalMillis, renewIntervalMillis, TimeUnit.MILLISECONDS);
+        try {
+            ResponseEntity<?> response;
+            try {
+                response = action.get();
+            } catch (RuntimeException e) {
+                release(keyHash, claimToken, execution);
+                throw e;
+            }
+
+            StoredResponse stored = new StoredResponse(requestHash, response.getStatusCode().value(), toJson(response.getBody()));
+            if (response.getStatusCode().is2xxSuccessful()) {
+                Integer completed = newTransaction.execute(status ->
+                    idempotencyRecordRepository.complete(keyHash, claimToken, stored.getStatusCode(), stored.getBody(),
+                            LocalDateTime.now().plus(ttl)));
+                if (completed == null || completed == 0) {
+                    logger.warn("Idempotency claim was taken over while its action ran; the response was not recorded");
+                }
+            } else {
+                // Only successes are remembered; a rejected request may be corrected and retried
+                release(keyHash, claimToken, execution);
+            }
+            execution.complete(stored);
+            return response;
+        } catch (RuntimeException | Error e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            renewal.cancel(false);
+            // Never leave a failed execution behind for duplicates to wait on; an unfinished
+            // claim row is left to its lease
+            if (execution.isCompletedExceptionally()) {
+                executions.asMap().remove(keyHash, execution);
+            }
+        }
+    }
+
+    /**
+     * Periodically delete expired records
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:3600000}",
+               initialDelayString = "${app.idempotency.purge-interval:3600000}")
+    public void purgeExpired() {
+        Integer deleted = newTransaction.execute(status ->
+            idempotencyRecordRepository.deleteExpired(LocalDateTime.now()));
+        if (deleted != null && deleted > 0) {
+            logger.debug("Purged {} expired idempotency records", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseRenewer.shutdownNow();
+    }
+
+    /**
+     * Claim a key in the table, or return the response recorded for it by an earlier execution.
+     * A claim whose lease ran out is taken over.
+     */
+    private Optional<StoredResponse> claim(String keyHash, String requestHash, String claimToken) {
+        long deadline = System.currentTimeMillis() + waitTimeoutMillis;
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            try {
+                newTransaction.executeWithoutResult(status ->
+                    idempotencyRecordRepository.claim(keyHash, requestHash, claimToken, now, now.plus(lease)));
+                return Optional.empty();
+            } catch (DataIntegrityViolationException e) {
+                // Claimed before, possibly by another instance
+            }
+
+            // The claim was just refused by the primary, so a replica may not have the record yet
+            Optional<IdempotencyRecord> record = ReplicaRoutingDataSource.onPrimary(() ->
+                    idempotencyRecordRepository.findById(keyHash));
+            if (record.isPresent() && record.get().getExpiresAt().isBefore(now)) {
+                newTransaction.executeWithoutResult(status ->
+                    idempotencyRecordRepository.deleteIfExpiredBefore(keyHash, now));
+                continue;
+            }
+            if (record.isPresent() && record.get().isCompleted()) {
+                IdempotencyRecord completed = record.get();
+                return Optional.of(new StoredResponse(completed.getRequestHash(), completed.getStatusCode(),
+                        completed.getResponseBody()));
+            }
+            if (record.isPresent() && System.currentTimeMillis() >= deadline) {
+                throw new IdempotencyInProgressException(IN_PROGRESS_MESSAGE);
+            }
+            if (record.isPresent()) {
+                sleep(POLL_INTERVAL_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Extend the lease of a claim whose action is still running
+     */
+    private void renewLease(String keyHash, String claimToken) {
+        try {
+            newTransaction.executeWithoutResult(status ->
+                idempotencyRecordRepository.renew(keyHash, claimToken, LocalDateTime.now().plus(lease)));
+        } catch (RuntimeException e) {
+            logger.debug("Failed to renew idempotency claim: {}", e.getMessage());
+        }
+    }
+
+    private void release(String keyHash, String claimToken, CompletableFuture<StoredResponse> execution) {
+        executions.asMap().remove(keyHash, execution);
+        newTransaction.executeWithoutResult(status ->
+            idempotencyRecordRepository.release(keyHash, claimToken));
+    }
+
+    private ResponseEntity<?> await(CompletableFuture<StoredResponse> inFlight, String requestHash) {
+        try {
+            return replay(inFlight.get(waitTimeoutMillis, TimeUnit.MILLISECONDS), requestHash);
+        } catch (TimeoutException e) {
+            throw new IdempotencyInProgressException(IN_PROGRESS_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyInProgressException(IN_PROGRESS_MESSAGE);
+        }
+    }
+
+    private ResponseEntity<?> replay(StoredResponse stored, String requestHash) {
+        if (!stored.getRequestHash().equals(requestHash)) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(Map.of("error", HEADER + " was already used for a different request"));
+        }
+        return ResponseEntity.status(stored.getStatusCode())
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(REPLAYED_HEADER, "true")
+            .body(stored.getBody().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize idempotent payload", e);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyInProgressException(IN_PROGRESS_MESSAGE);
+        }
+    }
+
+    /**
+     * Response recorded for a key
+     */
+    private static class StoredResponse {
+        private final String requestHash;
+        private final int statusCode;
+        private final String body;
+
+        StoredResponse(String requestHash, int statusCode, String body) {
+            this.requestHash = requestHash;
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+
+        // Getters
+        String getRequestHash() { return requestHash; }
+        int getStatusCode() { return statusCode; }
+        String getBody() { return body; }
+    }
+}
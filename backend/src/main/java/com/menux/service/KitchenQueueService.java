@@ -0,0 +1,325 @@
+package com.menux.service;
+
+import com.menux.entity.OrderStatus;
+import com.menux.event.OrderChangedEvent;
+import com.menux.event.RestaurantChangedEvent;
+import com.menux.repository.OrderRepository;
+import com.menux.repository.projection.KitchenLineView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Service keeping the open orders of every restaurant in memory for kitchen displays
+ *
+ * Each restaurant has a skip list of immutable tickets ordered by status (orders in preparation
+ * first, then confirmed, then pending) and age, plus an index by order id. The queues are loaded
+ * from the database in one query at startup and kept current from order events; a periodic
+ * resync picks up changes made by other nodes. Reads iterate the skip list without locking.
+ */
+@Service
+public class KitchenQueueService {
+
+    private static final Logger logger = LoggerFactory.getLogger(KitchenQueueService.class);
+
+    /**
+     * Statuses of orders still waiting on the kitchen
+     */
+    public static final Set<OrderStatus> OPEN_STATUSES =
+            Collections.unmodifiableSet(EnumSet.of(OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.PREPARING));
+
+    private static final Comparator<KitchenTicket> QUEUE_ORDER = Comparator
+            .comparingInt((KitchenTicket ticket) -> priorityOf(ticket.getStatus()))
+            .thenComparing(KitchenTicket::getCreatedAt)
+            .thenComparing(KitchenTicket::getOrderId);
+
+    private final OrderRepository orderRepository;
+    private final ConcurrentMap<UUID, KitchenQueue> queues = new ConcurrentHashMap<>();
+    private volatile Set<UUID> changedDuringLoad;
+
+    @Autowired
+    public KitchenQueueService(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    /**
+     * Open orders of a restaurant in cooking order, optionally restricted to the lines of one
+     * menu category (a kitchen station)
+     */
+    public List<KitchenTicket> getQueue(UUID restaurantId, UUID categoryId, int limit) {
+        KitchenQueue queue = queues.get(restaurantId);
+        if (queue == null) {
+            return List.of();
+        }
+
+        List<KitchenTicket> tickets = new ArrayList<>();
+        for (KitchenTicket ticket : queue.tickets) {
+            if (tickets.size() >= limit) {
+                break;
+            }
+            KitchenTicket view = categoryId == null ? ticket : ticket.forCategory(categoryId);
+            if (view != null) {
+                tickets.add(view);
+            }
+        }
+        return tickets;
+    }
+
+    /**
+     * Number of open orders of a restaurant
+     */
+    public int getOpenOrderCount(UUID restaurantId) {
+        KitchenQueue queue = queues.get(restaurantId);
+        return queue == null ? 0 : queue.byOrderId.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * Rebuild every queue from the database, keeping the state of orders changed while loading
+     */
+    @Scheduled(fixedDelayString = "${app.kitchen.resync-interval:300000}",
+               initialDelayString = "${app.kitchen.resync-interval:300000}")
+    public void reload() {
+        Set<UUID> changed = ConcurrentHashMap.newKeySet();
+        changedDuringLoad = changed;
+        try {
+            Map<UUID, List<KitchenTicket>> loaded = new HashMap<>();
+            for (KitchenTicket ticket : toTickets(orderRepository.findKitchenLinesByStatusIn(OPEN_STATUSES))) {
+                loaded.computeIfAbsent(ticket.getRestaurantId(), id -> new ArrayList<>()).add(ticket);
+            }
+
+            for (UUID restaurantId : queues.keySet()) {
+                loaded.putIfAbsent(restaurantId, List.of());
+            }
+            loaded.forEach((restaurantId, tickets) ->
+                    queues.computeIfAbsent(restaurantId, id -> new KitchenQueue()).replaceAll(tickets, changed));
+
+            logger.debug("Loaded {} open orders into kitchen queues", loaded.values().stream().mapToInt(List::size).sum());
+        } finally {
+            changedDuringLoad = null;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        Set<UUID> changed = changedDuringLoad;
+        if (changed != null) {
+            changed.add(event.getOrderId());
+        }
+
+        KitchenQueue queue = queues.computeIfAbsent(event.getRestaurantId(), id -> new KitchenQueue());
+        if (!OPEN_STATUSES.contains(event.getStatus())) {
+            queue.remove(event.getOrderId());
+            return;
+        }
+
+        KitchenTicket current = queue.byOrderId.get(event.getOrderId());
+        if (current != null) {
+            queue.advance(event.getOrderId(), event.getStatus());
+            return;
+        }
+
+        // New order, or one this node has not seen yet; its lines come from the database
+        for (KitchenTicket ticket : toTickets(orderRepository.findKitchenLinesByOrderId(event.getOrderId()))) {
+            if (OPEN_STATUSES.contains(ticket.getStatus())) {
+                queue.add(ticket);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.getChangeType() == RestaurantChangedEvent.ChangeType.DELETED) {
+            queues.remove(event.getRestaurantId());
+        }
+    }
+
+    private static List<KitchenTicket> toTickets(List<KitchenLineView> rows) {
+        Map<UUID, List<KitchenLineView>> rowsByOrder = new LinkedHashMap<>();
+        for (KitchenLineView row : rows) {
+            rowsByOrder.computeIfAbsent(row.getOrderId(), id -> new ArrayList<>()).add(row);
+        }
+
+        List<KitchenTicket> tickets = new ArrayList<>(rowsByOrder.size());
+        for (List<KitchenLineView> orderRows : rowsByOrder.values()) {
+            KitchenLineView first = orderRows.get(0);
+            List<KitchenLine> lines = new ArrayList<>(orderRows.size());
+            for (KitchenLineView row : orderRows) {
+                if (row.getLineId() != null) {
+                    lines.add(new KitchenLine(row.getLineId(), row.getMenuItemId(), row.getItemName(),
+                            row.getCategoryId(), row.getCategoryName(), row.getQuantity(), row.getLineInstructions()));
+                }
+            }
+            tickets.add(new KitchenTicket(first.getOrderId(), first.getRestaurantId(), first.getTableNumber(),
+                    first.getStatus(), first.getCreatedAt(), first.getOrderInstructions(), List.copyOf(lines)));
+        }
+        return tickets;
+    }
+
+    private static int priorityOf(OrderStatus status) {
+        return switch (status) {
+            case PREPARING -> 0;
+            case CONFIRMED -> 1;
+            default -> 2;
+        };
+    }
+
+    /**
+     * Open orders of one restaurant; writers serialize on the queue, readers do not lock
+     */
+    private static class KitchenQueue {
+        private final ConcurrentSkipListSet<KitchenTicket> tickets = new ConcurrentSkipListSet<>(QUEUE_ORDER);
+        private final ConcurrentMap<UUID, KitchenTicket> byOrderId = new ConcurrentHashMap<>();
+
+        synchronized void add(KitchenTicket ticket) {
+            KitchenTicket previous = byOrderId.put(ticket.getOrderId(), ticket);
+            if (previous != null) {
+                tickets.remove(previous);
+            }
+            tickets.add(ticket);
+        }
+
+        synchronized void remove(UUID orderId) {
+            KitchenTicket previous = byOrderId.remove(orderId);
+            if (previous != null) {
+                tickets.remove(previous);
+            }
+        }
+
+        /**
+         * Move a ticket to a later status; events arriving out of order never move it back
+         */
+        synchronized void advance(UUID orderId, OrderStatus status) {
+            KitchenTicket current = byOrderId.get(orderId);
+            if (current == null || current.getStatus().compareTo(status) >= 0) {
+                return;
+            }
+            add(current.withStatus(status));
+        }
+
+        synchronized void replaceAll(List<KitchenTicket> loaded, Set<UUID> keep) {
+            Map<UUID, KitchenTicket> next = new HashMap<>();
+            for (KitchenTicket ticket : loaded) {
+                next.put(ticket.getOrderId(), ticket);
+            }
+            for (UUID orderId : new ArrayList<>(byOrderId.keySet())) {
+                if (!next.containsKey(orderId) && !keep.contains(orderId)) {
+                    remove(orderId);
+                }
+            }
+            for (KitchenTicket ticket : next.values()) {
+                if (!keep.contains(ticket.getOrderId())) {
+                    add(ticket);
+                }
+            }
+        }
+    }
+
+    /**
+     * Open order as shown on a kitchen display
+     */
+    public static class KitchenTicket {
+        private final UUID orderId;
+        private final UUID restaurantId;
+        private final String tableNumber;
+        private final OrderStatus status;
+        private final LocalDateTime createdAt;
+        private final String specialInstructions;
+        private final List<KitchenLine> lines;
+
+        public KitchenTicket(UUID orderId, UUID restaurantId, String tableNumber, OrderStatus status,
+                             LocalDateTime createdAt, String specialInstructions, List<KitchenLine> lines) {
+            this.orderId = orderId;
+            this.restaurantId = restaurantId;
+            this.tableNumber = tableNumber;
+            this.status = status;
+            this.createdAt = createdAt;
+            this.specialInstructions = specialInstructions;
+            this.lines = lines;
+        }
+
+        KitchenTicket withStatus(OrderStatus newStatus) {
+            return new KitchenTicket(orderId, restaurantId, tableNumber, newStatus, createdAt, specialInstructions, lines);
+        }
+
+        /**
+         * This ticket restricted to the lines of one category, or null when it has none
+         */
+        KitchenTicket forCategory(UUID categoryId) {
+            List<KitchenLine> stationLines = lines.stream()
+                    .filter(line -> categoryId.equals(line.getCategoryId()))
+                    .toList();
+            if (stationLines.isEmpty()) {
+                return null;
+            }
+            return stationLines.size() == lines.size() ? this
+                    : new KitchenTicket(orderId, restaurantId, tableNumber, status, createdAt, specialInstructions, stationLines);
+        }
+
+        // Getters
+        public UUID getOrderId() { return orderId; }
+        public UUID getRestaurantId() { return restaurantId; }
+        public String getTableNumber() { return tableNumber; }
+        public OrderStatus getStatus() { return status; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+        public String getSpecialInstructions() { return specialInstructions; }
+        public List<KitchenLine> getLines() { return lines; }
+    }
+
+    /**
+     * Item line of a kitchen ticket
+     */
+    public static class KitchenLine {
+        private final UUID lineId;
+        private final UUID menuItemId;
+        private final String name;
+        private final UUID categoryId;
+        private final String categoryName;
+        private final Integer quantity;
+        private final String specialInstructions;
+
+        public KitchenLine(UUID lineId, UUID menuItemId, String name, UUID categoryId, String categoryName,
+                           Integer quantity, String specialInstructions) {
+            this.lineId = lineId;
+            this.menuItemId = menuItemId;
+            this.name = name;
+            this.categoryId = categoryId;
+            this.categoryName = categoryName;
+            this.quantity = quantity;
+            this.specialInstructions = specialInstructions;
+        }
+
+        // Getters
+        public UUID getLineId() { return lineId; }
+        public UUID getMenuItemId() { return menuItemId; }
+        public String getName() { return name; }
+        public UUID getCategoryId() { return categoryId; }
+        public String getCategoryName() { return categoryName; }
+        public Integer getQuantity() { return quantity; }
+        public String getSpecialInstructions() { return specialInstructions; }
+    }
+}
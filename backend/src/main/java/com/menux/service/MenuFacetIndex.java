@@ -0,0 +1,252 @@
+package com.menux.service;
+
+import com.menux.dto.MenuItemResponse;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable facet index over the available items of one menu
+ *
+ * Items are numbered in menu order. Each dietary flag, category and allergen has a bitset of
+ * the items carrying it, and item numbers are also kept sorted by price so a price range is a
+ * binary search plus a contiguous run. Any combination of filters is an AND of bitsets; facet
+ * counts are the cardinalities of the result intersected with each facet, where category
+ * counts ignore the category filter itself so a client can show alternatives.
+ */
+public class MenuFacetIndex {
+
+    public static final String VEGETARIAN = "vegetarian";
+    public static final String VEGAN = "vegan";
+    public static final String GLUTEN_FREE = "glutenFree";
+
+    private final MenuItemResponse[] items;
+    private final BitSet all;
+    private final Map<String, BitSet> dietary = new LinkedHashMap<>();
+    private final Map<UUID, BitSet> categories = new LinkedHashMap<>();
+    private final Map<String, BitSet> allergens = new HashMap<>();
+    private final int[] itemsByPrice;
+    private final BigDecimal[] sortedPrices;
+
+    public MenuFacetIndex(Collection<MenuItemResponse> menuItems) {
+        this.items = menuItems.toArray(new MenuItemResponse[0]);
+        this.all = new BitSet(items.length);
+        this.all.set(0, items.length);
+
+        BitSet vegetarian = new BitSet(items.length);
+        BitSet vegan = new BitSet(items.length);
+        BitSet glutenFree = new BitSet(items.length);
+        for (int i = 0; i < items.length; i++) {
+            MenuItemResponse item = items[i];
+            if (Boolean.TRUE.equals(item.getIsVegetarian())) {
+                vegetarian.set(i);
+            }
+            if (Boolean.TRUE.equals(item.getIsVegan())) {
+                vegan.set(i);
+            }
+            if (Boolean.TRUE.equals(item.getIsGlutenFree())) {
+                glutenFree.set(i);
+            }
+            if (item.getCategoryId() != null) {
+                categories.computeIfAbsent(item.getCategoryId(), id -> new BitSet(items.length)).set(i);
+            }
+            if (item.getAllergens() != null) {
+                for (String allergen : item.getAllergens()) {
+                    allergens.computeIfAbsent(normalize(allergen), a -> new BitSet(items.length)).set(i);
+                }
+            }
+        }
+        dietary.put(VEGETARIAN, vegetarian);
+        dietary.put(VEGAN, vegan);
+        dietary.put(GLUTEN_FREE, glutenFree);
+
+        Integer[] byPrice = new Integer[items.length];
+        for (int i = 0; i < items.length; i++) {
+            byPrice[i] = i;
+        }
+        Arrays.sort(byPrice, Comparator.comparing(i -> items[i].getPrice()));
+        this.itemsByPrice = Arrays.stream(byPrice).mapToInt(Integer::intValue).toArray();
+        this.sortedPrices = Arrays.stream(itemsByPrice).mapToObj(i -> items[i].getPrice()).toArray(BigDecimal[]::new);
+    }
+
+    /**
+     * Items matching every given filter, in menu order, with facet counts over the result
+     */
+    public FacetResult filter(Filter filter) {
+        BitSet base = (BitSet) all.clone();
+        if (filter.isVegetarian()) {
+            base.and(dietary.get(VEGETARIAN));
+        }
+        if (filter.isVegan()) {
+            base.and(dietary.get(VEGAN));
+        }
+        if (filter.isGlutenFree()) {
+            base.and(dietary.get(GLUTEN_FREE));
+        }
+        if (filter.getMinPrice() != null || filter.getMaxPrice() != null) {
+            base.and(priceRange(filter.getMinPrice(), filter.getMaxPrice()));
+        }
+        for (String allergen : filter.getExcludedAllergens()) {
+            BitSet containing = allergens.get(normalize(allergen));
+            if (containing != null) {
+                base.andNot(containing);
+            }
+        }
+
+        BitSet result = (BitSet) base.clone();
+        if (!filter.getCategoryIds().isEmpty()) {
+            BitSet inCategories = new BitSet(items.length);
+            for (UUID categoryId : filter.getCategoryIds()) {
+                BitSet category = categories.get(categoryId);
+                if (category != null) {
+                    inCategories.or(category);
+                }
+            }
+            result.and(inCategories);
+        }
+
+        List<MenuItemResponse> matches = new ArrayList<>(result.cardinality());
+        BigDecimal minPrice = null;
+        BigDecimal maxPrice = null;
+        for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+            MenuItemResponse item = items[i];
+            matches.add(item);
+            minPrice = minPrice == null || item.getPrice().compareTo(minPrice) < 0 ? item.getPrice() : minPrice;
+            maxPrice = maxPrice == null || item.getPrice().compareTo(maxPrice) > 0 ? item.getPrice() : maxPrice;
+        }
+
+        Map<String, Integer> dietaryCounts = new LinkedHashMap<>();
+        dietary.forEach((flag, bits) -> dietaryCounts.put(flag, intersectionSize(result, bits)));
+        Map<UUID, Integer> categoryCounts = new LinkedHashMap<>();
+        categories.forEach((categoryId, bits) -> categoryCounts.put(categoryId, intersectionSize(base, bits)));
+
+        return new FacetResult(matches, dietaryCounts, categoryCounts, minPrice, maxPrice);
+    }
+
+    /**
+     * Number of indexed items
+     */
+    public int size() {
+        return items.length;
+    }
+
+    private BitSet priceRange(BigDecimal min, BigDecimal max) {
+        int from = min == null ? 0 : firstAtLeast(min);
+        int to = max == null ? sortedPrices.length : firstAbove(max);
+        BitSet range = new BitSet(items.length);
+        for (int position = from; position < to; position++) {
+            range.set(itemsByPrice[position]);
+        }
+        return range;
+    }
+
+    private int firstAtLeast(BigDecimal price) {
+        int low = 0;
+        int high = sortedPrices.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedPrices[middle].compareTo(price) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int firstAbove(BigDecimal price) {
+        int low = 0;
+        int high = sortedPrices.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedPrices[middle].compareTo(price) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int intersectionSize(BitSet left, BitSet right) {
+        BitSet intersection = (BitSet) left.clone();
+        intersection.and(right);
+        return intersection.cardinality();
+    }
+
+    private static String normalize(String allergen) {
+        return allergen.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Combination of menu filters; unset filters match every item
+     */
+    public static class Filter {
+        private final boolean vegetarian;
+        private final boolean vegan;
+        private final boolean glutenFree;
+        private final Set<UUID> categoryIds;
+        private final BigDecimal minPrice;
+        private final BigDecimal maxPrice;
+        private final Set<String> excludedAllergens;
+
+        public Filter(boolean vegetarian, boolean vegan, boolean glutenFree, Set<UUID> categoryIds,
+                      BigDecimal minPrice, BigDecimal maxPrice, Set<String> excludedAllergens) {
+            this.vegetarian = vegetarian;
+            this.vegan = vegan;
+            this.glutenFree = glutenFree;
+            this.categoryIds = categoryIds != null ? categoryIds : Set.of();
+            this.minPrice = minPrice;
+            this.maxPrice = maxPrice;
+            this.excludedAllergens = excludedAllergens != null ? excludedAllergens : Set.of();
+        }
+
+        // Getters
+        public boolean isVegetarian() { return vegetarian; }
+        public boolean isVegan() { return vegan; }
+        public boolean isGlutenFree() { return glutenFree; }
+        public Set<UUID> getCategoryIds() { return categoryIds; }
+        public BigDecimal getMinPrice() { return minPrice; }
+        public BigDecimal getMaxPrice() { return maxPrice; }
+        public Set<String> getExcludedAllergens() { return excludedAllergens; }
+    }
+
+    /**
+     * Filtered items with the facet counts of the result
+     */
+    public static class FacetResult {
+        private final List<MenuItemResponse> items;
+        private final Map<String, Integer> dietaryCounts;
+        private final Map<UUID, Integer> categoryCounts;
+        private final BigDecimal minPrice;
+        private final BigDecimal maxPrice;
+
+        public FacetResult(List<MenuItemResponse> items, Map<String, Integer> dietaryCounts,
+                           Map<UUID, Integer> categoryCounts, BigDecimal minPrice, BigDecimal maxPrice) {
+            this.items = items;
+            this.dietaryCounts = dietaryCounts;
+            this.categoryCounts = categoryCounts;
+            this.minPrice = minPrice;
+            this.maxPrice = maxPrice;
+        }
+
+        // Getters
+        public List<MenuItemResponse> getItems() { return items; }
+        public int getTotal() { return items.size(); }
+        public Map<String, Integer> getDietaryCounts() { return dietaryCounts; }
+        public Map<UUID, Integer> getCategoryCounts() { return categoryCounts; }
+        public BigDecimal getMinPrice() { return minPrice; }
+        public BigDecimal getMaxPrice() { return maxPrice; }
+    }
+}
@@ -0,0 +1,222 @@
+package com.menux.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.menux.config.ReplicaRoutingDataSource;
+import com.menux.dto.MenuCategoryResponse;
+import com.menux.dto.MenuItemResponse;
+import com.menux.dto.MenuResponse;
+import com.menux.entity.MenuCategory;
+import com.menux.entity.MenuItem;
+import com.menux.entity.Restaurant;
+import com.menux.event.MenuChangedEvent;
+import com.menux.event.RestaurantChangedEvent;
+import com.menux.exception.ResourceNotFoundException;
+import com.menux.repository.MenuCategoryRepository;
+import com.menux.repository.MenuItemRepository;
+import com.menux.repository.RestaurantRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Service holding a versioned, pre-serialized public menu snapshot per restaurant
+ *
+ * A snapshot is built once (concurrent readers of a missing snapshot wait on the same
+ * build) and dropped when a menu item, menu category or restaurant write commits on this
+ * instance, or after a short TTL so writes made on other instances show up too. Each
+ * snapshot carries the facet index of its items, so filters always agree with the menu.
+ */
+@Service
+public class MenuSnapshotService {
+
+    private final RestaurantRepository restaurantRepository;
+    private final MenuCategoryRepository menuCategoryRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<UUID, CompletableFuture<MenuSnapshot>> snapshotsByRestaurant;
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    @Autowired
+    public MenuSnapshotService(RestaurantRepository restaurantRepository,
+                               MenuCategoryRepository menuCategoryRepository,
+                               MenuItemRepository menuItemRepository,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.menu.snapshot.max-restaurants:5000}") long maxRestaurants,
+                               @Value("${app.menu.snapshot.ttl:60000}") long ttlMillis) {
+        this.restaurantRepository = restaurantRepository;
+        this.menuCategoryRepository = menuCategoryRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.snapshotsByRestaurant = Caffeine.newBuilder()
+                .maximumSize(maxRestaurants)
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Get the current menu snapshot of an active restaurant, building it on a miss
+     */
+    public MenuSnapshot getSnapshot(UUID restaurantId) {
+        CompletableFuture<MenuSnapshot> snapshot = snapshotsByRestaurant.getIfPresent(restaurantId);
+
+        if (snapshot == null) {
+            CompletableFuture<MenuSnapshot> build = new CompletableFuture<>();
+            snapshot = snapshotsByRestaurant.asMap().putIfAbsent(restaurantId, build);
+
+            if (snapshot == null) {
+                snapshot = build;
+                try {
+                    build.complete(buildSnapshot(restaurantId));
+                } catch (RuntimeException e) {
+                    snapshotsByRestaurant.asMap().remove(restaurantId, build);
+                    build.completeExceptionally(e);
+                }
+            }
+        }
+
+        try {
+            return snapshot.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Drop the snapshot of a restaurant so the next read rebuilds it
+     */
+    public void invalidate(UUID restaurantId) {
+        snapshotsByRestaurant.invalidate(restaurantId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        invalidate(event.getRestaurantId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        invalidate(event.getRestaurantId());
+    }
+
+    private MenuSnapshot buildSnapshot(UUID restaurantId) {
+        // Snapshots are cached until the menu changes, so never build one from a lagging replica
+        MenuResponse menu = ReplicaRoutingDataSource.onPrimary(() ->
+                readOnlyTransaction.execute(status -> loadMenu(restaurantId)));
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(menu);
+            return new MenuSnapshot(versionSequence.incrementAndGet(), menu, json, gzip(json), "W/\"" + sha256Hex(json) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize menu for restaurant: " + restaurantId, e);
+        }
+    }
+
+    private MenuResponse loadMenu(UUID restaurantId) {
+        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+                .filter(Restaurant::getIsActive)
+                .orElseThrow(() -> new ResourceNotFoundException("Restaurant not found with id: " + restaurantId));
+
+        MenuResponse menu = new MenuResponse(restaurant);
+        Map<UUID, MenuCategoryResponse> categoriesById = new LinkedHashMap<>();
+        for (MenuCategory category : menuCategoryRepository.findByRestaurantIdAndIsActiveOrderByDisplayOrder(restaurantId, true)) {
+            categoriesById.put(category.getId(), new MenuCategoryResponse(category));
+        }
+
+        for (MenuItem item : menuItemRepository.findAvailableWithAllergensByRestaurantId(restaurantId)) {
+            MenuItemResponse itemResponse = new MenuItemResponse(item);
+            if (itemResponse.getCategoryId() == null) {
+                menu.getUncategorizedItems().add(itemResponse);
+            } else if (categoriesById.containsKey(itemResponse.getCategoryId())) {
+                categoriesById.get(itemResponse.getCategoryId()).getItems().add(itemResponse);
+            }
+        }
+
+        menu.getCategories().addAll(categoriesById.values());
+        return menu;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream)) {
+            gzipStream.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Immutable menu snapshot of one restaurant
+     */
+    public static class MenuSnapshot {
+        private final long version;
+        private final MenuResponse menu;
+        private final Map<UUID, MenuItemResponse> itemsById;
+        private final MenuFacetIndex facets;
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String etag;
+
+        public MenuSnapshot(long version, MenuResponse menu, byte[] json, byte[] gzip, String etag) {
+            this.version = version;
+            this.menu = menu;
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = etag;
+
+            Map<UUID, MenuItemResponse> items = new LinkedHashMap<>();
+            menu.getCategories().forEach(category -> category.getItems().forEach(item -> items.put(item.getId(), item)));
+            menu.getUncategorizedItems().forEach(item -> items.put(item.getId(), item));
+            this.itemsById = Collections.unmodifiableMap(items);
+            this.facets = new MenuFacetIndex(items.values());
+        }
+
+        // Getters
+        public long getVersion() { return version; }
+        public MenuResponse getMenu() { return menu; }
+        public Map<UUID, MenuItemResponse> getItemsById() { return itemsById; }
+        public MenuFacetIndex getFacets() { return facets; }
+        public List<MenuCategoryResponse> getCategories() { return menu.getCategories(); }
+        public byte[] getJson() { return json; }
+        public byte[] getGzip() { return gzip; }
+        public String getEtag() { return etag; }
+    }
+}
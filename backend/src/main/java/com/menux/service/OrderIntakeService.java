@@ -0,0 +1,117 @@
+package com.menux.service;
+
+import com.menux.dto.MenuItemResponse;
+import com.menux.dto.OrderLineRequest;
+import com.menux.dto.OrderReceiptResponse;
+import com.menux.dto.PlaceOrderRequest;
+import com.menux.entity.Order;
+import com.menux.entity.OrderItem;
+import com.menux.repository.MenuItemRepository;
+import com.menux.repository.OrderRepository;
+import com.menux.repository.RestaurantRepository;
+import com.menux.repository.projection.OrderableItemView;
+import com.menux.service.MenuSnapshotService.MenuSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service placing diner orders
+ *
+ * A cart is checked against the restaurant's cached menu snapshot, then priced from a single
+ * query over its items in the placing transaction, so a price change or withdrawn item saved
+ * on another instance is never missed while this instance's snapshot is stale; a snapshot found
+ * stale is dropped. The restaurant and menu items are attached as references, ids are assigned
+ * in memory, and the order and its lines are written as JDBC batches on commit.
+ */
+@Service
+@Transactional
+public class OrderIntakeService {
+
+    private final MenuSnapshotService menuSnapshotService;
+    private final OrderRepository orderRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final MenuItemRepository menuItemRepository;
+
+    @Autowired
+    public OrderIntakeService(MenuSnapshotService menuSnapshotService,
+                              OrderRepository orderRepository,
+                              RestaurantRepository restaurantRepository,
+                              MenuItemRepository menuItemRepository) {
+        this.menuSnapshotService = menuSnapshotService;
+        this.orderRepository = orderRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.menuItemRepository = menuItemRepository;
+    }
+
+    /**
+     * Place an order for an active restaurant
+     *
+     * @throws IllegalArgumentException if a line refers to an item that is not on the menu
+     */
+    public OrderReceiptResponse placeOrder(UUID restaurantId, PlaceOrderRequest request) {
+        MenuSnapshot snapshot = menuSnapshotService.getSnapshot(restaurantId);
+        Map<UUID, MenuItemResponse> menuItems = snapshot.getItemsById();
+        for (OrderLineRequest line : request.getItems()) {
+            if (!menuItems.containsKey(line.getMenuItemId())) {
+                throw new IllegalArgumentException("Menu item is not available: " + line.getMenuItemId());
+            }
+        }
+
+        Set<UUID> itemIds = new HashSet<>();
+        for (OrderLineRequest line : request.getItems()) {
+            itemIds.add(line.getMenuItemId());
+        }
+        Map<UUID, OrderableItemView> orderableItems = new HashMap<>();
+        for (OrderableItemView item : menuItemRepository.findOrderableByRestaurantIdAndIdIn(restaurantId, itemIds)) {
+            orderableItems.put(item.getId(), item);
+        }
+
+        List<OrderableItemView> pricedItems = new ArrayList<>(request.getItems().size());
+        BigDecimal total = BigDecimal.ZERO;
+        boolean snapshotStale = false;
+        for (OrderLineRequest line : request.getItems()) {
+            OrderableItemView menuItem = orderableItems.get(line.getMenuItemId());
+            if (menuItem == null) {
+                menuSnapshotService.invalidate(restaurantId);
+                throw new IllegalArgumentException("Menu item is not available: " + line.getMenuItemId());
+            }
+            snapshotStale |= menuItem.getPrice().compareTo(menuItems.get(line.getMenuItemId()).getPrice()) != 0;
+            pricedItems.add(menuItem);
+            total = total.add(menuItem.getPrice().multiply(BigDecimal.valueOf(line.getQuantity())));
+        }
+        if (snapshotStale) {
+            menuSnapshotService.invalidate(restaurantId);
+        }
+
+        Order order = new Order(restaurantRepository.getReferenceById(restaurantId), total);
+        order.setTableNumber(request.getTableNumber());
+        order.setCustomerName(request.getCustomerName());
+        order.setCustomerPhone(request.getCustomerPhone());
+        order.setSpecialInstructions(request.getSpecialInstructions());
+
+        List<String> itemNames = new ArrayList<>(pricedItems.size());
+        for (int i = 0; i < pricedItems.size(); i++) {
+            OrderLineRequest line = request.getItems().get(i);
+            OrderableItemView menuItem = pricedItems.get(i);
+
+            OrderItem orderItem = new OrderItem(order, menuItemRepository.getReferenceById(menuItem.getId()),
+                    line.getQuantity(), menuItem.getPrice());
+            orderItem.setSpecialInstructions(line.getSpecialInstructions());
+            order.getOrderItems().add(orderItem);
+            itemNames.add(menuItem.getName());
+        }
+
+        orderRepository.save(order);
+        return new OrderReceiptResponse(order, restaurantId, itemNames, snapshot.getVersion());
+    }
+}
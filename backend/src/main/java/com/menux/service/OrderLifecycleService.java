@@ -0,0 +1,144 @@
+package com.menux.service;
+
+import com.menux.entity.OrderStatus;
+import com.menux.event.OrderChangedEvent;
+import com.menux.exception.OrderStateConflictException;
+import com.menux.exception.ResourceNotFoundException;
+import com.menux.repository.OrderRepository;
+import com.menux.repository.projection.OrderStateView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service enforcing the order lifecycle
+ *
+ * Every status change is one conditional UPDATE that only matches while the order is in a
+ * status from which the target is legal (and at the expected version, when the caller
+ * sends one), so concurrent waiters and kitchen screens cannot overwrite each other. The
+ * order is only read back, as a narrow projection, to report the result or a conflict.
+ */
+@Service
+@Transactional
+public class OrderLifecycleService {
+
+    private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public OrderLifecycleService(OrderRepository orderRepository, ApplicationEventPublisher eventPublisher) {
+        this.orderRepository = orderRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Move an order to a new status
+     *
+     * @param expectedStatus  status the caller saw, or null to accept any legal predecessor
+     * @param expectedVersion version the caller saw, or null to skip the version check
+     * @throws OrderStateConflictException if the order is not in a state the transition applies to
+     */
+    public OrderTransition transition(UUID restaurantId, UUID orderId, OrderStatus target,
+                                      OrderStatus expectedStatus, Long expectedVersion) {
+        Set<OrderStatus> expected = expectedStatuses(target, expectedStatus);
+
+        int updated = orderRepository.transitionStatus(restaurantId, orderId, expected, expectedVersion, target, LocalDateTime.now());
+
+        OrderStateView state = orderRepository.findStateById(restaurantId, orderId)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + orderId));
+        if (updated == 0) {
+            throw new OrderStateConflictException(orderId, state.getStatus(), state.getVersion(), target);
+        }
+
+        publishChange(restaurantId, orderId, state.getStatus(), state.getTableNumber(), state.getTotalAmount());
+        return new OrderTransition(state.getId(), state.getStatus(), state.getVersion());
+    }
+
+    /**
+     * Move every order at a table that can legally reach the target status, skipping orders
+     * changed concurrently
+     */
+    public BulkTransitionResult transitionTable(UUID restaurantId, String tableNumber, OrderStatus target) {
+        Set<OrderStatus> predecessors = expectedStatuses(target, null);
+
+        List<OrderTransition> transitioned = new ArrayList<>();
+        List<UUID> conflicted = new ArrayList<>();
+        for (OrderStateView order : orderRepository.findStatesByTable(restaurantId, tableNumber, predecessors)) {
+            int updated = orderRepository.transitionStatus(restaurantId, order.getId(), Set.of(order.getStatus()),
+                    order.getVersion(), target, LocalDateTime.now());
+            if (updated == 0) {
+                conflicted.add(order.getId());
+                continue;
+            }
+
+            publishChange(restaurantId, order.getId(), target, order.getTableNumber(), order.getTotalAmount());
+            transitioned.add(new OrderTransition(order.getId(), target, order.getVersion() + 1));
+        }
+        return new BulkTransitionResult(transitioned, conflicted);
+    }
+
+    private Set<OrderStatus> expectedStatuses(OrderStatus target, OrderStatus expectedStatus) {
+        if (expectedStatus != null) {
+            if (!expectedStatus.canTransitionTo(target)) {
+                throw new IllegalArgumentException("Illegal transition from " + expectedStatus.name() + " to " + target.name());
+            }
+            return Set.of(expectedStatus);
+        }
+
+        Set<OrderStatus> predecessors = OrderStatus.predecessorsOf(target);
+        if (predecessors.isEmpty()) {
+            throw new IllegalArgumentException("No order can move to " + target.name());
+        }
+        return predecessors;
+    }
+
+    private void publishChange(UUID restaurantId, UUID orderId, OrderStatus status, String tableNumber, BigDecimal totalAmount) {
+        eventPublisher.publishEvent(new OrderChangedEvent(restaurantId, orderId, OrderChangedEvent.ChangeType.UPDATED,
+                status, tableNumber, totalAmount));
+    }
+
+    /**
+     * Status and version of an order after a transition
+     */
+    public static class OrderTransition {
+        private final UUID orderId;
+        private final OrderStatus status;
+        private final Long version;
+
+        public OrderTransition(UUID orderId, OrderStatus status, Long version) {
+            this.orderId = orderId;
+            this.status = status;
+            this.version = version;
+        }
+
+        // Getters
+        public UUID getOrderId() { return orderId; }
+        public OrderStatus getStatus() { return status; }
+        public Long getVersion() { return version; }
+    }
+
+    /**
+     * Result of a table-wide transition
+     */
+    public static class BulkTransitionResult {
+        private final List<OrderTransition> transitioned;
+        private final List<UUID> conflicted;
+
+        public BulkTransitionResult(List<OrderTransition> transitioned, List<UUID> conflicted) {
+            this.transitioned = transitioned;
+            this.conflicted = conflicted;
+        }
+
+        // Getters
+        public List<OrderTransition> getTransitioned() { return transitioned; }
+        public List<UUID> getConflicted() { return conflicted; }
+    }
+}
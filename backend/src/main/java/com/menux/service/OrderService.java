@@ -0,0 +1,53 @@
+package com.menux.service;
+
+import com.menux.dto.CursorPage;
+import com.menux.dto.KeysetCursor;
+import com.menux.repository.OrderRepository;
+import com.menux.repository.projection.OrderSummaryView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service class for Order entity operations
+ */
+@Service
+@Transactional
+public class OrderService {
+
+    private final OrderRepository orderRepository;
+
+    @Autowired
+    public OrderService(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    /**
+     * Get orders by restaurant with offset pagination
+     */
+    @Transactional(readOnly = true)
+    public Page<OrderSummaryView> getOrdersByRestaurant(UUID restaurantId, Pageable pageable) {
+        return orderRepository.findSummariesByRestaurantId(restaurantId, pageable);
+    }
+
+    /**
+     * Get orders by restaurant with keyset pagination, newest first
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<OrderSummaryView> getOrdersByRestaurant(UUID restaurantId, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+
+        List<OrderSummaryView> rows = position == null
+                ? orderRepository.findSummariesByRestaurantIdFirstPage(restaurantId, limit)
+                : orderRepository.findSummariesByRestaurantIdAfter(restaurantId, position.getCreatedAt(), position.getId(), limit);
+
+        return CursorPage.fromRows(rows, size, row -> new KeysetCursor(row.getCreatedAt(), row.getId()));
+    }
+}
@@ -0,0 +1,228 @@
+package com.menux.service;
+
+import com.menux.entity.OrderStatus;
+import com.menux.event.OrderChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service pushing order changes to restaurant dashboards as Server-Sent Events
+ *
+ * Each restaurant has a channel holding a sequence counter and a replay sink with the most
+ * recent events. Event ids combine a per-process epoch with the channel sequence, so a client
+ * reconnecting with Last-Event-ID receives exactly the events it missed, or a reset event
+ * telling it to reload when those events are no longer retained. Every connection reads
+ * through its own bounded buffer; a connection that falls that far behind is ended with a
+ * reset event instead of growing memory. Connections hold no thread while idle.
+ */
+@Service
+public class OrderStreamService {
+
+    public static final String ORDER_EVENT = "order";
+    public static final String RESET_EVENT = "reset";
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ConcurrentMap<UUID, Channel> channels = new ConcurrentHashMap<>();
+    private final int replaySize;
+    private final int connectionBufferSize;
+    private final Duration maxSession;
+    private final Duration idleTtl;
+    private final Flux<ServerSentEvent<OrderUpdate>> heartbeat;
+
+    @Autowired
+    public OrderStreamService(@Value("${app.orders.stream.replay-size:256}") int replaySize,
+                              @Value("${app.orders.stream.connection-buffer-size:256}") int connectionBufferSize,
+                              @Value("${app.orders.stream.heartbeat-interval:15000}") long heartbeatIntervalMillis,
+                              @Value("${app.orders.stream.max-session:1800000}") long maxSessionMillis,
+                              @Value("${app.orders.stream.idle-ttl:600000}") long idleTtlMillis) {
+        this.replaySize = replaySize;
+        this.connectionBufferSize = connectionBufferSize;
+        this.maxSession = Duration.ofMillis(maxSessionMillis);
+        this.idleTtl = Duration.ofMillis(idleTtlMillis);
+        this.heartbeat = Flux.interval(Duration.ofMillis(heartbeatIntervalMillis))
+                .map(tick -> ServerSentEvent.<OrderUpdate>builder().comment("heartbeat").build())
+                .onBackpressureDrop()
+                .share();
+    }
+
+    /**
+     * Open the event stream of a restaurant, resuming after lastEventId when given
+     *
+     * Nothing is registered until the returned Flux is subscribed, so a stream that is never
+     * subscribed does not hold a connection slot.
+     */
+    public Flux<ServerSentEvent<OrderUpdate>> subscribe(UUID restaurantId, String lastEventId) {
+        return Flux.defer(() -> open(restaurantId, lastEventId));
+    }
+
+    /**
+     * Number of open connections across all restaurants on this node
+     */
+    public int getConnectionCount() {
+        return channels.values().stream().mapToInt(channel -> channel.subscribers.get()).sum();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        Channel channel = channels.compute(event.getRestaurantId(), (id, existing) -> {
+            Channel active = existing != null ? existing : new Channel(replaySize);
+            active.lastActivity = LocalDateTime.now();
+            return active;
+        });
+        channel.emit(event);
+    }
+
+    /**
+     * Drop channels that have no connections and no recent events
+     */
+    @Scheduled(fixedDelayString = "${app.orders.stream.idle-ttl:600000}")
+    public void evictIdleChannels() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(idleTtl);
+        for (UUID restaurantId : channels.keySet()) {
+            channels.computeIfPresent(restaurantId, (id, channel) ->
+                    channel.subscribers.get() == 0 && channel.lastActivity.isBefore(cutoff) ? null : channel);
+        }
+    }
+
+    private Flux<ServerSentEvent<OrderUpdate>> open(UUID restaurantId, String lastEventId) {
+        Channel channel = channels.compute(restaurantId, (id, existing) -> {
+            Channel active = existing != null ? existing : new Channel(replaySize);
+            active.subscribers.incrementAndGet();
+            return active;
+        });
+
+        long resumeAfter;
+        boolean reset = false;
+        Long lastSequence = parseSequence(lastEventId);
+        if (lastSequence == null) {
+            resumeAfter = channel.currentSequence();
+            reset = lastEventId != null && !lastEventId.isBlank();
+        } else if (lastSequence < channel.oldestRetainedSequence() - 1 || lastSequence > channel.currentSequence()) {
+            resumeAfter = channel.currentSequence();
+            reset = true;
+        } else {
+            resumeAfter = lastSequence;
+        }
+
+        Flux<ServerSentEvent<OrderUpdate>> events = channel.sink.asFlux()
+                .filter(event -> event.sequence > resumeAfter)
+                .map(this::toServerSentEvent);
+
+        // The overflow reset ends the connection; the client reconnects and reloads
+        ServerSentEvent<OrderUpdate> overflow = resetEvent();
+        return (reset ? Flux.just(resetEvent()).concatWith(events) : events)
+                .mergeWith(heartbeat)
+                .onBackpressureBuffer(connectionBufferSize, BufferOverflowStrategy.ERROR)
+                .onErrorResume(Exceptions::isOverflow, error -> Flux.just(overflow))
+                .takeUntil(event -> event == overflow)
+                .take(maxSession)
+                .doFinally(signal -> channel.subscribers.decrementAndGet());
+    }
+
+    private ServerSentEvent<OrderUpdate> toServerSentEvent(SequencedUpdate event) {
+        return ServerSentEvent.<OrderUpdate>builder()
+                .id(epoch + "-" + event.sequence)
+                .event(ORDER_EVENT)
+                .data(event.update)
+                .build();
+    }
+
+    private ServerSentEvent<OrderUpdate> resetEvent() {
+        return ServerSentEvent.<OrderUpdate>builder()
+                .event(RESET_EVENT)
+                .comment("reload orders")
+                .build();
+    }
+
+    private Long parseSequence(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(epoch + "-")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static final class Channel {
+        private final Sinks.Many<SequencedUpdate> sink;
+        private final int replaySize;
+        private final AtomicInteger subscribers = new AtomicInteger();
+        private long sequence;
+        private volatile LocalDateTime lastActivity = LocalDateTime.now();
+
+        private Channel(int replaySize) {
+            this.replaySize = replaySize;
+            this.sink = Sinks.many().replay().limit(replaySize);
+        }
+
+        private synchronized void emit(OrderChangedEvent event) {
+            sequence++;
+            sink.tryEmitNext(new SequencedUpdate(sequence, new OrderUpdate(event)));
+        }
+
+        private synchronized long currentSequence() {
+            return sequence;
+        }
+
+        private synchronized long oldestRetainedSequence() {
+            return Math.max(1, sequence - replaySize + 1);
+        }
+    }
+
+    private static final class SequencedUpdate {
+        private final long sequence;
+        private final OrderUpdate update;
+
+        private SequencedUpdate(long sequence, OrderUpdate update) {
+            this.sequence = sequence;
+            this.update = update;
+        }
+    }
+
+    /**
+     * Payload of an order event
+     */
+    public static class OrderUpdate {
+        private final UUID orderId;
+        private final String changeType;
+        private final OrderStatus status;
+        private final String tableNumber;
+        private final BigDecimal totalAmount;
+        private final LocalDateTime occurredAt;
+
+        public OrderUpdate(OrderChangedEvent event) {
+            this.orderId = event.getOrderId();
+            this.changeType = event.getChangeType().name();
+            this.status = event.getStatus();
+            this.tableNumber = event.getTableNumber();
+            this.totalAmount = event.getTotalAmount();
+            this.occurredAt = LocalDateTime.now();
+        }
+
+        // Getters
+        public UUID getOrderId() { return orderId; }
+        public String getChangeType() { return changeType; }
+        public OrderStatus getStatus() { return status; }
+        public String getTableNumber() { return tableNumber; }
+        public BigDecimal getTotalAmount() { return totalAmount; }
+        public LocalDateTime getOccurredAt() { return occurredAt; }
+    }
+}
@@ -0,0 +1,302 @@
+package com.menux.service;
+
+import com.menux.entity.OrderStatus;
+import com.menux.event.MenuChangedEvent;
+import com.menux.event.OrderChangedEvent;
+import com.menux.event.RestaurantChangedEvent;
+import com.menux.repository.OrderItemRepository;
+import com.menux.repository.projection.ItemQuantityView;
+import com.menux.repository.projection.OrderLineQuantityView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * Service ranking the most ordered menu items of every restaurant from in-memory counters
+ *
+ * Each menu item keeps an all-time quantity, an exponentially decayed quantity and hourly
+ * buckets covering the last seven days. Counters are updated when an order completes, so a
+ * ranking is a top-K selection over one restaurant's items instead of a GROUP BY over the
+ * order history. A periodic reconciliation rebuilds every counter from the database, which
+ * also picks up orders completed on other nodes.
+ */
+@Service
+public class PopularityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PopularityService.class);
+
+    /**
+     * Variants of the popularity ranking
+     */
+    public enum Ranking {
+        /** Total quantity ever ordered */
+        ALL_TIME,
+        /** Quantity ordered with exponentially decaying weight by age */
+        TRENDING,
+        /** Quantity ordered in the last seven days */
+        LAST_7_DAYS
+    }
+
+    private static final Set<OrderStatus> COUNTED_STATUSES = Set.of(OrderStatus.COMPLETED);
+    private static final long HOUR_MILLIS = Duration.ofHours(1).toMillis();
+    private static final int WINDOW_HOURS = 7 * 24;
+    private static final int DECAY_HORIZON_HALF_LIVES = 8;
+
+    private final OrderItemRepository orderItemRepository;
+    private final long halfLifeMillis;
+    private final Object writeLock = new Object();
+
+    private volatile ConcurrentMap<UUID, RestaurantCounters> restaurants = new ConcurrentHashMap<>();
+    private Set<UUID> countedOrders = new HashSet<>();
+    private List<OrderLineQuantityView> completedDuringLoad;
+
+    @Autowired
+    public PopularityService(OrderItemRepository orderItemRepository,
+                             @Value("${app.popularity.half-life:86400000}") long halfLifeMillis) {
+        this.orderItemRepository = orderItemRepository;
+        this.halfLifeMillis = halfLifeMillis;
+    }
+
+    /**
+     * Most ordered items of a restaurant among those accepted by the filter, highest score first
+     */
+    public List<PopularItem> getTopItems(UUID restaurantId, Ranking ranking, int limit, Predicate<UUID> include) {
+        RestaurantCounters counters = restaurants.get(restaurantId);
+        if (counters == null || limit <= 0) {
+            return List.of();
+        }
+        return counters.top(ranking, limit, include, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    /**
+     * Rebuild every counter from the database, keeping orders completed while loading
+     */
+    @Scheduled(fixedDelayString = "${app.popularity.reconcile-interval:3600000}",
+               initialDelayString = "${app.popularity.reconcile-interval:3600000}")
+    public void reconcile() {
+        synchronized (writeLock) {
+            completedDuringLoad = new ArrayList<>();
+        }
+        try {
+            long horizonMillis = Math.max(WINDOW_HOURS * HOUR_MILLIS, DECAY_HORIZON_HALF_LIVES * halfLifeMillis);
+            LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(horizonMillis));
+
+            ConcurrentMap<UUID, RestaurantCounters> loaded = new ConcurrentHashMap<>();
+            for (ItemQuantityView row : orderItemRepository.sumQuantitiesByStatusIn(COUNTED_STATUSES)) {
+                loaded.computeIfAbsent(row.getRestaurantId(), id -> new RestaurantCounters())
+                        .setAllTime(row.getMenuItemId(), row.getQuantity());
+            }
+            Set<UUID> loadedOrders = new HashSet<>();
+            for (OrderLineQuantityView row : orderItemRepository.findQuantitiesByStatusInUpdatedSince(COUNTED_STATUSES, since)) {
+                loaded.computeIfAbsent(row.getRestaurantId(), id -> new RestaurantCounters())
+                        .addRecent(row.getMenuItemId(), row.getQuantity(), toMillis(row.getUpdatedAt()));
+                loadedOrders.add(row.getOrderId());
+            }
+
+            synchronized (writeLock) {
+                restaurants = loaded;
+                countedOrders = loadedOrders;
+                for (OrderLineQuantityView line : completedDuringLoad) {
+                    if (!loadedOrders.contains(line.getOrderId())) {
+                        apply(line);
+                    }
+                }
+                loadedOrders.addAll(completedDuringLoad.stream().map(OrderLineQuantityView::getOrderId).toList());
+            }
+            logger.debug("Reconciled popularity counters for {} restaurants", loaded.size());
+        } finally {
+            synchronized (writeLock) {
+                completedDuringLoad = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (!COUNTED_STATUSES.contains(event.getStatus())) {
+            return;
+        }
+        List<OrderLineQuantityView> lines = orderItemRepository.findQuantitiesByOrderId(event.getOrderId());
+        synchronized (writeLock) {
+            if (completedDuringLoad != null) {
+                completedDuringLoad.addAll(lines);
+            }
+            if (!countedOrders.add(event.getOrderId())) {
+                return;
+            }
+            lines.forEach(this::apply);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        if (event.getEntityType() != MenuChangedEvent.EntityType.ITEM
+                || event.getChangeType() != MenuChangedEvent.ChangeType.DELETED) {
+            return;
+        }
+        RestaurantCounters counters = restaurants.get(event.getRestaurantId());
+        if (counters != null) {
+            counters.remove(event.getEntityId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.getChangeType() == RestaurantChangedEvent.ChangeType.DELETED) {
+            restaurants.remove(event.getRestaurantId());
+        }
+    }
+
+    private void apply(OrderLineQuantityView line) {
+        RestaurantCounters counters = restaurants.computeIfAbsent(line.getRestaurantId(), id -> new RestaurantCounters());
+        counters.addCompleted(line.getMenuItemId(), line.getQuantity(), toMillis(line.getUpdatedAt()));
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? System.currentTimeMillis() : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Counters of the items of one restaurant; readers and writers serialize on the instance
+     */
+    private class RestaurantCounters {
+        private final Map<UUID, ItemCounter> items = new HashMap<>();
+
+        synchronized void setAllTime(UUID menuItemId, long quantity) {
+            counter(menuItemId).allTime = quantity;
+        }
+
+        synchronized void addRecent(UUID menuItemId, int quantity, long at) {
+            counter(menuItemId).addRecent(quantity, at);
+        }
+
+        synchronized void addCompleted(UUID menuItemId, int quantity, long at) {
+            ItemCounter counter = counter(menuItemId);
+            counter.allTime += quantity;
+            counter.addRecent(quantity, at);
+        }
+
+        synchronized void remove(UUID menuItemId) {
+            items.remove(menuItemId);
+        }
+
+        synchronized List<PopularItem> top(Ranking ranking, int limit, Predicate<UUID> include, long now) {
+            PriorityQueue<PopularItem> best = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(PopularItem::getScore));
+            for (Map.Entry<UUID, ItemCounter> entry : items.entrySet()) {
+                double score = entry.getValue().score(ranking, now);
+                if (score <= 0 || !include.test(entry.getKey())) {
+                    continue;
+                }
+                if (best.size() < limit) {
+                    best.add(new PopularItem(entry.getKey(), score));
+                } else if (score > best.peek().getScore()) {
+                    best.poll();
+                    best.add(new PopularItem(entry.getKey(), score));
+                }
+            }
+
+            List<PopularItem> ranked = new ArrayList<>(best);
+            ranked.sort(Comparator.comparingDouble(PopularItem::getScore).reversed().thenComparing(PopularItem::getMenuItemId));
+            return ranked;
+        }
+
+        private ItemCounter counter(UUID menuItemId) {
+            return items.computeIfAbsent(menuItemId, id -> new ItemCounter());
+        }
+    }
+
+    /**
+     * Popularity counters of one menu item
+     */
+    private class ItemCounter {
+        private long allTime;
+        private double decayed;
+        private long decayedAt;
+        private final int[] hourlyQuantities = new int[WINDOW_HOURS];
+        private final long[] bucketHours = new long[WINDOW_HOURS];
+
+        void addRecent(int quantity, long at) {
+            if (at >= decayedAt) {
+                decayed = decayed * decayFactor(at - decayedAt) + quantity;
+                decayedAt = at;
+            } else {
+                decayed += quantity * decayFactor(decayedAt - at);
+            }
+
+            long hour = at / HOUR_MILLIS;
+            int slot = (int) (hour % WINDOW_HOURS);
+            if (bucketHours[slot] < hour) {
+                bucketHours[slot] = hour;
+                hourlyQuantities[slot] = 0;
+            }
+            if (bucketHours[slot] == hour) {
+                hourlyQuantities[slot] += quantity;
+            }
+        }
+
+        double score(Ranking ranking, long now) {
+            return switch (ranking) {
+                case ALL_TIME -> allTime;
+                case TRENDING -> decayed * decayFactor(now - decayedAt);
+                case LAST_7_DAYS -> {
+                    long oldestHour = now / HOUR_MILLIS - WINDOW_HOURS;
+                    long total = 0;
+                    for (int slot = 0; slot < WINDOW_HOURS; slot++) {
+                        if (bucketHours[slot] > oldestHour) {
+                            total += hourlyQuantities[slot];
+                        }
+                    }
+                    yield total;
+                }
+            };
+        }
+
+        private double decayFactor(long elapsedMillis) {
+            return Math.pow(0.5, (double) Math.max(elapsedMillis, 0) / halfLifeMillis);
+        }
+    }
+
+    /**
+     * Menu item with its popularity score under one ranking
+     */
+    public static class PopularItem {
+        private final UUID menuItemId;
+        private final double score;
+
+        public PopularItem(UUID menuItemId, double score) {
+            this.menuItemId = menuItemId;
+            this.score = score;
+        }
+
+        // Getters
+        public UUID getMenuItemId() { return menuItemId; }
+        public double getScore() { return score; }
+    }
+}
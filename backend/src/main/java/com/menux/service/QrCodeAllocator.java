@@ -0,0 +1,83 @@
+package com.menux.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Allocates collision-free QR code strings without querying the database
+ *
+ * Each code ends in a compact, time-ordered 63-bit id made of a millisecond timestamp
+ * (41 bits), a node id (10 bits) and a per-millisecond sequence (12 bits). Ids are unique
+ * per node by construction; across instances they are unique as long as every instance
+ * runs with a distinct app.qr.node-id. When no node id is configured a random one is
+ * picked at startup, and the unique constraint on qr_codes.code remains the safety net.
+ */
+@Component
+public class QrCodeAllocator {
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    /**
+     * Custom epoch: 2024-01-01T00:00:00Z
+     */
+    private static final long EPOCH_MILLIS = 1704067200000L;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    /**
+     * Last issued (timestamp, sequence) pair packed as timestamp << SEQUENCE_BITS | sequence
+     */
+    private final AtomicLong lastState = new AtomicLong();
+
+    @Autowired
+    public QrCodeAllocator(@Value("${app.qr.node-id:-1}") long nodeId) {
+        this(nodeId >= 0 ? nodeId : new SecureRandom().nextInt((int) MAX_NODE_ID + 1), System::currentTimeMillis);
+    }
+
+    QrCodeAllocator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("QR node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * Allocate a QR code string for a table
+     */
+    public String nextCode(String baseCode, String tableNumber) {
+        return baseCode + "-" + tableNumber + "-" + Long.toString(nextId(), 36).toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Allocate the next id. Never blocks: when the clock goes backwards or the sequence for
+     * the current millisecond is exhausted, the id borrows from the following millisecond.
+     */
+    public long nextId() {
+        long now = clock.getAsLong() - EPOCH_MILLIS;
+        while (true) {
+            long previous = lastState.get();
+            long previousTimestamp = previous >>> SEQUENCE_BITS;
+            long next = now > previousTimestamp ? now << SEQUENCE_BITS : previous + 1;
+
+            if (lastState.compareAndSet(previous, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+}
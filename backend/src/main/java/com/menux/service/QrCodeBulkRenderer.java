@@ -0,0 +1,125 @@
+package com.menux.service;
+
+import com.menux.service.QrCodeService.ProvisionedQrCode;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Renders QR code PNGs in parallel on a bounded pool and streams them out as a ZIP archive
+ *
+ * Only a small window of rendered images is held in memory at any time: images are written
+ * in table order as soon as the oldest in-flight render completes.
+ */
+@Component
+public class QrCodeBulkRenderer {
+
+    private final QrCodeService qrCodeService;
+    private final ExecutorService renderExecutor;
+    private final int renderWindow;
+
+    @Autowired
+    public QrCodeBulkRenderer(QrCodeService qrCodeService,
+                              @Value("${app.qr.render-threads:0}") int renderThreads) {
+        int threads = renderThreads > 0 ? renderThreads : Runtime.getRuntime().availableProcessors();
+        this.qrCodeService = qrCodeService;
+        this.renderWindow = threads * 2;
+        this.renderExecutor = new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(renderWindow),
+                new CustomizableThreadFactory("qr-render-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Write one PNG per QR code plus a CSV manifest to the output stream as a ZIP archive
+     */
+    public void writeZip(List<ProvisionedQrCode> qrCodes, OutputStream outputStream) throws IOException {
+        Deque<PendingImage> inFlight = new ArrayDeque<>(renderWindow);
+        Iterator<ProvisionedQrCode> remaining = qrCodes.iterator();
+
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        // PNG data is already compressed
+        zip.setLevel(Deflater.BEST_SPEED);
+
+        try {
+            while (remaining.hasNext() || !inFlight.isEmpty()) {
+                while (remaining.hasNext() && inFlight.size() < renderWindow) {
+                    ProvisionedQrCode qrCode = remaining.next();
+                    inFlight.addLast(new PendingImage(qrCode, CompletableFuture.supplyAsync(
+                            () -> qrCodeService.renderQrCodeImage(qrCode.getUrl()).getBytes(), renderExecutor)));
+                }
+
+                PendingImage next = inFlight.removeFirst();
+                zip.putNextEntry(new ZipEntry("table-" + fileSafe(next.qrCode.getTableNumber()) + ".png"));
+                zip.write(awaitImage(next));
+                zip.closeEntry();
+            }
+
+            zip.putNextEntry(new ZipEntry("qr-codes.csv"));
+            zip.write(buildManifest(qrCodes).getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.finish();
+        } finally {
+            inFlight.forEach(pending -> pending.image.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderExecutor.shutdownNow();
+    }
+
+    private byte[] awaitImage(PendingImage pending) throws IOException {
+        try {
+            return pending.image.join();
+        } catch (CompletionException e) {
+            throw new IOException("Failed to render QR code for table " + pending.qrCode.getTableNumber(), e.getCause());
+        }
+    }
+
+    private String buildManifest(List<ProvisionedQrCode> qrCodes) {
+        StringBuilder manifest = new StringBuilder("table_number,code,url,created\n");
+        for (ProvisionedQrCode qrCode : qrCodes) {
+            manifest.append(qrCode.getTableNumber()).append(',')
+                    .append(qrCode.getCode()).append(',')
+                    .append(qrCode.getUrl()).append(',')
+                    .append(qrCode.isCreated()).append('\n');
+        }
+        return manifest.toString();
+    }
+
+    private static String fileSafe(String tableNumber) {
+        return tableNumber.replaceAll("[^A-Za-z0-9_-]", "_");
+    }
+
+    private static class PendingImage {
+        private final ProvisionedQrCode qrCode;
+        private final CompletableFuture<byte[]> image;
+
+        PendingImage(ProvisionedQrCode qrCode, CompletableFuture<byte[]> image) {
+            this.qrCode = qrCode;
+            this.image = image;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.menux.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.menux.event.QrCodeChangedEvent;
+import com.menux.service.QrCodeService.QrCodeImage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Size-bounded cache of rendered QR code PNGs
+ *
+ * Entries are keyed by QR code id and tagged with the version (last modification time)
+ * they were rendered from, so a stale entry is never served even before its eviction
+ * event arrives.
+ */
+@Component
+public class QrCodeImageCache {
+
+    private final Cache<UUID, VersionedImage> imagesById;
+
+    public QrCodeImageCache(@Value("${app.qr.image-cache.max-bytes:16777216}") long maxBytes) {
+        this.imagesById = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((UUID id, VersionedImage entry) -> entry.image.getBytes().length)
+                .build();
+    }
+
+    /**
+     * Get the cached image for the given QR code version, rendering it on a miss
+     */
+    public QrCodeImage get(UUID qrCodeId, Object version, Supplier<QrCodeImage> renderer) {
+        VersionedImage cached = imagesById.getIfPresent(qrCodeId);
+        if (cached != null && Objects.equals(cached.version, version)) {
+            return cached.image;
+        }
+
+        QrCodeImage image = renderer.get();
+        imagesById.put(qrCodeId, new VersionedImage(version, image));
+        return image;
+    }
+
+    /**
+     * Drop the cached image for a QR code
+     */
+    public void invalidate(UUID qrCodeId) {
+        imagesById.invalidate(qrCodeId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQrCodeChanged(QrCodeChangedEvent event) {
+        invalidate(event.getQrCodeId());
+    }
+
+    private static class VersionedImage {
+        private final Object version;
+        private final QrCodeImage image;
+
+        VersionedImage(Object version, QrCodeImage image) {
+            this.version = version;
+            this.image = image;
+        }
+    }
+}
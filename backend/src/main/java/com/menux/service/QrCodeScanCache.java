@@ -0,0 +1,136 @@
+package com.menux.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.menux.event.QrCodeChangedEvent;
+import com.menux.event.RestaurantChangedEvent;
+import com.menux.repository.QrCodeRepository;
+import com.menux.repository.projection.QrCodeScanView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-through index from QR code string to the data needed to resolve a diner scan
+ *
+ * Known codes are kept until a QR code or restaurant change commits (or the positive TTL
+ * passes); unknown codes are remembered for a short negative TTL so floods of invalid codes
+ * do not reach the database.
+ */
+@Component
+public class QrCodeScanCache {
+
+    private final QrCodeRepository qrCodeRepository;
+    private final LoadingCache<String, ScanTarget> targetsByCode;
+
+    @Autowired
+    public QrCodeScanCache(QrCodeRepository qrCodeRepository,
+                           @Value("${app.qr.scan-cache.max-size:50000}") long maxSize,
+                           @Value("${app.qr.scan-cache.ttl:600000}") long ttl,
+                           @Value("${app.qr.scan-cache.negative-ttl:30000}") long negativeTtl) {
+        this.qrCodeRepository = qrCodeRepository;
+        this.targetsByCode = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ScanTargetExpiry(
+                        TimeUnit.MILLISECONDS.toNanos(ttl),
+                        TimeUnit.MILLISECONDS.toNanos(negativeTtl)))
+                .build(this::loadScanTarget);
+    }
+
+    /**
+     * Resolve a QR code string, loading it from the database on a miss
+     */
+    public ScanTarget resolve(String code) {
+        return targetsByCode.get(code);
+    }
+
+    /**
+     * Drop the cached entry for a QR code string
+     */
+    public void invalidate(String code) {
+        targetsByCode.invalidate(code);
+    }
+
+    /**
+     * Drop all cached entries that point at a restaurant
+     */
+    public void invalidateRestaurant(UUID restaurantId) {
+        targetsByCode.asMap().values().removeIf(target -> restaurantId.equals(target.getRestaurantId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQrCodeChanged(QrCodeChangedEvent event) {
+        invalidate(event.getCode());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        invalidateRestaurant(event.getRestaurantId());
+    }
+
+    private ScanTarget loadScanTarget(String code) {
+        return qrCodeRepository.findScanViewByCode(code)
+                .map(view -> new ScanTarget(
+                        view.getRestaurantId(),
+                        view.getTableNumber(),
+                        Boolean.TRUE.equals(view.getQrActive()),
+                        Boolean.TRUE.equals(view.getRestaurantActive())))
+                .orElse(ScanTarget.NOT_FOUND);
+    }
+
+    /**
+     * Immutable scan resolution record
+     */
+    public static class ScanTarget {
+        static final ScanTarget NOT_FOUND = new ScanTarget(null, null, false, false);
+
+        private final UUID restaurantId;
+        private final String tableNumber;
+        private final boolean qrActive;
+        private final boolean restaurantActive;
+
+        public ScanTarget(UUID restaurantId, String tableNumber, boolean qrActive, boolean restaurantActive) {
+            this.restaurantId = restaurantId;
+            this.tableNumber = tableNumber;
+            this.qrActive = qrActive;
+            this.restaurantActive = restaurantActive;
+        }
+
+        // Getters
+        public boolean isFound() { return this != NOT_FOUND; }
+        public UUID getRestaurantId() { return restaurantId; }
+        public String getTableNumber() { return tableNumber; }
+        public boolean isQrActive() { return qrActive; }
+        public boolean isRestaurantActive() { return restaurantActive; }
+    }
+
+    private static class ScanTargetExpiry implements Expiry<String, ScanTarget> {
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        ScanTargetExpiry(long ttlNanos, long negativeTtlNanos) {
+            this.ttlNanos = ttlNanos;
+            this.negativeTtlNanos = negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String code, ScanTarget target, long currentTime) {
+            return target.isFound() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String code, ScanTarget target, long currentTime, long currentDuration) {
+            return expireAfterCreate(code, target, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String code, ScanTarget target, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -7,17 +7,32 @@ import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
 import com.menux.entity.QrCode;
 import com.menux.entity.Restaurant;
+import com.menux.event.QrCodeChangedEvent;
 import com.menux.exception.ResourceNotFoundException;
 import com.menux.repository.QrCodeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -28,6 +43,12 @@ import java.util.UUID;
 public class QrCodeService {
 
     private final QrCodeRepository qrCodeRepository;
+    private final QrCodeAllocator qrCodeAllocator;
+    private final QrCodeImageCache qrCodeImageCache;
+    private final QrCodeScanCache qrCodeScanCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final QRCodeWriter qrCodeWriter = new QRCodeWriter();
 
     @Value("${app.qr.base-url}")
     private String qrBaseUrl;
@@ -38,9 +59,22 @@ public class QrCodeService {
     @Value("${app.qr.height:300}")
     private int qrHeight;
 
+    @Value("${app.qr.bulk-max-tables:500}")
+    private int bulkMaxTables;
+
     @Autowired
-    public QrCodeService(QrCodeRepository qrCodeRepository) {
+    public QrCodeService(QrCodeRepository qrCodeRepository,
+                         QrCodeAllocator qrCodeAllocator,
+                         QrCodeImageCache qrCodeImageCache,
+                         QrCodeScanCache qrCodeScanCache,
+                         ApplicationEventPublisher eventPublisher,
+                         JdbcTemplate jdbcTemplate) {
         this.qrCodeRepository = qrCodeRepository;
+        this.qrCodeAllocator = qrCodeAllocator;
+        this.qrCodeImageCache = qrCodeImageCache;
+        this.qrCodeScanCache = qrCodeScanCache;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     /**
@@ -57,22 +91,115 @@ public class QrCodeService {
         return qrCodeRepository.save(qrCode);
     }
 
+    /**
+     * Provision QR codes for a range of numbered tables, inserting all new rows in one JDBC batch.
+     * When skipExisting is set, tables that already have an active QR code keep it and it is
+     * returned alongside the new ones.
+     */
+    public List<ProvisionedQrCode> provisionTableQrCodes(Restaurant restaurant, int fromTable, int toTable,
+                                                         String tablePrefix, boolean skipExisting) {
+        if (fromTable > toTable) {
+            throw new IllegalArgumentException("First table number must not exceed last table number");
+        }
+        if (toTable - fromTable + 1 > bulkMaxTables) {
+            throw new IllegalArgumentException("At most " + bulkMaxTables + " tables can be provisioned at once");
+        }
+
+        String prefix = tablePrefix == null ? "" : tablePrefix.trim();
+        Map<String, QrCode> existingByTable = new HashMap<>();
+        if (skipExisting) {
+            for (QrCode existing : qrCodeRepository.findByRestaurantAndIsActive(restaurant, true)) {
+                existingByTable.putIfAbsent(existing.getTableNumber(), existing);
+            }
+        }
+
+        String baseCode = buildBaseCode(restaurant);
+        List<ProvisionedQrCode> provisioned = new ArrayList<>();
+        List<ProvisionedQrCode> created = new ArrayList<>();
+
+        for (int table = fromTable; table <= toTable; table++) {
+            String tableNumber = prefix + table;
+            String url = buildQrCodeUrl(restaurant.getId(), tableNumber);
+            QrCode existing = existingByTable.get(tableNumber);
+
+            if (existing != null) {
+                provisioned.add(new ProvisionedQrCode(existing.getId(), existing.getCode(), tableNumber, url, false));
+            } else {
+                String code = qrCodeAllocator.nextCode(baseCode, tableNumber);
+                ProvisionedQrCode qrCode = new ProvisionedQrCode(UUID.randomUUID(), code, tableNumber, url, true);
+                provisioned.add(qrCode);
+                created.add(qrCode);
+            }
+        }
+
+        if (!created.isEmpty()) {
+            insertQrCodes(restaurant.getId(), created);
+        }
+
+        return provisioned;
+    }
+
+    private void insertQrCodes(UUID restaurantId, List<ProvisionedQrCode> qrCodes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO qr_codes (id, restaurant_id, code, table_number, is_active, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)",
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ProvisionedQrCode qrCode = qrCodes.get(i);
+                    ps.setObject(1, qrCode.getId());
+                    ps.setObject(2, restaurantId);
+                    ps.setString(3, qrCode.getCode());
+                    ps.setString(4, qrCode.getTableNumber());
+                    ps.setBoolean(5, true);
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return qrCodes.size();
+                }
+            });
+    }
+
     /**
      * Generate QR code image as Base64 string
      */
+    @Transactional(readOnly = true)
     public String generateQrCodeImage(UUID qrCodeId) {
+        return Base64.getEncoder().encodeToString(getQrCodeImage(qrCodeId).getBytes());
+    }
+
+    /**
+     * Get rendered QR code PNG, served from the image cache when the QR code is unchanged
+     */
+    @Transactional(readOnly = true)
+    public QrCodeImage getQrCodeImage(UUID qrCodeId) {
         QrCode qrCode = getQrCodeById(qrCodeId);
-        String url = qrBaseUrl + "/" + qrCode.getRestaurant().getId() + "?table=" + qrCode.getTableNumber();
-        
+        String url = buildQrCodeUrl(qrCode.getRestaurant().getId(), qrCode.getTableNumber());
+        return qrCodeImageCache.get(qrCodeId, qrCode.getUpdatedAt(), () -> renderQrCodeImage(url));
+    }
+
+    /**
+     * Build the menu URL encoded in a QR code
+     */
+    public String buildQrCodeUrl(UUID restaurantId, String tableNumber) {
+        return qrBaseUrl + "/" + restaurantId + "?table=" + tableNumber;
+    }
+
+    /**
+     * Render a QR code PNG for the given URL
+     */
+    public QrCodeImage renderQrCodeImage(String url) {
         try {
-            QRCodeWriter qrCodeWriter = new QRCodeWriter();
             BitMatrix bitMatrix = qrCodeWriter.encode(url, BarcodeFormat.QR_CODE, qrWidth, qrHeight);
             
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             MatrixToImageWriter.writeToStream(bitMatrix, "PNG", outputStream);
             
-            byte[] qrCodeBytes = outputStream.toByteArray();
-            return Base64.getEncoder().encodeToString(qrCodeBytes);
+            return new QrCodeImage(outputStream.toByteArray());
             
         } catch (WriterException | IOException e) {
             throw new RuntimeException("Failed to generate QR code image", e);
@@ -121,10 +248,13 @@ public class QrCodeService {
         qrCode.setTableNumber(tableNumber);
         
         // Generate new code if table number changed
+        String previousCode = qrCode.getCode();
         String newCode = generateUniqueCode(qrCode.getRestaurant(), tableNumber);
         qrCode.setCode(newCode);
         
-        return qrCodeRepository.save(qrCode);
+        QrCode savedQrCode = qrCodeRepository.save(qrCode);
+        publishQrCodeChanged(savedQrCode, previousCode);
+        return savedQrCode;
     }
 
     /**
@@ -133,7 +263,9 @@ public class QrCodeService {
     public QrCode toggleQrCodeStatus(UUID id) {
         QrCode qrCode = getQrCodeById(id);
         qrCode.setIsActive(!qrCode.getIsActive());
-        return qrCodeRepository.save(qrCode);
+        QrCode savedQrCode = qrCodeRepository.save(qrCode);
+        publishQrCodeChanged(savedQrCode, savedQrCode.getCode());
+        return savedQrCode;
     }
 
     /**
@@ -142,48 +274,52 @@ public class QrCodeService {
     public void deleteQrCode(UUID id) {
         QrCode qrCode = getQrCodeById(id);
         qrCodeRepository.delete(qrCode);
+        publishQrCodeChanged(qrCode, qrCode.getCode());
+    }
+
+    private void publishQrCodeChanged(QrCode qrCode, String previousCode) {
+        eventPublisher.publishEvent(new QrCodeChangedEvent(qrCode.getId(), qrCode.getRestaurant().getId(), previousCode));
     }
 
     /**
      * Generate unique code for QR
+     * Uniqueness comes from the allocator; the unique constraint on the code column is only a safety net
      */
     private String generateUniqueCode(Restaurant restaurant, String tableNumber) {
+        return qrCodeAllocator.nextCode(buildBaseCode(restaurant), tableNumber);
+    }
+
+    /**
+     * Build the restaurant-name prefix used in QR code strings
+     */
+    private String buildBaseCode(Restaurant restaurant) {
         String baseCode = restaurant.getName().replaceAll("[^A-Za-z0-9]", "").toUpperCase();
         if (baseCode.length() > 10) {
             baseCode = baseCode.substring(0, 10);
         }
-        
-        String code = baseCode + "-" + tableNumber + "-" + System.currentTimeMillis();
-        
-        // Ensure uniqueness
-        while (qrCodeRepository.existsByCode(code)) {
-            code = baseCode + "-" + tableNumber + "-" + System.currentTimeMillis();
-        }
-        
-        return code;
+        return baseCode;
     }
 
     /**
      * Validate QR code and get restaurant info
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public QrCodeValidationResult validateQrCode(String code) {
-        try {
-            QrCode qrCode = getQrCodeByCode(code);
-            
-            if (!qrCode.getIsActive()) {
-                return new QrCodeValidationResult(false, "QR Code is inactive", null, null);
-            }
-            
-            if (!qrCode.getRestaurant().getIsActive()) {
-                return new QrCodeValidationResult(false, "Restaurant is inactive", null, null);
-            }
-            
-            return new QrCodeValidationResult(true, "Valid QR Code", qrCode.getRestaurant(), qrCode.getTableNumber());
-            
-        } catch (ResourceNotFoundException e) {
+        QrCodeScanCache.ScanTarget target = qrCodeScanCache.resolve(code);
+
+        if (!target.isFound()) {
             return new QrCodeValidationResult(false, "Invalid QR Code", null, null);
         }
+
+        if (!target.isQrActive()) {
+            return new QrCodeValidationResult(false, "QR Code is inactive", null, null);
+        }
+
+        if (!target.isRestaurantActive()) {
+            return new QrCodeValidationResult(false, "Restaurant is inactive", null, null);
+        }
+
+        return new QrCodeValidationResult(true, "Valid QR Code", target.getRestaurantId(), target.getTableNumber());
     }
 
     /**
@@ -192,20 +328,71 @@ public class QrCodeService {
     public static class QrCodeValidationResult {
         private final boolean valid;
         private final String message;
-        private final Restaurant restaurant;
+        private final UUID restaurantId;
         private final String tableNumber;
 
-        public QrCodeValidationResult(boolean valid, String message, Restaurant restaurant, String tableNumber) {
+        public QrCodeValidationResult(boolean valid, String message, UUID restaurantId, String tableNumber) {
             this.valid = valid;
             this.message = message;
-            this.restaurant = restaurant;
+            this.restaurantId = restaurantId;
             this.tableNumber = tableNumber;
         }
 
         // Getters
         public boolean isValid() { return valid; }
         public String getMessage() { return message; }
-        public Restaurant getRestaurant() { return restaurant; }
+        public UUID getRestaurantId() { return restaurantId; }
+        public String getTableNumber() { return tableNumber; }
+    }
+
+    /**
+     * QR code created or reused by bulk table provisioning
+     */
+    public static class ProvisionedQrCode {
+        private final UUID id;
+        private final String code;
+        private final String tableNumber;
+        private final String url;
+        private final boolean created;
+
+        public ProvisionedQrCode(UUID id, String code, String tableNumber, String url, boolean created) {
+            this.id = id;
+            this.code = code;
+            this.tableNumber = tableNumber;
+            this.url = url;
+            this.created = created;
+        }
+
+        // Getters
+        public UUID getId() { return id; }
+        public String getCode() { return code; }
         public String getTableNumber() { return tableNumber; }
+        public String getUrl() { return url; }
+        public boolean isCreated() { return created; }
+    }
+
+    /**
+     * Rendered QR code PNG with a strong ETag derived from its bytes
+     */
+    public static class QrCodeImage {
+        private final byte[] bytes;
+        private final String etag;
+
+        public QrCodeImage(byte[] bytes) {
+            this.bytes = bytes;
+            this.etag = "\"" + sha256Hex(bytes) + "\"";
+        }
+
+        // Getters
+        public byte[] getBytes() { return bytes; }
+        public String getEtag() { return etag; }
+
+        private static String sha256Hex(byte[] bytes) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
     }
 }
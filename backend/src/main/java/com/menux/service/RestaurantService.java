@@ -1,17 +1,29 @@
 package com.menux.service;
 
+import com.menux.dto.CursorPage;
+import com.menux.dto.KeysetCursor;
 import com.menux.entity.Restaurant;
 import com.menux.entity.SubscriptionType;
 import com.menux.entity.User;
+import com.menux.event.RestaurantChangedEvent;
+import com.menux.event.RestaurantChangedEvent.ChangeType;
 import com.menux.exception.ResourceNotFoundException;
 import com.menux.repository.RestaurantRepository;
+import com.menux.repository.projection.RestaurantCountsView;
+import com.menux.service.TextSearchIndex.Hit;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -21,13 +33,20 @@ import java.util.UUID;
 @Transactional
 public class RestaurantService {
 
+    private static final int MAX_SEARCH_RESULTS = 500;
+
     private final RestaurantRepository restaurantRepository;
     private final QrCodeService qrCodeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchService searchService;
 
     @Autowired
-    public RestaurantService(RestaurantRepository restaurantRepository, QrCodeService qrCodeService) {
+    public RestaurantService(RestaurantRepository restaurantRepository, QrCodeService qrCodeService,
+                             ApplicationEventPublisher eventPublisher, SearchService searchService) {
         this.restaurantRepository = restaurantRepository;
         this.qrCodeService = qrCodeService;
+        this.eventPublisher = eventPublisher;
+        this.searchService = searchService;
     }
 
     /**
@@ -39,6 +58,7 @@ public class RestaurantService {
         // Generate default QR code for the restaurant
         qrCodeService.generateQrCodeForRestaurant(savedRestaurant, "Main");
         
+        eventPublisher.publishEvent(new RestaurantChangedEvent(savedRestaurant.getId(), ChangeType.CREATED));
         return savedRestaurant;
     }
 
@@ -81,7 +101,9 @@ public class RestaurantService {
         restaurant.setPhone(restaurantDetails.getPhone());
         restaurant.setEmail(restaurantDetails.getEmail());
 
-        return restaurantRepository.save(restaurant);
+        Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(id, ChangeType.UPDATED));
+        return savedRestaurant;
     }
 
     /**
@@ -90,7 +112,9 @@ public class RestaurantService {
     public Restaurant updateSubscription(UUID id, SubscriptionType subscriptionType) {
         Restaurant restaurant = getRestaurantById(id);
         restaurant.setSubscriptionType(subscriptionType);
-        return restaurantRepository.save(restaurant);
+        Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(id, ChangeType.UPDATED));
+        return savedRestaurant;
     }
 
     /**
@@ -99,7 +123,9 @@ public class RestaurantService {
     public Restaurant toggleRestaurantStatus(UUID id) {
         Restaurant restaurant = getRestaurantById(id);
         restaurant.setIsActive(!restaurant.getIsActive());
-        return restaurantRepository.save(restaurant);
+        Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(id, ChangeType.UPDATED));
+        return savedRestaurant;
     }
 
     /**
@@ -108,6 +134,7 @@ public class RestaurantService {
     public void deleteRestaurant(UUID id) {
         Restaurant restaurant = getRestaurantById(id);
         restaurantRepository.delete(restaurant);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(id, ChangeType.DELETED));
     }
 
     /**
@@ -142,6 +169,21 @@ public class RestaurantService {
         return restaurantRepository.findAll(pageable);
     }
 
+    /**
+     * Get all restaurants with keyset pagination, newest first
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Restaurant> getAllRestaurants(String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+
+        List<Restaurant> rows = position == null
+                ? restaurantRepository.findFirstPage(limit)
+                : restaurantRepository.findAfter(position.getCreatedAt(), position.getId(), limit);
+
+        return CursorPage.fromRows(rows, size);
+    }
+
     /**
      * Get restaurants by subscription type
      */
@@ -159,19 +201,19 @@ public class RestaurantService {
     }
 
     /**
-     * Search restaurants by name
+     * Search restaurants by name, best match first
      */
     @Transactional(readOnly = true)
     public Page<Restaurant> searchRestaurantsByName(String name, Pageable pageable) {
-        return restaurantRepository.findByNameContaining(name, pageable);
+        return search(name, SearchService.RESTAURANT_NAME, pageable);
     }
 
     /**
-     * Search restaurants by name or address
+     * Search restaurants by name or address, best match first
      */
     @Transactional(readOnly = true)
     public Page<Restaurant> searchRestaurants(String searchTerm, Pageable pageable) {
-        return restaurantRepository.searchRestaurants(searchTerm, pageable);
+        return search(searchTerm, SearchService.RESTAURANT_NAME | SearchService.RESTAURANT_ADDRESS, pageable);
     }
 
     /**
@@ -187,12 +229,9 @@ public class RestaurantService {
      */
     @Transactional(readOnly = true)
     public RestaurantStatistics getRestaurantStatistics() {
-        long totalRestaurants = restaurantRepository.count();
-        long freeRestaurants = restaurantRepository.countBySubscriptionType(SubscriptionType.FREE);
-        long proRestaurants = restaurantRepository.countBySubscriptionType(SubscriptionType.PRO);
-        long activeRestaurants = restaurantRepository.countByIsActive(true);
+        RestaurantCountsView counts = restaurantRepository.countAllBuckets();
 
-        return new RestaurantStatistics(totalRestaurants, freeRestaurants, proRestaurants, activeRestaurants);
+        return new RestaurantStatistics(counts.getTotal(), counts.getFree(), counts.getPro(), counts.getActive());
     }
 
     /**
@@ -226,4 +265,19 @@ public class RestaurantService {
         public long getProRestaurants() { return proRestaurants; }
         public long getActiveRestaurants() { return activeRestaurants; }
     }
+
+    private Page<Restaurant> search(String query, int fields, Pageable pageable) {
+        List<Hit> hits = searchService.searchRestaurants(query, fields, MAX_SEARCH_RESULTS);
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+
+        List<UUID> ids = hits.subList(from, to).stream().map(Hit::getId).toList();
+        Map<UUID, Restaurant> restaurantsById = new HashMap<>();
+        for (Restaurant restaurant : restaurantRepository.findAllById(ids)) {
+            restaurantsById.put(restaurant.getId(), restaurant);
+        }
+
+        List<Restaurant> content = ids.stream().map(restaurantsById::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, pageable, hits.size());
+    }
 }
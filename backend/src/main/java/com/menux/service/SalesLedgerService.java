@@ -0,0 +1,392 @@
+package com.menux.service;
+
+import com.menux.entity.ItemSalesHour;
+import com.menux.entity.OrderStatus;
+import com.menux.entity.RollupGranularity;
+import com.menux.entity.SalesHour;
+import com.menux.entity.SalesLedgerOrder;
+import com.menux.event.OrderChangedEvent;
+import com.menux.event.RestaurantChangedEvent;
+import com.menux.repository.ItemSalesHourRepository;
+import com.menux.repository.OrderItemRepository;
+import com.menux.repository.OrderRepository;
+import com.menux.repository.SalesHourRepository;
+import com.menux.repository.SalesLedgerOrderRepository;
+import com.menux.repository.projection.ItemSalesView;
+import com.menux.repository.projection.SalesLineView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service maintaining hourly sales buckets of completed orders
+ *
+ * When an order completes, its total is added to the restaurant's bucket for that hour and each
+ * line to the bucket of its menu item, in the transaction that completed the order; a
+ * cancellation of a recorded order subtracts the same amounts again. Revenue reports sum the
+ * buckets of the requested range instead of scanning orders.
+ */
+@Service
+@Transactional
+public class SalesLedgerService {
+
+    private static final Set<OrderStatus> RECORDED_STATUSES = Set.of(OrderStatus.COMPLETED);
+    private static final int MAX_SERIES_BUCKETS = 24 * 93;
+
+    private final SalesLedgerOrderRepository salesLedgerOrderRepository;
+    private final SalesHourRepository salesHourRepository;
+    private final ItemSalesHourRepository itemSalesHourRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate newTransaction;
+
+    @Autowired
+    public SalesLedgerService(SalesLedgerOrderRepository salesLedgerOrderRepository,
+                              SalesHourRepository salesHourRepository,
+                              ItemSalesHourRepository itemSalesHourRepository,
+                              OrderItemRepository orderItemRepository,
+                              OrderRepository orderRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.salesLedgerOrderRepository = salesLedgerOrderRepository;
+        this.salesHourRepository = salesHourRepository;
+        this.itemSalesHourRepository = itemSalesHourRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.orderRepository = orderRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (RECORDED_STATUSES.contains(event.getStatus())) {
+            record(event.getOrderId());
+        } else if (event.getStatus() == OrderStatus.CANCELLED) {
+            reverse(event.getOrderId());
+        }
+    }
+
+    /**
+     * Add a completed order to the buckets of the hour it completed in, unless already recorded
+     */
+    public void record(UUID orderId) {
+        if (salesLedgerOrderRepository.existsById(orderId)) {
+            return;
+        }
+        List<SalesLineView> lines = orderItemRepository.findSalesLinesByOrderId(orderId);
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        SalesLineView order = lines.get(0);
+        LocalDateTime bucketStart = RollupGranularity.HOUR.bucketStart(
+                order.getUpdatedAt() != null ? order.getUpdatedAt() : LocalDateTime.now());
+        salesLedgerOrderRepository.save(new SalesLedgerOrder(orderId, order.getRestaurantId(), bucketStart));
+        apply(order.getRestaurantId(), bucketStart, lines, 1);
+    }
+
+    /**
+     * Subtract a recorded order from the buckets it was added to
+     */
+    public void reverse(UUID orderId) {
+        SalesLedgerOrder recorded = salesLedgerOrderRepository.findById(orderId).orElse(null);
+        if (recorded == null) {
+            return;
+        }
+        salesLedgerOrderRepository.delete(recorded);
+        apply(recorded.getRestaurantId(), recorded.getBucketStart(), orderItemRepository.findSalesLinesByOrderId(orderId), -1);
+    }
+
+    /**
+     * Sales of a restaurant in [from, to), in whole hours, as a series plus totals per menu item
+     */
+    @Transactional(readOnly = true)
+    public SalesReport getReport(UUID restaurantId, RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = granularity.bucketStart(from);
+        if (!start.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (granularity.getUnit().between(start, to) >= MAX_SERIES_BUCKETS) {
+            throw new IllegalArgumentException("Range must not exceed " + MAX_SERIES_BUCKETS + " buckets");
+        }
+
+        Map<LocalDateTime, SalesPoint> points = new LinkedHashMap<>();
+        for (LocalDateTime bucket = start; bucket.isBefore(to); bucket = bucket.plus(1, granularity.getUnit())) {
+            points.put(bucket, new SalesPoint(bucket, 0, BigDecimal.ZERO));
+        }
+        long orderCount = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (SalesHour hour : salesHourRepository.findSeries(restaurantId, start, to)) {
+            points.computeIfPresent(granularity.bucketStart(hour.getBucketStart()), (bucket, point) ->
+                    new SalesPoint(bucket, point.getOrderCount() + hour.getOrderCount(), point.getRevenue().add(hour.getRevenue())));
+            orderCount += hour.getOrderCount();
+            revenue = revenue.add(hour.getRevenue());
+        }
+
+        List<ItemSales> items = new ArrayList<>();
+        for (ItemSalesView item : itemSalesHourRepository.sumByMenuItem(restaurantId, start, to)) {
+            items.add(new ItemSales(item.getMenuItemId(), item.getName(), item.getQuantity(), item.getLineCount(), item.getRevenue()));
+        }
+        return new SalesReport(granularity, start, to, orderCount, revenue, new ArrayList<>(points.values()), items);
+    }
+
+    /**
+     * Recompute the buckets of one restaurant from its completed orders
+     *
+     * @return number of orders recorded
+     */
+    public int rebuild(UUID restaurantId) {
+        salesLedgerOrderRepository.deleteByRestaurantId(restaurantId);
+        salesHourRepository.deleteByRestaurantId(restaurantId);
+        itemSalesHourRepository.deleteByRestaurantId(restaurantId);
+
+        Map<UUID, List<SalesLineView>> linesByOrder = new LinkedHashMap<>();
+        for (SalesLineView line : orderItemRepository.findSalesLinesByRestaurantIdAndStatusIn(restaurantId, RECORDED_STATUSES)) {
+            linesByOrder.computeIfAbsent(line.getOrderId(), id -> new ArrayList<>()).add(line);
+        }
+
+        Map<LocalDateTime, SalesHour> hours = new HashMap<>();
+        Map<ItemHourKey, ItemSalesHour> itemHours = new HashMap<>();
+        List<SalesLedgerOrder> recorded = new ArrayList<>(linesByOrder.size());
+        for (List<SalesLineView> lines : linesByOrder.values()) {
+            SalesLineView order = lines.get(0);
+            LocalDateTime bucketStart = RollupGranularity.HOUR.bucketStart(order.getUpdatedAt());
+            recorded.add(new SalesLedgerOrder(order.getOrderId(), restaurantId, bucketStart));
+
+            SalesHour hour = hours.computeIfAbsent(bucketStart, bucket -> new SalesHour(restaurantId, bucket));
+            hour.setOrderCount(hour.getOrderCount() + 1);
+            hour.setRevenue(hour.getRevenue().add(order.getTotalAmount()));
+            for (SalesLineView line : lines) {
+                ItemSalesHour itemHour = itemHours.computeIfAbsent(new ItemHourKey(line.getMenuItemId(), bucketStart),
+                        key -> new ItemSalesHour(restaurantId, key.menuItemId, key.bucketStart));
+                itemHour.setQuantity(itemHour.getQuantity() + line.getQuantity());
+                itemHour.setLineCount(itemHour.getLineCount() + 1);
+                itemHour.setRevenue(itemHour.getRevenue().add(lineRevenue(line)));
+            }
+        }
+
+        salesLedgerOrderRepository.saveAll(recorded);
+        salesHourRepository.saveAll(hours.values());
+        itemSalesHourRepository.saveAll(itemHours.values());
+        return recorded.size();
+    }
+
+    /**
+     * Recompute the buckets of all restaurants, one transaction per restaurant
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LedgerRebuildResult rebuildAll() {
+        Set<UUID> restaurantIds = new LinkedHashSet<>(orderRepository.findDistinctRestaurantIdsByStatusIn(RECORDED_STATUSES));
+        restaurantIds.addAll(salesLedgerOrderRepository.findDistinctRestaurantIds());
+
+        long orders = 0;
+        for (UUID restaurantId : restaurantIds) {
+            Integer recorded = newTransaction.execute(status -> rebuild(restaurantId));
+            orders += recorded != null ? recorded : 0;
+        }
+        return new LedgerRebuildResult(restaurantIds.size(), orders);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.getChangeType() == RestaurantChangedEvent.ChangeType.DELETED) {
+            salesLedgerOrderRepository.deleteByRestaurantId(event.getRestaurantId());
+            salesHourRepository.deleteByRestaurantId(event.getRestaurantId());
+            itemSalesHourRepository.deleteByRestaurantId(event.getRestaurantId());
+        }
+    }
+
+    private void apply(UUID restaurantId, LocalDateTime bucketStart, List<SalesLineView> lines, int sign) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        BigDecimal total = lines.get(0).getTotalAmount();
+        if (salesHourRepository.addToBucket(restaurantId, bucketStart, sign, total.multiply(BigDecimal.valueOf(sign))) == 0) {
+            salesHourRepository.insertIfAbsent(UUID.randomUUID(), restaurantId, bucketStart);
+            salesHourRepository.addToBucket(restaurantId, bucketStart, sign, total.multiply(BigDecimal.valueOf(sign)));
+        }
+
+        Map<UUID, ItemDelta> deltas = new LinkedHashMap<>();
+        for (SalesLineView line : lines) {
+            deltas.computeIfAbsent(line.getMenuItemId(), id -> new ItemDelta()).add(line);
+        }
+        deltas.forEach((menuItemId, delta) -> {
+            long quantity = sign * delta.quantity;
+            long lineCount = sign * delta.lineCount;
+            BigDecimal revenue = delta.revenue.multiply(BigDecimal.valueOf(sign));
+            if (itemSalesHourRepository.addToBucket(restaurantId, menuItemId, bucketStart, quantity, lineCount, revenue) == 0) {
+                itemSalesHourRepository.insertIfAbsent(UUID.randomUUID(), restaurantId, menuItemId, bucketStart);
+                itemSalesHourRepository.addToBucket(restaurantId, menuItemId, bucketStart, quantity, lineCount, revenue);
+            }
+        });
+    }
+
+    private static BigDecimal lineRevenue(SalesLineView line) {
+        return line.getUnitPrice().multiply(BigDecimal.valueOf(line.getQuantity()));
+    }
+
+    private static final class ItemHourKey {
+        private final UUID menuItemId;
+        private final LocalDateTime bucketStart;
+
+        private ItemHourKey(UUID menuItemId, LocalDateTime bucketStart) {
+            this.menuItemId = menuItemId;
+            this.bucketStart = bucketStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ItemHourKey other)) return false;
+            return menuItemId.equals(other.menuItemId) && bucketStart.equals(other.bucketStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(menuItemId, bucketStart);
+        }
+    }
+
+    /**
+     * Sums of the lines of one order for one menu item
+     */
+    private static class ItemDelta {
+        private long quantity;
+        private long lineCount;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        void add(SalesLineView line) {
+            quantity += line.getQuantity();
+            lineCount++;
+            revenue = revenue.add(lineRevenue(line));
+        }
+    }
+
+    /**
+     * Sales of a restaurant over a range
+     */
+    public static class SalesReport {
+        private final RollupGranularity granularity;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final long orderCount;
+        private final BigDecimal revenue;
+        private final List<SalesPoint> points;
+        private final List<ItemSales> items;
+
+        public SalesReport(RollupGranularity granularity, LocalDateTime from, LocalDateTime to, long orderCount,
+                           BigDecimal revenue, List<SalesPoint> points, List<ItemSales> items) {
+            this.granularity = granularity;
+            this.from = from;
+            this.to = to;
+            this.orderCount = orderCount;
+            this.revenue = revenue;
+            this.points = points;
+            this.items = items;
+        }
+
+        /**
+         * Mean total of a completed order, or null without orders
+         */
+        public BigDecimal getAverageOrderValue() {
+            return orderCount == 0 ? null : revenue.divide(BigDecimal.valueOf(orderCount), 2, RoundingMode.HALF_UP);
+        }
+
+        // Getters
+        public RollupGranularity getGranularity() { return granularity; }
+        public LocalDateTime getFrom() { return from; }
+        public LocalDateTime getTo() { return to; }
+        public long getOrderCount() { return orderCount; }
+        public BigDecimal getRevenue() { return revenue; }
+        public List<SalesPoint> getPoints() { return points; }
+        public List<ItemSales> getItems() { return items; }
+    }
+
+    /**
+     * Completed orders and revenue in one bucket
+     */
+    public static class SalesPoint {
+        private final LocalDateTime bucketStart;
+        private final long orderCount;
+        private final BigDecimal revenue;
+
+        public SalesPoint(LocalDateTime bucketStart, long orderCount, BigDecimal revenue) {
+            this.bucketStart = bucketStart;
+            this.orderCount = orderCount;
+            this.revenue = revenue;
+        }
+
+        // Getters
+        public LocalDateTime getBucketStart() { return bucketStart; }
+        public long getOrderCount() { return orderCount; }
+        public BigDecimal getRevenue() { return revenue; }
+    }
+
+    /**
+     * Sales of one menu item over a range
+     */
+    public static class ItemSales {
+        private final UUID menuItemId;
+        private final String name;
+        private final long quantity;
+        private final long lineCount;
+        private final BigDecimal revenue;
+
+        public ItemSales(UUID menuItemId, String name, long quantity, long lineCount, BigDecimal revenue) {
+            this.menuItemId = menuItemId;
+            this.name = name;
+            this.quantity = quantity;
+            this.lineCount = lineCount;
+            this.revenue = revenue;
+        }
+
+        /**
+         * Mean revenue of an order line of this item, or null without lines
+         */
+        public BigDecimal getAverageLineValue() {
+            return lineCount == 0 ? null : revenue.divide(BigDecimal.valueOf(lineCount), 2, RoundingMode.HALF_UP);
+        }
+
+        // Getters
+        public UUID getMenuItemId() { return menuItemId; }
+        public String getName() { return name; }
+        public long getQuantity() { return quantity; }
+        public long getLineCount() { return lineCount; }
+        public BigDecimal getRevenue() { return revenue; }
+    }
+
+    /**
+     * Result of a ledger rebuild
+     */
+    public static class LedgerRebuildResult {
+        private final int restaurantsRebuilt;
+        private final long ordersRecorded;
+
+        public LedgerRebuildResult(int restaurantsRebuilt, long ordersRecorded) {
+            this.restaurantsRebuilt = restaurantsRebuilt;
+            this.ordersRecorded = ordersRecorded;
+        }
+
+        // Getters
+        public int getRestaurantsRebuilt() { return restaurantsRebuilt; }
+        public long getOrdersRecorded() { return ordersRecorded; }
+    }
+}
@@ -0,0 +1,169 @@
+package com.menux.service;
+
+import com.menux.event.MenuChangedEvent;
+import com.menux.event.RestaurantChangedEvent;
+import com.menux.repository.MenuItemRepository;
+import com.menux.repository.RestaurantRepository;
+import com.menux.repository.projection.MenuItemSearchView;
+import com.menux.repository.projection.RestaurantSearchView;
+import com.menux.service.TextSearchIndex.Hit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Service answering search-box queries over restaurants and menu items from in-memory indexes
+ *
+ * Restaurants share one index over name and address; each restaurant has its own menu index
+ * over item name and description. The indexes are built from the database at startup, kept
+ * current from restaurant and menu events, and rebuilt on a schedule to pick up changes made on
+ * other instances; writes that happen during a rebuild are replayed onto the new indexes.
+ */
+@Service
+public class SearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+
+    public static final int RESTAURANT_NAME = 1;
+    public static final int RESTAURANT_ADDRESS = 1 << 1;
+
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double TEXT_WEIGHT = 1.0;
+
+    private final RestaurantRepository restaurantRepository;
+    private final MenuItemRepository menuItemRepository;
+
+    private volatile TextSearchIndex restaurants = newRestaurantIndex();
+    private volatile ConcurrentMap<UUID, TextSearchIndex> menus = new ConcurrentHashMap<>();
+    private volatile PendingChanges pendingChanges;
+
+    @Autowired
+    public SearchService(RestaurantRepository restaurantRepository, MenuItemRepository menuItemRepository) {
+        this.restaurantRepository = restaurantRepository;
+        this.menuItemRepository = menuItemRepository;
+    }
+
+    /**
+     * Restaurants matching a query in the given fields, best first
+     */
+    public List<Hit> searchRestaurants(String query, int fieldMask, int limit) {
+        return restaurants.search(query, fieldMask, limit);
+    }
+
+    /**
+     * Menu items of a restaurant matching a query in their name or description, best first
+     */
+    public List<Hit> searchMenu(UUID restaurantId, String query, int limit) {
+        TextSearchIndex menu = menus.get(restaurantId);
+        return menu == null ? List.of() : menu.search(query, TextSearchIndex.ALL_FIELDS, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild all indexes from the database
+     */
+    @Scheduled(fixedDelayString = "${app.search.rebuild-interval:300000}",
+               initialDelayString = "${app.search.rebuild-interval:300000}")
+    public synchronized void rebuild() {
+        PendingChanges changes = new PendingChanges();
+        pendingChanges = changes;
+        try {
+            TextSearchIndex restaurantIndex = newRestaurantIndex();
+            for (RestaurantSearchView restaurant : restaurantRepository.findAllSearchViews()) {
+                restaurantIndex.put(restaurant.getId(), restaurant.getName(), restaurant.getAddress());
+            }
+
+            ConcurrentMap<UUID, TextSearchIndex> menuIndexes = new ConcurrentHashMap<>();
+            List<MenuItemSearchView> items = menuItemRepository.findAllSearchViews();
+            for (MenuItemSearchView item : items) {
+                menuIndexes.computeIfAbsent(item.getRestaurantId(), id -> newMenuIndex())
+                        .put(item.getId(), item.getName(), item.getDescription());
+            }
+
+            restaurants = restaurantIndex;
+            menus = menuIndexes;
+            logger.info("Built search indexes for {} restaurants and {} menu items", restaurantIndex.size(), items.size());
+        } finally {
+            pendingChanges = null;
+        }
+
+        changes.restaurantIds.forEach(this::syncRestaurant);
+        changes.menuItems.forEach(this::syncMenuItem);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        PendingChanges changes = pendingChanges;
+        if (changes != null) {
+            changes.restaurantIds.add(event.getRestaurantId());
+        }
+        syncRestaurant(event.getRestaurantId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        if (event.getEntityType() != MenuChangedEvent.EntityType.ITEM) {
+            return;
+        }
+        PendingChanges changes = pendingChanges;
+        if (changes != null) {
+            changes.menuItems.put(event.getEntityId(), event.getRestaurantId());
+        }
+        syncMenuItem(event.getEntityId(), event.getRestaurantId());
+    }
+
+    private void syncRestaurant(UUID restaurantId) {
+        RestaurantSearchView restaurant = restaurantRepository.findSearchViewById(restaurantId).orElse(null);
+        if (restaurant == null) {
+            restaurants.remove(restaurantId);
+            menus.remove(restaurantId);
+        } else {
+            restaurants.put(restaurant.getId(), restaurant.getName(), restaurant.getAddress());
+        }
+    }
+
+    private void syncMenuItem(UUID itemId, UUID restaurantId) {
+        MenuItemSearchView item = menuItemRepository.findSearchViewById(itemId).orElse(null);
+        if (item == null) {
+            TextSearchIndex menu = menus.get(restaurantId);
+            if (menu != null) {
+                menu.remove(itemId);
+            }
+        } else {
+            menus.computeIfAbsent(item.getRestaurantId(), id -> newMenuIndex())
+                    .put(item.getId(), item.getName(), item.getDescription());
+        }
+    }
+
+    private static TextSearchIndex newRestaurantIndex() {
+        return new TextSearchIndex(NAME_WEIGHT, TEXT_WEIGHT);
+    }
+
+    private static TextSearchIndex newMenuIndex() {
+        return new TextSearchIndex(NAME_WEIGHT, TEXT_WEIGHT);
+    }
+
+    /**
+     * Entities written while a rebuild is reading the database
+     */
+    private static class PendingChanges {
+        private final Set<UUID> restaurantIds = ConcurrentHashMap.newKeySet();
+        private final Map<UUID, UUID> menuItems = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,106 @@
+package com.menux.service;
+
+import com.menux.service.RestaurantService.RestaurantStatistics;
+import com.menux.service.UserService.UserStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Service for the admin dashboard statistics
+ *
+ * When the snapshot is enabled, statistics are recomputed in the background and served
+ * from memory as long as they are younger than the configured staleness bound; an
+ * older snapshot is recomputed by the first reader that sees it.
+ */
+@Service
+public class StatisticsService {
+
+    private final RestaurantService restaurantService;
+    private final UserService userService;
+    private final boolean snapshotEnabled;
+    private final Duration maxStaleness;
+
+    private volatile StatisticsSnapshot snapshot;
+
+    @Autowired
+    public StatisticsService(RestaurantService restaurantService,
+                             UserService userService,
+                             @Value("${app.statistics.snapshot.enabled:false}") boolean snapshotEnabled,
+                             @Value("${app.statistics.snapshot.max-staleness:30000}") long maxStalenessMillis) {
+        this.restaurantService = restaurantService;
+        this.userService = userService;
+        this.snapshotEnabled = snapshotEnabled;
+        this.maxStaleness = Duration.ofMillis(maxStalenessMillis);
+    }
+
+    /**
+     * Get restaurant and user statistics, from the snapshot when it is fresh enough
+     */
+    public StatisticsSnapshot getStatistics() {
+        if (!snapshotEnabled) {
+            return compute();
+        }
+
+        StatisticsSnapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        return refreshIfStale();
+    }
+
+    /**
+     * Recompute the snapshot in the background
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.snapshot.refresh-interval:15000}",
+               initialDelayString = "${app.statistics.snapshot.refresh-interval:15000}")
+    public void refreshSnapshot() {
+        if (snapshotEnabled) {
+            snapshot = compute();
+        }
+    }
+
+    private synchronized StatisticsSnapshot refreshIfStale() {
+        StatisticsSnapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        snapshot = compute();
+        return snapshot;
+    }
+
+    private boolean isFresh(StatisticsSnapshot current) {
+        return current != null && current.getComputedAt().plus(maxStaleness).isAfter(Instant.now());
+    }
+
+    private StatisticsSnapshot compute() {
+        return new StatisticsSnapshot(
+                restaurantService.getRestaurantStatistics(),
+                userService.getUserStatistics(),
+                Instant.now());
+    }
+
+    /**
+     * Restaurant and user statistics computed at one point in time
+     */
+    public static class StatisticsSnapshot {
+        private final RestaurantStatistics restaurants;
+        private final UserStatistics users;
+        private final Instant computedAt;
+
+        public StatisticsSnapshot(RestaurantStatistics restaurants, UserStatistics users, Instant computedAt) {
+            this.restaurants = restaurants;
+            this.users = users;
+            this.computedAt = computedAt;
+        }
+
+        // Getters
+        public RestaurantStatistics getRestaurants() { return restaurants; }
+        public UserStatistics getUsers() { return users; }
+        public Instant getComputedAt() { return computedAt; }
+    }
+}
@@ -0,0 +1,289 @@
+package com.menux.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over short text fields with prefix matching, typo tolerance and ranking
+ *
+ * Text is folded to lower-case ASCII where possible and split into alphanumeric tokens. Each
+ * term maps to the documents containing it with a bitmask of the fields it appears in. A query
+ * matches a document when every query token matches one of its terms exactly, as a prefix, or
+ * within a small edit distance (one edit from four characters, two from eight; the first
+ * character must match). Documents are ranked by the sum over query tokens of match quality,
+ * field weight and inverse document frequency.
+ */
+public class TextSearchIndex {
+
+    public static final int ALL_FIELDS = -1;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final int MAX_TOKEN_LENGTH = 32;
+    private static final int MAX_QUERY_TOKENS = 8;
+    private static final int MAX_EXPANSIONS = 256;
+
+    private static final double EXACT_MATCH = 1.0;
+    private static final double PREFIX_MATCH = 0.7;
+    private static final double ONE_EDIT_MATCH = 0.6;
+    private static final double TWO_EDIT_MATCH = 0.4;
+
+    private final double[] fieldWeights;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Map<UUID, Integer>> postings = new TreeMap<>();
+    private final Map<UUID, Set<String>> termsByDocument = new HashMap<>();
+
+    /**
+     * Create an index whose documents have one text field per weight, in order
+     */
+    public TextSearchIndex(double... fieldWeights) {
+        if (fieldWeights.length == 0 || fieldWeights.length > 31) {
+            throw new IllegalArgumentException("An index needs between 1 and 31 fields");
+        }
+        this.fieldWeights = fieldWeights.clone();
+    }
+
+    /**
+     * Add or replace a document; field texts are given in field order and may be null
+     */
+    public void put(UUID id, String... fields) {
+        Map<String, Integer> fieldMasks = new HashMap<>();
+        for (int field = 0; field < fields.length && field < fieldWeights.length; field++) {
+            for (String token : tokenize(fields[field])) {
+                fieldMasks.merge(token, 1 << field, (left, right) -> left | right);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            fieldMasks.forEach((term, mask) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, mask));
+            termsByDocument.put(id, fieldMasks.keySet());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document if present
+     */
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed documents
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termsByDocument.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Best matching documents for a query over the fields in fieldMask, highest score first
+     */
+    public List<Hit> search(String query, int fieldMask, int limit) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (queryTokens.size() > MAX_QUERY_TOKENS) {
+            queryTokens = queryTokens.subList(0, MAX_QUERY_TOKENS);
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<UUID, Double> scores = null;
+            for (String token : queryTokens) {
+                Map<UUID, Double> tokenScores = scoreToken(token, fieldMask);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    Map<UUID, Double> combined = new HashMap<>();
+                    for (Map.Entry<UUID, Double> entry : scores.entrySet()) {
+                        Double tokenScore = tokenScores.get(entry.getKey());
+                        if (tokenScore != null) {
+                            combined.put(entry.getKey(), entry.getValue() + tokenScore);
+                        }
+                    }
+                    scores = combined;
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(scores.size());
+            scores.forEach((id, score) -> hits.add(new Hit(id, score)));
+            hits.sort((left, right) -> {
+                int byScore = Double.compare(right.getScore(), left.getScore());
+                return byScore != 0 ? byScore : left.getId().compareTo(right.getId());
+            });
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Split text into normalized search tokens, without duplicates
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private Map<UUID, Double> scoreToken(String token, int fieldMask) {
+        Map<UUID, Double> scores = new HashMap<>();
+
+        // Exact and prefix matches share the range [token, token + max char)
+        int expansions = 0;
+        for (Map.Entry<String, Map<UUID, Integer>> entry : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+            if (expansions++ >= MAX_EXPANSIONS) {
+                break;
+            }
+            String term = entry.getKey();
+            double quality = term.length() == token.length() ? EXACT_MATCH
+                    : PREFIX_MATCH + (EXACT_MATCH - PREFIX_MATCH) * token.length() / term.length() / 2;
+            accumulate(scores, entry.getValue(), quality, fieldMask);
+        }
+
+        int maxEdits = token.length() >= 8 ? 2 : token.length() >= 4 ? 1 : 0;
+        if (maxEdits > 0) {
+            String first = token.substring(0, 1);
+            NavigableMap<String, Map<UUID, Integer>> sameInitial = postings.subMap(first, true, first + Character.MAX_VALUE, false);
+            expansions = 0;
+            for (Map.Entry<String, Map<UUID, Integer>> entry : sameInitial.entrySet()) {
+                String term = entry.getKey();
+                if (term.startsWith(token) || Math.abs(term.length() - token.length()) > maxEdits) {
+                    continue;
+                }
+                int edits = editDistance(token, term, maxEdits);
+                if (edits <= maxEdits && expansions++ < MAX_EXPANSIONS) {
+                    accumulate(scores, entry.getValue(), edits == 1 ? ONE_EDIT_MATCH : TWO_EDIT_MATCH, fieldMask);
+                }
+            }
+        }
+        return scores;
+    }
+
+    private void accumulate(Map<UUID, Double> scores, Map<UUID, Integer> documents, double quality, int fieldMask) {
+        double idf = Math.log(1.0 + (double) termsByDocument.size() / documents.size());
+        for (Map.Entry<UUID, Integer> posting : documents.entrySet()) {
+            int fields = posting.getValue() & fieldMask;
+            if (fields == 0) {
+                continue;
+            }
+            double score = quality * bestWeight(fields) * idf;
+            scores.merge(posting.getKey(), score, Math::max);
+        }
+    }
+
+    private double bestWeight(int fields) {
+        double best = 0;
+        for (int field = 0; field < fieldWeights.length; field++) {
+            if ((fields & (1 << field)) != 0) {
+                best = Math.max(best, fieldWeights[field]);
+            }
+        }
+        return best;
+    }
+
+    private void removeLocked(UUID id) {
+        Set<String> terms = termsByDocument.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<UUID, Integer> documents = postings.get(term);
+            if (documents != null) {
+                documents.remove(id);
+                if (documents.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * Optimal string alignment distance, or maxEdits + 1 once it is known to exceed maxEdits
+     */
+    static int editDistance(String left, String right, int maxEdits) {
+        int[] previousPrevious = new int[right.length() + 1];
+        int[] previous = new int[right.length() + 1];
+        int[] current = new int[right.length() + 1];
+        for (int j = 0; j <= right.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= left.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= right.length(); j++) {
+                int cost = left.charAt(i - 1) == right.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && left.charAt(i - 1) == right.charAt(j - 2) && left.charAt(i - 2) == right.charAt(j - 1)) {
+                    value = Math.min(value, previousPrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMinimum = Math.min(rowMinimum, value);
+            }
+            if (rowMinimum > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[right.length()];
+    }
+
+    /**
+     * Matching document with its relevance score
+     */
+    public static class Hit {
+        private final UUID id;
+        private final double score;
+
+        public Hit(UUID id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        // Getters
+        public UUID getId() { return id; }
+        public double getScore() { return score; }
+    }
+}
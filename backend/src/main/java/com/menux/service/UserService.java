@@ -1,11 +1,17 @@
 package com.menux.service;
 
+import com.menux.dto.CursorPage;
+import com.menux.dto.KeysetCursor;
 import com.menux.entity.User;
 import com.menux.entity.UserRole;
+import com.menux.event.UserStatusChangedEvent;
 import com.menux.exception.ResourceNotFoundException;
 import com.menux.exception.DuplicateResourceException;
 import com.menux.repository.UserRepository;
+import com.menux.repository.projection.UserCountsView;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,11 +31,14 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -109,7 +118,9 @@ public class UserService {
     public User toggleUserStatus(UUID id) {
         User user = getUserById(id);
         user.setIsActive(!user.getIsActive());
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(id));
+        return savedUser;
     }
 
     /**
@@ -118,6 +129,7 @@ public class UserService {
     public void deleteUser(UUID id) {
         User user = getUserById(id);
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(id));
     }
 
     /**
@@ -144,6 +156,28 @@ public class UserService {
         return userRepository.findByRole(role, pageable);
     }
 
+    /**
+     * Get users, optionally filtered by role, with keyset pagination, newest first
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<User> getUsers(UserRole role, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+
+        List<User> rows;
+        if (role == null) {
+            rows = position == null
+                    ? userRepository.findFirstPage(limit)
+                    : userRepository.findAfter(position.getCreatedAt(), position.getId(), limit);
+        } else {
+            rows = position == null
+                    ? userRepository.findByRoleFirstPage(role, limit)
+                    : userRepository.findByRoleAfter(role, position.getCreatedAt(), position.getId(), limit);
+        }
+
+        return CursorPage.fromRows(rows, size);
+    }
+
     /**
      * Search users by name or email
      */
@@ -165,12 +199,9 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public UserStatistics getUserStatistics() {
-        long totalUsers = userRepository.count();
-        long superAdmins = userRepository.countByRole(UserRole.SUPER_ADMIN);
-        long restaurantOwners = userRepository.countByRole(UserRole.RESTAURANT_OWNER);
-        long activeUsers = userRepository.countByIsActive(true);
+        UserCountsView counts = userRepository.countAllBuckets();
 
-        return new UserStatistics(totalUsers, superAdmins, restaurantOwners, activeUsers);
+        return new UserStatistics(counts.getTotal(), counts.getSuperAdmins(), counts.getRestaurantOwners(), counts.getActive());
     }
 
     /**
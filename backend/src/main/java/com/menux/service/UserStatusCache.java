@@ -0,0 +1,60 @@
+package com.menux.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.menux.event.UserStatusChangedEvent;
+import com.menux.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Small in-memory cache of user active flags used by stateless JWT authentication
+ *
+ * Entries are evicted as soon as a status change commits on this node; the TTL bounds
+ * how long a change made on another node can go unnoticed.
+ */
+@Component
+public class UserStatusCache {
+
+    private final UserRepository userRepository;
+    private final LoadingCache<UUID, Boolean> activeByUserId;
+
+    @Autowired
+    public UserStatusCache(UserRepository userRepository,
+                           @Value("${app.security.user-status-cache.ttl:30000}") long ttl,
+                           @Value("${app.security.user-status-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.activeByUserId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+                .build(this::loadActiveStatus);
+    }
+
+    /**
+     * Check whether the user exists and is active
+     */
+    public boolean isActive(UUID userId) {
+        return activeByUserId.get(userId);
+    }
+
+    /**
+     * Drop the cached status for a user
+     */
+    public void invalidate(UUID userId) {
+        activeByUserId.invalidate(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    private Boolean loadActiveStatus(UUID userId) {
+        return userRepository.findIsActiveById(userId).orElse(false);
+    }
+}
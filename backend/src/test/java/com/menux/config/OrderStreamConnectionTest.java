@@ -0,0 +1,98 @@
+package com.menux.config;
+
+import com.menux.entity.Restaurant;
+import com.menux.entity.User;
+import com.menux.entity.UserRole;
+import com.menux.repository.RestaurantRepository;
+import com.menux.repository.UserRepository;
+import com.menux.security.JwtUtil;
+import com.menux.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.menux.service.OrderStreamService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Open order event streams must not pin database connections for their lifetime
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = "app.orders.stream.heartbeat-interval=200")
+@ActiveProfiles("test")
+public class OrderStreamConnectionTest {
+
+    private static final int STREAMS = 3;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private OrderStreamService orderStreamService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    public void testOpenStreamsHoldNoDatabaseConnections() throws Exception {
+        User owner = userRepository.save(new User("stream-" + UUID.randomUUID() + "@example.com", "hashedPassword123",
+                "Stream", "Owner", UserRole.RESTAURANT_OWNER));
+        UUID restaurantId = restaurantRepository.save(new Restaurant(owner, "Stream Restaurant", "Stream Street")).getId();
+        String token = jwtUtil.generateToken(new CustomUserPrincipal(owner));
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/restaurant/" + restaurantId + "/orders/stream"))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "text/event-stream")
+                .build();
+
+        List<InputStream> streams = new ArrayList<>();
+        try {
+            for (int i = 0; i < STREAMS; i++) {
+                HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                assertThat(response.statusCode()).isEqualTo(200);
+                streams.add(response.body());
+            }
+            waitFor(() -> orderStreamService.getConnectionCount() >= STREAMS);
+
+            waitFor(() -> pool.getHikariPoolMXBean().getActiveConnections() == 0);
+            assertThat(pool.getHikariPoolMXBean().getActiveConnections()).isZero();
+        } finally {
+            for (InputStream stream : streams) {
+                stream.close();
+            }
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.menux.config;
+
+import com.menux.entity.Restaurant;
+import com.menux.entity.User;
+import com.menux.entity.UserRole;
+import com.menux.repository.RestaurantRepository;
+import com.menux.repository.UserRepository;
+import com.menux.service.CustomUserDetailsService;
+import com.menux.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.menux.service.MenuSnapshotService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing between two in-memory H2 databases standing in for the primary and its replica
+ */
+@SpringBootTest(properties = {
+    "app.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+    "app.datasource.replica.lag-query=SELECT lag_millis FROM replica_status",
+    "app.datasource.replica.max-lag=1000",
+    "app.datasource.replica.read-your-writes-window=60000",
+    "app.datasource.replica.health-check-interval=3600000"
+})
+@ActiveProfiles("test")
+public class ReadReplicaRoutingTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private MenuSnapshotService menuSnapshotService;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        setReplicaLag(0);
+        assertThat(replicaRoutingDataSource.checkReplicaHealth()).isTrue();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testReadOnlyTransactionsGoToTheReplica() {
+        assertThat(databaseIn(true)).isEqualTo("REPLICA");
+        assertThat(databaseIn(false)).isEqualTo("TESTDB");
+        assertThat(jdbcTemplate.queryForObject("SELECT DATABASE()", String.class)).isEqualTo("TESTDB");
+    }
+
+    @Test
+    public void testUserReadsTheirOwnWritesFromThePrimary() {
+        signIn(UUID.randomUUID());
+        assertThat(databaseIn(true)).isEqualTo("REPLICA");
+        assertThat(databaseIn(false)).isEqualTo("TESTDB");
+        assertThat(databaseIn(true)).isEqualTo("TESTDB");
+
+        signIn(UUID.randomUUID());
+        assertThat(databaseIn(true)).isEqualTo("REPLICA");
+    }
+
+    @Test
+    public void testLaggingReplicaFallsBackToThePrimary() {
+        setReplicaLag(30000);
+        assertThat(replicaRoutingDataSource.checkReplicaHealth()).isFalse();
+        assertThat(databaseIn(true)).isEqualTo("TESTDB");
+
+        setReplicaLag(0);
+        assertThat(replicaRoutingDataSource.checkReplicaHealth()).isTrue();
+        assertThat(databaseIn(true)).isEqualTo("REPLICA");
+    }
+
+    @Test
+    public void testCacheFillsAndLoginReadThePrimaryWhileTheReplicaIsBehind() {
+        copySchemaToReplica();
+        String email = "replica-" + UUID.randomUUID() + "@example.com";
+        User owner = userRepository.save(new User(email, "hashedPassword123", "Replica", "Owner", UserRole.RESTAURANT_OWNER));
+        Restaurant restaurant = restaurantRepository.save(new Restaurant(owner, "Replica Restaurant", "Replica Street"));
+
+        // The replica has not received the new rows yet
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Optional<User> fromReplica = readOnly.execute(status -> userRepository.findByEmail(email));
+        assertThat(fromReplica).isEmpty();
+
+        assertThat(customUserDetailsService.loadUserByUsername(email).getUsername()).isEqualTo(email);
+        assertThat(menuSnapshotService.getSnapshot(restaurant.getId()).getMenu().getName()).isEqualTo("Replica Restaurant");
+        Optional<User> fromPrimary = readOnly.execute(status ->
+                ReplicaRoutingDataSource.onPrimary(() -> userRepository.findByEmail(email)));
+        assertThat(fromPrimary).isPresent();
+    }
+
+    @Test
+    public void testRequestScopedEntityManagerSwitchesPoolsBetweenTransactions() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            assertThat(databaseIn(true)).isEqualTo("REPLICA");
+            assertThat(databaseIn(false)).isEqualTo("TESTDB");
+            assertThat(databaseIn(true)).isEqualTo("REPLICA");
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+
+    private String databaseIn(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    /**
+     * Give the replica the primary's tables without any of its rows
+     */
+    private void copySchemaToReplica() {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        if (replica.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = 'USERS'", Integer.class) > 0) {
+            return;
+        }
+        for (String statement : jdbcTemplate.queryForList("SCRIPT NODATA NOPASSWORDS NOSETTINGS", String.class)) {
+            if (!statement.startsWith("CREATE USER")) {
+                replica.execute(statement);
+            }
+        }
+    }
+
+    private void setReplicaLag(long lagMillis) {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_status (lag_millis BIGINT)");
+        replica.update("DELETE FROM replica_status");
+        replica.update("INSERT INTO replica_status (lag_millis) VALUES (?)", lagMillis);
+    }
+
+    private static void signIn(UUID userId) {
+        CustomUserPrincipal principal = new CustomUserPrincipal(userId, userId + "@example.com", UserRole.RESTAURANT_OWNER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
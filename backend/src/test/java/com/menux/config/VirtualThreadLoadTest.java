@@ -0,0 +1,155 @@
+package com.menux.config;
+
+import com.menux.entity.Restaurant;
+import com.menux.entity.User;
+import com.menux.entity.UserRole;
+import com.menux.repository.RestaurantRepository;
+import com.menux.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Burst of QR scans on platform threads against virtual threads; run with mvn test -P load-test on Java 21
+ *
+ * Each scan looks up a restaurant and holds its connection for a simulated network round trip,
+ * over a pool of three connections as in production. Platform threads are capped like Tomcat's
+ * default worker pool; virtual threads get one thread per scan behind the pool-sized limiter.
+ */
+@Tag("load")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.datasource.hikari.maximum-pool-size=3",
+    "spring.datasource.hikari.connection-timeout=120000",
+    "logging.level.com.menux=INFO",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+    "logging.level.org.springframework.security=WARN"
+})
+@ActiveProfiles("test")
+public class VirtualThreadLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+    private static final int SCANS = Integer.getInteger("load.scans", 5000);
+    private static final int PLATFORM_THREADS = Integer.getInteger("load.platformThreads", 200);
+    private static final long ROUND_TRIP_MILLIS = Long.getLong("load.roundTripMillis", 2);
+    private static final double MIN_VIRTUAL_RATIO = Double.parseDouble(System.getProperty("load.minVirtualRatio", "0.9"));
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Test
+    public void testVirtualThreadsKeepUpWithPlatformThreads() throws Exception {
+        User owner = userRepository.save(new User("scan-owner@example.com", "hashedPassword123", "Scan", "Owner", UserRole.RESTAURANT_OWNER));
+        UUID restaurantId = restaurantRepository.save(new Restaurant(owner, "Scan Restaurant", "Scan Street")).getId();
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+
+        // Warm up the pool and JIT
+        burst(Executors.newFixedThreadPool(PLATFORM_THREADS), new JdbcTemplate(pool), restaurantId, SCANS / 10);
+
+        Result platform = burst(Executors.newFixedThreadPool(PLATFORM_THREADS), new JdbcTemplate(pool), restaurantId, SCANS);
+        ConcurrencyLimitingDataSource limited = new ConcurrencyLimitingDataSource(pool, pool.getMaximumPoolSize(), pool.getConnectionTimeout());
+        Result virtual = burst(newVirtualThreadPerTaskExecutor(), new JdbcTemplate(limited), restaurantId, SCANS);
+
+        logger.info(String.format("Platform threads (%d): %.0f scans/s, p50 %.1f ms, p99 %.1f ms",
+                PLATFORM_THREADS, platform.perSecond(), platform.percentile(50), platform.percentile(99)));
+        logger.info(String.format("Virtual threads: %.0f scans/s, p50 %.1f ms, p99 %.1f ms",
+                virtual.perSecond(), virtual.percentile(50), virtual.percentile(99)));
+
+        assertThat(limited.getAvailablePermits()).isEqualTo(pool.getMaximumPoolSize());
+        assertThat(virtual.perSecond()).isGreaterThanOrEqualTo(platform.perSecond() * MIN_VIRTUAL_RATIO);
+    }
+
+    private Result burst(ExecutorService executor, JdbcTemplate jdbcTemplate, UUID restaurantId, int scans) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>(scans);
+        for (int i = 0; i < scans; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                long began = System.nanoTime();
+                String name = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+                    try (PreparedStatement statement = connection.prepareStatement("SELECT name FROM restaurants WHERE id = ?")) {
+                        statement.setObject(1, restaurantId);
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            resultSet.next();
+                            Thread.sleep(ROUND_TRIP_MILLIS);
+                            return resultSet.getString(1);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException(e);
+                    }
+                });
+                assertThat(name).isEqualTo("Scan Restaurant");
+                return System.nanoTime() - began;
+            }));
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        long[] latencies = new long[scans];
+        try {
+            for (int i = 0; i < scans; i++) {
+                latencies[i] = futures.get(i).get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Result(latencies, System.nanoTime() - started);
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+
+    private static class Result {
+        private final long[] latencies;
+        private final long elapsedNanos;
+
+        Result(long[] latencies, long elapsedNanos) {
+            this.latencies = latencies.clone();
+            Arrays.sort(this.latencies);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        double perSecond() {
+            return latencies.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double percentile(int percent) {
+            int index = Math.min(latencies.length - 1, latencies.length * percent / 100);
+            return latencies[index] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.menux.repository;
+
+import com.menux.dto.FeedbackResponse;
+import com.menux.dto.MenuItemResponse;
+import com.menux.dto.OrderSummaryResponse;
+import com.menux.entity.Feedback;
+import com.menux.entity.MenuCategory;
+import com.menux.entity.MenuItem;
+import com.menux.entity.Order;
+import com.menux.entity.OrderItem;
+import com.menux.entity.Restaurant;
+import com.menux.entity.User;
+import com.menux.entity.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the listing queries against N+1 loads by counting the statements each listing issues
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+public class ListingQueryCountTest {
+
+    private static final int ROWS = 12;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private MenuCategoryRepository menuCategoryRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    private UUID restaurantId;
+
+    @BeforeEach
+    public void seed() {
+        User owner = new User("owner@example.com", "hashedPassword123", "Owner", "User", UserRole.RESTAURANT_OWNER);
+        entityManager.persist(owner);
+        Restaurant restaurant = new Restaurant(owner, "Listing Test", "1 Test Street");
+        entityManager.persist(restaurant);
+        restaurantId = restaurant.getId();
+
+        for (int i = 0; i < ROWS; i++) {
+            MenuCategory category = new MenuCategory(restaurant, "Category " + i);
+            entityManager.persist(category);
+
+            MenuItem item = new MenuItem(restaurant, "Item " + i, new BigDecimal("5.00"));
+            item.setCategory(category);
+            item.getAllergens().add("gluten");
+            entityManager.persist(item);
+
+            Order order = new Order(restaurant, new BigDecimal("10.00"));
+            order.setTableNumber("T" + i);
+            order.getOrderItems().add(new OrderItem(order, item, 2, new BigDecimal("5.00")));
+            entityManager.persist(order);
+
+            Feedback feedback = new Feedback(restaurant, 4, "Comment " + i);
+            if (i % 2 == 0) {
+                feedback.setOrder(order);
+            }
+            entityManager.persist(feedback);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void orderListingsIssueOneStatementPerQuery() {
+        List<OrderSummaryResponse> page = countingStatements(2, () -> orderRepository
+                .findSummariesByRestaurantId(restaurantId, PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt", "id")))
+                .map(OrderSummaryResponse::new)
+                .getContent());
+        assertThat(page).hasSize(5).allSatisfy(order -> assertThat(order.getRestaurantId()).isEqualTo(restaurantId));
+
+        List<OrderSummaryResponse> keyset = countingStatements(1, () -> orderRepository
+                .findSummariesByRestaurantIdFirstPage(restaurantId, Limit.of(ROWS))
+                .stream().map(OrderSummaryResponse::new).toList());
+        assertThat(keyset).hasSize(ROWS);
+    }
+
+    @Test
+    public void feedbackListingsIssueOneStatementPerQuery() {
+        List<FeedbackResponse> page = countingStatements(2, () -> feedbackRepository
+                .findRecentViewsByRestaurantId(restaurantId, PageRequest.of(0, ROWS, Sort.by(Sort.Direction.DESC, "createdAt", "id")))
+                .map(FeedbackResponse::new)
+                .getContent());
+        assertThat(page).hasSize(ROWS);
+        assertThat(page.stream().filter(feedback -> feedback.getOrderId() != null)).hasSize(ROWS / 2);
+
+        List<FeedbackResponse> keyset = countingStatements(1, () -> feedbackRepository
+                .findRecentViewsByRestaurantIdFirstPage(restaurantId, Limit.of(ROWS))
+                .stream().map(FeedbackResponse::new).toList());
+        assertThat(keyset).hasSize(ROWS);
+    }
+
+    @Test
+    public void menuListingFetchesCategoriesAndAllergensUpFront() {
+        List<MenuItemResponse> items = countingStatements(2, () -> {
+            menuCategoryRepository.findByRestaurantIdAndIsActiveOrderByDisplayOrder(restaurantId, true);
+            return menuItemRepository.findAvailableWithAllergensByRestaurantId(restaurantId)
+                    .stream().map(MenuItemResponse::new).toList();
+        });
+        assertThat(items).hasSize(ROWS).allSatisfy(item -> {
+            assertThat(item.getCategoryId()).isNotNull();
+            assertThat(item.getAllergens()).containsExactly("gluten");
+        });
+    }
+
+    private <T> T countingStatements(int maxStatements, Supplier<T> listing) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        T result = listing.get();
+
+        assertThat(statistics.getPrepareStatementCount())
+                .as("statements issued by the listing")
+                .isLessThanOrEqualTo(maxStatements);
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+package com.menux.service;
+
+import com.menux.entity.AnalyticsEventType;
+import com.menux.entity.Restaurant;
+import com.menux.entity.RollupGranularity;
+import com.menux.entity.User;
+import com.menux.entity.UserRole;
+import com.menux.repository.RestaurantRepository;
+import com.menux.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.analytics.enabled=false")
+@ActiveProfiles("test")
+public class AnalyticsRollupServiceTest {
+
+    @Autowired
+    private AnalyticsRollupService analyticsRollupService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testFoldCountsSettledEventsOnce() {
+        User owner = userRepository.save(new User("rollup-owner@example.com", "hashedPassword123", "Rollup", "Owner", UserRole.RESTAURANT_OWNER));
+        UUID restaurantId = restaurantRepository.save(new Restaurant(owner, "Rollup Restaurant", "Rollup Street")).getId();
+        LocalDateTime settled = LocalDateTime.now().minusMinutes(10);
+        insertEvent(restaurantId, settled);
+        insertEvent(restaurantId, settled);
+        insertEvent(restaurantId, LocalDateTime.now());
+
+        analyticsRollupService.foldPending();
+        analyticsRollupService.foldPending();
+
+        AnalyticsRollupService.AnalyticsSeries series = analyticsRollupService.getSeries(restaurantId,
+                AnalyticsEventType.QR_SCAN, RollupGranularity.HOUR, settled.minusHours(1), LocalDateTime.now().plusHours(1));
+        assertThat(series.getTotal()).isEqualTo(2);
+        assertThat(series.getProcessedUpTo()).isAfter(settled);
+    }
+
+    private void insertEvent(UUID restaurantId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO analytics (id, restaurant_id, event_type, created_at) VALUES (?, ?, ?, ?)",
+                UUID.randomUUID(), restaurantId, AnalyticsEventType.QR_SCAN.getCode(), Timestamp.valueOf(createdAt));
+    }
+}
@@ -0,0 +1,122 @@
+package com.menux.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.menux.entity.AnalyticsEventType;
+import com.menux.service.AnalyticsService.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AnalyticsServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void testFullBufferDropsAndCountsEvents() {
+        AnalyticsService service = service(4, OverflowPolicy.DROP);
+        for (int i = 0; i < 6; i++) {
+            service.record(AnalyticsEventType.MENU_VIEW, UUID.randomUUID(), Map.of());
+        }
+
+        AnalyticsService.IngestionStats stats = service.getStats();
+        assertThat(stats.getAccepted()).isEqualTo(4);
+        assertThat(stats.getDropped()).isEqualTo(2);
+        assertThat(stats.getBuffered()).isEqualTo(4);
+    }
+
+    @Test
+    public void testBlockPolicyDropsAfterTheTimeout() {
+        AnalyticsService service = service(2, OverflowPolicy.BLOCK);
+        for (int i = 0; i < 3; i++) {
+            service.record(AnalyticsEventType.MENU_VIEW, UUID.randomUUID(), Map.of());
+        }
+
+        assertThat(service.getStats().getAccepted()).isEqualTo(2);
+        assertThat(service.getStats().getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    public void testShutdownFlushesBufferedEvents() throws Exception {
+        AnalyticsService service = service(64, OverflowPolicy.DROP);
+        for (int i = 0; i < 10; i++) {
+            service.record(AnalyticsEventType.MENU_VIEW, UUID.randomUUID(), Map.of("table", i));
+        }
+
+        service.startWriter();
+        service.stopWriter();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).update(sql.capture(), any(PreparedStatementSetter.class));
+        assertThat(sql.getValue()).startsWith("INSERT INTO analytics");
+        assertThat(service.getStats().getWritten()).isEqualTo(10);
+        assertThat(service.getStats().getBuffered()).isZero();
+    }
+
+    @Test
+    public void testForwardedForHeaderIsNotTrusted() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        request.addHeader("X-Forwarded-For", "198.51.100.1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        AnalyticsService service = service(64, OverflowPolicy.DROP);
+        service.record(AnalyticsEventType.MENU_VIEW, UUID.randomUUID(), Map.of());
+        service.startWriter();
+        service.stopWriter();
+
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).update(anyString(), setter.capture());
+        PreparedStatement statement = mock(PreparedStatement.class);
+        setter.getValue().setValues(statement);
+        verify(statement).setString(eq(5), eq("203.0.113.7"));
+        verify(statement).setQueryTimeout(60);
+    }
+
+    @Test
+    public void testRowsAreStampedWhenWrittenNotWhenQueued() throws Exception {
+        AnalyticsService service = service(64, OverflowPolicy.DROP);
+        service.record(AnalyticsEventType.QR_SCAN, UUID.randomUUID(), Map.of());
+        Thread.sleep(20);
+        Timestamp queuedBefore = Timestamp.valueOf(LocalDateTime.now());
+
+        service.startWriter();
+        service.stopWriter();
+
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).update(anyString(), setter.capture());
+        PreparedStatement statement = mock(PreparedStatement.class);
+        setter.getValue().setValues(statement);
+        ArgumentCaptor<Timestamp> createdAt = ArgumentCaptor.forClass(Timestamp.class);
+        verify(statement).setTimestamp(eq(7), createdAt.capture());
+        assertThat(createdAt.getValue()).isAfterOrEqualTo(queuedBefore);
+    }
+
+    private AnalyticsService service(int capacity, OverflowPolicy overflowPolicy) {
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenReturn(1);
+        return new AnalyticsService(jdbcTemplate, new ObjectMapper(), true, capacity, 500, 60000, overflowPolicy, 1, 120000);
+    }
+}
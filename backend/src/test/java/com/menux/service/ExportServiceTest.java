@@ -0,0 +1,55 @@
+package com.menux.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExportServiceTest {
+
+    @Test
+    public void testPlainFieldsAreWrittenAsIs() {
+        assertThat(ExportService.csvField(null)).isEmpty();
+        assertThat(ExportService.csvField("")).isEmpty();
+        assertThat(ExportService.csvField("Margherita Pizza")).isEqualTo("Margherita Pizza");
+        assertThat(ExportService.csvField(12)).isEqualTo("12");
+    }
+
+    @Test
+    public void testFieldsWithSeparatorsAreQuoted() {
+        assertThat(ExportService.csvField("Tomato, mozzarella")).isEqualTo("\"Tomato, mozzarella\"");
+        assertThat(ExportService.csvField("The \"special\"")).isEqualTo("\"The \"\"special\"\"\"");
+        assertThat(ExportService.csvField("line one\nline two")).isEqualTo("\"line one\nline two\"");
+        assertThat(ExportService.csvField("line one\r\nline two")).isEqualTo("\"line one\r\nline two\"");
+    }
+
+    @Test
+    public void testFormulasAreNeutralized() {
+        assertThat(ExportService.csvField("=HYPERLINK(\"http://example.com\")"))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://example.com\"\")\"");
+        assertThat(ExportService.csvField("+1+2")).isEqualTo("'+1+2");
+        assertThat(ExportService.csvField("-1+2")).isEqualTo("'-1+2");
+        assertThat(ExportService.csvField("@SUM(A1:A2)")).isEqualTo("'@SUM(A1:A2)");
+        assertThat(ExportService.csvField("\t=1")).isEqualTo("'\t=1");
+    }
+
+    @Test
+    public void testNumbersAreNotTreatedAsFormulas() {
+        assertThat(ExportService.csvField(-5)).isEqualTo("-5");
+        assertThat(ExportService.csvField(new BigDecimal("-12.50"))).isEqualTo("-12.50");
+    }
+
+    @Test
+    public void testErrorBodyMatchesOtherEndpoints() throws Exception {
+        ExportService exportService = new ExportService(null, null, new ObjectMapper(), null);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        exportService.writeError("from must be before to", output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("{\"error\":\"from must be before to\"}");
+    }
+}
@@ -0,0 +1,73 @@
+package com.menux.service;
+
+import com.menux.entity.FeedbackSummary;
+import com.menux.entity.SentimentType;
+import com.menux.repository.FeedbackSummaryDelta;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class FeedbackSummaryServiceTest {
+
+    @Autowired
+    private FeedbackSummaryService feedbackSummaryService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void testFirstDeltasCreateOneRowWithinTheWritingTransactions() throws Exception {
+        UUID restaurantId = UUID.randomUUID();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int writers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                transaction.executeWithoutResult(status -> feedbackSummaryService.applyDelta(restaurantId,
+                        FeedbackSummaryDelta.forNewFeedback(5, SentimentType.POSITIVE)));
+                return null;
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        FeedbackSummary summary = feedbackSummaryService.getSummary(restaurantId);
+        assertThat(summary.getFeedbackCount()).isEqualTo(writers);
+        assertThat(summary.getRating5Count()).isEqualTo(writers);
+        assertThat(summary.getPositiveCount()).isEqualTo(writers);
+    }
+
+    @Test
+    public void testRebuildCorrectsDriftedSummary() {
+        UUID restaurantId = UUID.randomUUID();
+        feedbackSummaryService.applyDelta(restaurantId, FeedbackSummaryDelta.forNewFeedback(3, SentimentType.NEUTRAL));
+
+        assertThat(feedbackSummaryService.rebuild(restaurantId)).isTrue();
+        assertThat(feedbackSummaryService.getSummary(restaurantId).getFeedbackCount()).isZero();
+        assertThat(feedbackSummaryService.rebuild(restaurantId)).isFalse();
+    }
+}
@@ -0,0 +1,248 @@
+package com.menux.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.menux.entity.IdempotencyRecord;
+import com.menux.exception.IdempotencyInProgressException;
+import com.menux.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class IdempotencyServiceTest {
+
+    private static final long TTL_MILLIS = 3_600_000;
+    private static final long WAIT_TIMEOUT_MILLIS = 500;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private IdempotencyRecordRepository repository;
+    private IdempotencyService idempotencyService;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    public void setUp() {
+        repository = mock(IdempotencyRecordRepository.class, delegatesTo(idempotencyRecordRepository));
+        idempotencyService = new IdempotencyService(repository, objectMapper, transactionManager,
+                1000, TTL_MILLIS, WAIT_TIMEOUT_MILLIS);
+        executions = new AtomicInteger();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        idempotencyService.shutdown();
+    }
+
+    @Test
+    public void testConcurrentDuplicateWaitsForTheFirstExecution() throws Exception {
+        String key = UUID.randomUUID().toString();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Supplier<ResponseEntity<?>> action = () -> {
+            executions.incrementAndGet();
+            running.countDown();
+            try {
+                finish.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", 1));
+        };
+
+        CompletableFuture<ResponseEntity<?>> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("orders", key, "cart", action));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The claim is only leased while the first execution runs
+        LocalDateTime leasedUntil = record(key).getExpiresAt();
+        assertThat(leasedUntil).isBefore(LocalDateTime.now().plusSeconds(5));
+
+        CompletableFuture<ResponseEntity<?>> duplicate = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("orders", key, "cart", action));
+        Thread.sleep(50);
+        finish.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        ResponseEntity<?> replayed = duplicate.get(5, TimeUnit.SECONDS);
+        assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(replayed.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(executions).hasValue(1);
+
+        // Completion keeps the response for the full TTL
+        assertThat(record(key).getExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(30));
+    }
+
+    @Test
+    public void testClaimWithAnExpiredLeaseIsTakenOver() throws Exception {
+        String key = UUID.randomUUID().toString();
+        // Another instance claimed the key and died before completing it
+        String keyHash = keyHash(key);
+        String requestHash = sha256(objectMapper.writeValueAsString("cart"));
+        LocalDateTime claimedAt = LocalDateTime.now().minusSeconds(5);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                idempotencyRecordRepository.claim(keyHash, requestHash, UUID.randomUUID().toString(),
+                        claimedAt, claimedAt.plusSeconds(1)));
+
+        ResponseEntity<?> response = idempotencyService.execute("orders", key, "cart", () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", 1));
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getHeaders().containsKey(IdempotencyService.REPLAYED_HEADER)).isFalse();
+        assertThat(executions).hasValue(1);
+        assertThat(record(key).isCompleted()).isTrue();
+    }
+
+    @Test
+    public void testActionRunningPastItsLeaseKeepsTheKey() throws Exception {
+        String key = UUID.randomUUID().toString();
+        CountDownLatch running = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<?>> slow = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("orders", key, "cart", () -> {
+                    executions.incrementAndGet();
+                    running.countDown();
+                    sleep(WAIT_TIMEOUT_MILLIS * 3);
+                    return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", 1));
+                }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        String firstClaim = record(key).getClaimToken();
+        sleep(WAIT_TIMEOUT_MILLIS * 2);
+
+        // A retry on another instance finds the claim renewed rather than expired
+        IdempotencyService otherInstance = new IdempotencyService(repository, objectMapper, transactionManager,
+                1000, TTL_MILLIS, WAIT_TIMEOUT_MILLIS);
+        Supplier<ResponseEntity<?>> duplicate = () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", 2));
+        };
+        try {
+            ResponseEntity<?> retried = otherInstance.execute("orders", key, "cart", duplicate);
+            assertThat(retried.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        } catch (IdempotencyInProgressException e) {
+            // Still running when the retry gave up waiting
+        }
+
+        assertThat(slow.get(5, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(executions).hasValue(1);
+        IdempotencyRecord recorded = record(key);
+        assertThat(recorded.getClaimToken()).isEqualTo(firstClaim);
+        assertThat(recorded.getResponseBody()).contains("\"id\":1");
+        assertThat(otherInstance.execute("orders", key, "cart", duplicate).getHeaders()
+                .getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(executions).hasValue(1);
+        otherInstance.shutdown();
+    }
+
+    @Test
+    public void testCompletingAClaimTakenOverDoesNotTouchTheNewClaim() {
+        String key = UUID.randomUUID().toString();
+        String keyHash = keyHash(key);
+        LocalDateTime now = LocalDateTime.now();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status ->
+                idempotencyRecordRepository.claim(keyHash, "request", "new-claim", now, now.plusMinutes(1)));
+
+        Integer completed = transaction.execute(status ->
+                idempotencyRecordRepository.complete(keyHash, "old-claim", 201, "{}", now.plusDays(1)));
+        Integer released = transaction.execute(status -> idempotencyRecordRepository.release(keyHash, "old-claim"));
+        Integer renewed = transaction.execute(status ->
+                idempotencyRecordRepository.renew(keyHash, "old-claim", now.plusDays(1)));
+
+        assertThat(completed).isZero();
+        assertThat(released).isZero();
+        assertThat(renewed).isZero();
+
+        IdempotencyRecord record = record(key);
+        assertThat(record.isCompleted()).isFalse();
+        assertThat(record.getClaimToken()).isEqualTo("new-claim");
+    }
+
+    @Test
+    public void testFailureWhileCompletingDoesNotBlockRetries() {
+        String key = UUID.randomUUID().toString();
+        doThrow(new QueryTimeoutException("complete timed out"))
+                .doAnswer(delegatesTo(idempotencyRecordRepository))
+                .when(repository).complete(anyString(), anyString(), anyInt(), any(), any());
+        Supplier<ResponseEntity<?>> action = () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", executions.get()));
+        };
+
+        assertThatThrownBy(() -> idempotencyService.execute("orders", key, "cart", action))
+                .isInstanceOf(QueryTimeoutException.class);
+
+        // The retry is not stuck behind the failed in-memory execution and claims the key once
+        // its lease runs out
+        ResponseEntity<?> retried = idempotencyService.execute("orders", key, "cart", action);
+        assertThat(retried.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(executions).hasValue(2);
+
+        ResponseEntity<?> replayed = idempotencyService.execute("orders", key, "cart", action);
+        assertThat(replayed.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(executions).hasValue(2);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private IdempotencyRecord record(String key) {
+        return idempotencyRecordRepository.findById(keyHash(key)).orElseThrow();
+    }
+
+    private String keyHash(String key) {
+        return sha256("orders\n" + key);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.menux.service;
+
+import com.menux.dto.MenuItemResponse;
+import com.menux.service.MenuFacetIndex.FacetResult;
+import com.menux.service.MenuFacetIndex.Filter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MenuFacetIndexTest {
+
+    private final UUID mains = UUID.randomUUID();
+    private final UUID desserts = UUID.randomUUID();
+
+    private MenuItemResponse burger;
+    private MenuItemResponse falafel;
+    private MenuItemResponse salad;
+    private MenuItemResponse sorbet;
+    private MenuFacetIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        burger = item(mains, "Burger", "12.50", false, false, false, "gluten", "dairy");
+        falafel = item(mains, "Falafel Wrap", "9.00", true, true, false, "gluten", "sesame");
+        salad = item(mains, "Halloumi Salad", "10.00", true, false, true, "Dairy");
+        sorbet = item(desserts, "Mango Sorbet", "4.50", true, true, true);
+        index = new MenuFacetIndex(List.of(burger, falafel, salad, sorbet));
+    }
+
+    @Test
+    public void testUnfilteredResultCountsEveryFacet() {
+        FacetResult result = index.filter(new Filter(false, false, false, null, null, null, null));
+
+        assertThat(result.getItems()).containsExactly(burger, falafel, salad, sorbet);
+        assertThat(result.getDietaryCounts()).containsEntry(MenuFacetIndex.VEGETARIAN, 3)
+                .containsEntry(MenuFacetIndex.VEGAN, 2)
+                .containsEntry(MenuFacetIndex.GLUTEN_FREE, 2);
+        assertThat(result.getCategoryCounts()).containsEntry(mains, 3).containsEntry(desserts, 1);
+        assertThat(result.getMinPrice()).isEqualByComparingTo("4.50");
+        assertThat(result.getMaxPrice()).isEqualByComparingTo("12.50");
+    }
+
+    @Test
+    public void testCombinesDietaryPriceAndAllergenFilters() {
+        assertThat(index.filter(new Filter(true, false, false, null, null, null, null)).getItems())
+                .containsExactly(falafel, salad, sorbet);
+        assertThat(index.filter(new Filter(true, false, false, null, new BigDecimal("9.00"), new BigDecimal("10.00"), null)).getItems())
+                .containsExactly(falafel, salad);
+        assertThat(index.filter(new Filter(true, false, false, null, null, null, Set.of("dairy"))).getItems())
+                .containsExactly(falafel, sorbet);
+        assertThat(index.filter(new Filter(false, true, true, null, null, new BigDecimal("4.00"), null)).getItems())
+                .isEmpty();
+    }
+
+    @Test
+    public void testCategoryCountsIgnoreTheCategoryFilter() {
+        FacetResult result = index.filter(new Filter(false, true, false, Set.of(desserts), null, null, null));
+
+        assertThat(result.getItems()).containsExactly(sorbet);
+        assertThat(result.getDietaryCounts()).containsEntry(MenuFacetIndex.VEGAN, 1);
+        assertThat(result.getCategoryCounts()).containsEntry(mains, 1).containsEntry(desserts, 1);
+    }
+
+    private static MenuItemResponse item(UUID categoryId, String name, String price, boolean vegetarian, boolean vegan,
+                                         boolean glutenFree, String... allergens) {
+        MenuItemResponse item = new MenuItemResponse();
+        item.setId(UUID.randomUUID());
+        item.setCategoryId(categoryId);
+        item.setName(name);
+        item.setPrice(new BigDecimal(price));
+        item.setIsVegetarian(vegetarian);
+        item.setIsVegan(vegan);
+        item.setIsGlutenFree(glutenFree);
+        item.setAllergens(List.of(allergens));
+        return item;
+    }
+}
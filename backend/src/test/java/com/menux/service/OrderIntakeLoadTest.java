@@ -0,0 +1,152 @@
+package com.menux.service;
+
+import com.menux.dto.OrderLineRequest;
+import com.menux.dto.OrderReceiptResponse;
+import com.menux.dto.PlaceOrderRequest;
+import com.menux.entity.MenuItem;
+import com.menux.entity.Restaurant;
+import com.menux.entity.User;
+import com.menux.entity.UserRole;
+import com.menux.repository.MenuItemRepository;
+import com.menux.repository.OrderItemRepository;
+import com.menux.repository.OrderRepository;
+import com.menux.repository.RestaurantRepository;
+import com.menux.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sustained order placement throughput; run with mvn test -P load-test
+ *
+ * The design point is a Friday-night peak: many tables across a few busy restaurants
+ * placing small carts concurrently.
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+    "spring.jpa.properties.hibernate.order_inserts=true",
+    "logging.level.com.menux=INFO",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+    "logging.level.org.springframework.security=WARN"
+})
+@ActiveProfiles("test")
+public class OrderIntakeLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderIntakeLoadTest.class);
+
+    private static final int RESTAURANTS = Integer.getInteger("load.restaurants", 5);
+    private static final int ITEMS_PER_MENU = 40;
+    private static final int THREADS = Integer.getInteger("load.threads", 32);
+    private static final int ORDERS_PER_THREAD = Integer.getInteger("load.ordersPerThread", 250);
+    private static final int MIN_ORDERS_PER_SECOND = Integer.getInteger("load.minOrdersPerSecond", 100);
+
+    @Autowired
+    private OrderIntakeService orderIntakeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Test
+    public void testSustainedOrderPlacementThroughput() throws Exception {
+        User owner = userRepository.save(new User("load-owner@example.com", "hashedPassword123", "Load", "Owner", UserRole.RESTAURANT_OWNER));
+        List<UUID> restaurantIds = new ArrayList<>();
+        List<List<UUID>> menus = new ArrayList<>();
+        for (int r = 0; r < RESTAURANTS; r++) {
+            Restaurant restaurant = restaurantRepository.save(new Restaurant(owner, "Load Restaurant " + r, "Street " + r));
+            List<UUID> itemIds = new ArrayList<>();
+            for (int i = 0; i < ITEMS_PER_MENU; i++) {
+                itemIds.add(menuItemRepository.save(new MenuItem(restaurant, "Dish " + i, new BigDecimal("4.50").add(BigDecimal.valueOf(i)))).getId());
+            }
+            restaurantIds.add(restaurant.getId());
+            menus.add(itemIds);
+        }
+
+        // Warm up snapshots, connection pool and JIT
+        for (int r = 0; r < RESTAURANTS; r++) {
+            orderIntakeService.placeOrder(restaurantIds.get(r), randomCart(menus.get(r), "W"));
+        }
+        long ordersBefore = orderRepository.count();
+        long linesBefore = orderItemRepository.count();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int restaurant = t % RESTAURANTS;
+            String table = "T" + t;
+            futures.add(executor.submit((Callable<Long>) () -> {
+                start.await();
+                long lines = 0;
+                for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                    OrderReceiptResponse receipt = orderIntakeService.placeOrder(restaurantIds.get(restaurant),
+                            randomCart(menus.get(restaurant), table));
+                    lines += receipt.getLines().size();
+                }
+                return lines;
+            }));
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        long lines = 0;
+        try {
+            for (Future<Long> future : futures) {
+                lines += future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        int orders = THREADS * ORDERS_PER_THREAD;
+        double ordersPerSecond = orders / seconds;
+        logger.info("Placed {} orders ({} lines) with {} threads in {} s: {} orders/s",
+                orders, lines, THREADS, String.format("%.2f", seconds), String.format("%.0f", ordersPerSecond));
+
+        assertThat(orderRepository.count() - ordersBefore).isEqualTo(orders);
+        assertThat(orderItemRepository.count() - linesBefore).isEqualTo(lines);
+        assertThat(ordersPerSecond).isGreaterThanOrEqualTo(MIN_ORDERS_PER_SECOND);
+    }
+
+    private static PlaceOrderRequest randomCart(List<UUID> menu, String table) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<OrderLineRequest> lines = new ArrayList<>();
+        int lineCount = 1 + random.nextInt(5);
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(new OrderLineRequest(menu.get(random.nextInt(menu.size())), 1 + random.nextInt(3)));
+        }
+        return new PlaceOrderRequest(table, lines);
+    }
+}
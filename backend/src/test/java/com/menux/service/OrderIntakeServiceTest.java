@@ -0,0 +1,91 @@
+package com.menux.service;
+
+import com.menux.dto.OrderLineRequest;
+import com.menux.dto.OrderReceiptResponse;
+import com.menux.dto.PlaceOrderRequest;
+import com.menux.entity.MenuItem;
+import com.menux.entity.Restaurant;
+import com.menux.entity.User;
+import com.menux.entity.UserRole;
+import com.menux.repository.MenuItemRepository;
+import com.menux.repository.RestaurantRepository;
+import com.menux.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class OrderIntakeServiceTest {
+
+    @Autowired
+    private OrderIntakeService orderIntakeService;
+
+    @Autowired
+    private MenuSnapshotService menuSnapshotService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID restaurantId;
+    private UUID soupId;
+    private UUID breadId;
+
+    @BeforeEach
+    public void setUp() {
+        User owner = userRepository.save(new User("intake-" + UUID.randomUUID() + "@example.com", "hashedPassword123",
+                "Intake", "Owner", UserRole.RESTAURANT_OWNER));
+        Restaurant restaurant = restaurantRepository.save(new Restaurant(owner, "Intake Restaurant", "Intake Street"));
+        restaurantId = restaurant.getId();
+        soupId = menuItemRepository.save(new MenuItem(restaurant, "Soup", new BigDecimal("6.00"))).getId();
+        breadId = menuItemRepository.save(new MenuItem(restaurant, "Bread", new BigDecimal("4.50"))).getId();
+    }
+
+    @Test
+    public void testPriceChangedOnAnotherInstanceIsCharged() {
+        assertThat(placeOrder(soupId).getTotalAmount()).isEqualByComparingTo("12.00");
+
+        // Written without going through this instance, so no change event drops the snapshot
+        jdbcTemplate.update("UPDATE menu_items SET price = 7.50 WHERE id = ?", soupId);
+
+        assertThat(placeOrder(soupId).getTotalAmount()).isEqualByComparingTo("15.00");
+        assertThat(menuSnapshotService.getSnapshot(restaurantId).getItemsById().get(soupId).getPrice())
+                .isEqualByComparingTo("7.50");
+    }
+
+    @Test
+    public void testItemWithdrawnOnAnotherInstanceIsRejected() {
+        assertThat(placeOrder(breadId).getTotalAmount()).isEqualByComparingTo("9.00");
+
+        jdbcTemplate.update("UPDATE menu_items SET is_available = FALSE WHERE id = ?", breadId);
+
+        assertThatThrownBy(() -> placeOrder(breadId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(breadId.toString());
+        assertThat(menuSnapshotService.getSnapshot(restaurantId).getItemsById()).doesNotContainKey(breadId);
+    }
+
+    private OrderReceiptResponse placeOrder(UUID menuItemId) {
+        return orderIntakeService.placeOrder(restaurantId,
+                new PlaceOrderRequest("T1", List.of(new OrderLineRequest(menuItemId, 2))));
+    }
+}
@@ -0,0 +1,123 @@
+package com.menux.service;
+
+import com.menux.dto.OrderLineRequest;
+import com.menux.dto.PlaceOrderRequest;
+import com.menux.entity.MenuItem;
+import com.menux.entity.OrderStatus;
+import com.menux.entity.Restaurant;
+import com.menux.entity.User;
+import com.menux.entity.UserRole;
+import com.menux.event.OrderChangedEvent;
+import com.menux.exception.OrderStateConflictException;
+import com.menux.repository.MenuItemRepository;
+import com.menux.repository.OrderRepository;
+import com.menux.repository.RestaurantRepository;
+import com.menux.repository.UserRepository;
+import com.menux.service.OrderLifecycleService.BulkTransitionResult;
+import com.menux.service.OrderLifecycleService.OrderTransition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+public class OrderLifecycleServiceTest {
+
+    @Autowired
+    private OrderLifecycleService orderLifecycleService;
+
+    @Autowired
+    private OrderIntakeService orderIntakeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private UUID restaurantId;
+    private UUID menuItemId;
+
+    @BeforeEach
+    public void setUp() {
+        User owner = userRepository.save(new User("lifecycle-" + UUID.randomUUID() + "@example.com", "hashedPassword123",
+                "Lifecycle", "Owner", UserRole.RESTAURANT_OWNER));
+        Restaurant restaurant = restaurantRepository.save(new Restaurant(owner, "Lifecycle Restaurant", "Lifecycle Street"));
+        restaurantId = restaurant.getId();
+        menuItemId = menuItemRepository.save(new MenuItem(restaurant, "Soup", new BigDecimal("6.00"))).getId();
+    }
+
+    @Test
+    public void testDisallowedTransitionIsRejected() {
+        UUID orderId = placeOrder("T1");
+
+        assertThatThrownBy(() -> orderLifecycleService.transition(restaurantId, orderId, OrderStatus.COMPLETED, OrderStatus.PENDING, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> orderLifecycleService.transition(restaurantId, orderId, OrderStatus.COMPLETED, null, null))
+                .isInstanceOfSatisfying(OrderStateConflictException.class,
+                        conflict -> assertThat(conflict.getCurrentStatus()).isEqualTo(OrderStatus.PENDING));
+        assertThat(status(orderId)).isEqualTo(OrderStatus.PENDING);
+    }
+
+    @Test
+    public void testStaleVersionIsAConflict() {
+        UUID orderId = placeOrder("T2");
+        Long version = orderRepository.findStateById(restaurantId, orderId).orElseThrow().getVersion();
+
+        OrderTransition confirmed = orderLifecycleService.transition(restaurantId, orderId, OrderStatus.CONFIRMED, null, version);
+        assertThat(confirmed.getVersion()).isEqualTo(version + 1);
+
+        assertThatThrownBy(() -> orderLifecycleService.transition(restaurantId, orderId, OrderStatus.PREPARING, null, version))
+                .isInstanceOfSatisfying(OrderStateConflictException.class,
+                        conflict -> assertThat(conflict.getCurrentVersion()).isEqualTo(version + 1));
+        assertThat(status(orderId)).isEqualTo(OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    public void testTableTransitionPublishesAnEventPerUpdatedOrder() {
+        List<UUID> orderIds = List.of(placeOrder("T3"), placeOrder("T3"));
+        UUID otherTable = placeOrder("T4");
+        events.clear();
+
+        BulkTransitionResult result = orderLifecycleService.transitionTable(restaurantId, "T3", OrderStatus.CONFIRMED);
+
+        assertThat(result.getTransitioned()).extracting(OrderTransition::getOrderId).containsExactlyInAnyOrderElementsOf(orderIds);
+        assertThat(result.getConflicted()).isEmpty();
+        assertThat(events.stream(OrderChangedEvent.class)
+                .filter(event -> event.getChangeType() == OrderChangedEvent.ChangeType.UPDATED
+                        && event.getStatus() == OrderStatus.CONFIRMED)
+                .map(OrderChangedEvent::getOrderId))
+                .containsExactlyInAnyOrderElementsOf(orderIds);
+        assertThat(status(otherTable)).isEqualTo(OrderStatus.PENDING);
+    }
+
+    private UUID placeOrder(String table) {
+        return orderIntakeService.placeOrder(restaurantId,
+                new PlaceOrderRequest(table, List.of(new OrderLineRequest(menuItemId, 1)))).getOrderId();
+    }
+
+    private OrderStatus status(UUID orderId) {
+        return orderRepository.findStateById(restaurantId, orderId).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,109 @@
+package com.menux.service;
+
+import com.menux.entity.OrderStatus;
+import com.menux.event.OrderChangedEvent;
+import com.menux.service.OrderStreamService.OrderUpdate;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OrderStreamServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final UUID restaurantId = UUID.randomUUID();
+
+    @Test
+    public void testConnectionIsCountedOnlyWhileSubscribed() {
+        OrderStreamService service = new OrderStreamService(16, 16, 60000, 1800000, 600000);
+
+        var stream = service.subscribe(restaurantId, null);
+        assertThat(service.getConnectionCount()).isZero();
+
+        Disposable connection = stream.subscribe();
+        assertThat(service.getConnectionCount()).isEqualTo(1);
+        connection.dispose();
+        assertThat(service.getConnectionCount()).isZero();
+    }
+
+    @Test
+    public void testLastEventIdReplaysOnlyMissedEvents() {
+        OrderStreamService service = new OrderStreamService(16, 16, 60000, 1800000, 600000);
+        List<ServerSentEvent<OrderUpdate>> first = new CopyOnWriteArrayList<>();
+        Disposable connection = service.subscribe(restaurantId, null).subscribe(first::add);
+        List<UUID> orderIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        orderIds.forEach(orderId -> service.onOrderChanged(event(orderId)));
+        connection.dispose();
+        assertThat(first).hasSize(3);
+
+        List<ServerSentEvent<OrderUpdate>> resumed = service.subscribe(restaurantId, first.get(0).id())
+                .take(2).collectList().block(TIMEOUT);
+        assertThat(resumed).extracting(event -> event.data().getOrderId()).containsExactly(orderIds.get(1), orderIds.get(2));
+        assertThat(resumed.get(1).id()).isEqualTo(first.get(2).id());
+
+        ServerSentEvent<OrderUpdate> unknown = service.subscribe(restaurantId, "stale-epoch-1").blockFirst(TIMEOUT);
+        assertThat(unknown.event()).isEqualTo(OrderStreamService.RESET_EVENT);
+    }
+
+    @Test
+    public void testSlowConnectionIsResetWhenItsBufferOverflows() throws Exception {
+        OrderStreamService service = new OrderStreamService(256, 4, 60000, 1800000, 600000);
+        List<ServerSentEvent<OrderUpdate>> received = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        BaseSubscriber<ServerSentEvent<OrderUpdate>> slow = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                // Request nothing until the buffer has overflowed
+            }
+
+            @Override
+            protected void hookOnNext(ServerSentEvent<OrderUpdate> value) {
+                received.add(value);
+            }
+
+            @Override
+            protected void hookOnComplete() {
+                completed.countDown();
+            }
+        };
+        service.subscribe(restaurantId, null).subscribe(slow);
+
+        for (int i = 0; i < 10; i++) {
+            service.onOrderChanged(event(UUID.randomUUID()));
+        }
+        slow.request(Long.MAX_VALUE);
+
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).isNotEmpty();
+        assertThat(received.get(received.size() - 1).event()).isEqualTo(OrderStreamService.RESET_EVENT);
+        assertThat(service.getConnectionCount()).isZero();
+    }
+
+    @Test
+    public void testIdleConnectionReceivesHeartbeats() {
+        OrderStreamService service = new OrderStreamService(16, 16, 20, 1800000, 600000);
+
+        List<ServerSentEvent<OrderUpdate>> heartbeats = service.subscribe(restaurantId, null)
+                .take(2).collectList().block(TIMEOUT);
+
+        assertThat(heartbeats).extracting(ServerSentEvent::comment).containsExactly("heartbeat", "heartbeat");
+        assertThat(heartbeats).allMatch(event -> event.data() == null);
+    }
+
+    private OrderChangedEvent event(UUID orderId) {
+        return new OrderChangedEvent(restaurantId, orderId, OrderChangedEvent.ChangeType.CREATED,
+                OrderStatus.PENDING, "T1", new BigDecimal("12.00"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.menux.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class QrCodeAllocatorTest {
+
+    private static final int THREADS = 16;
+    private static final int CODES_PER_THREAD = 5_000;
+
+    @Test
+    public void testParallelAllocationAcrossNodesIsUnique() throws Exception {
+        // Two allocators stand in for two backend instances sharing a frozen clock,
+        // so every id within a node differs only by its sequence
+        long frozenMillis = System.currentTimeMillis();
+        QrCodeAllocator nodeA = new QrCodeAllocator(1, () -> frozenMillis);
+        QrCodeAllocator nodeB = new QrCodeAllocator(2, () -> frozenMillis);
+
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                QrCodeAllocator allocator = t % 2 == 0 ? nodeA : nodeB;
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    start.await();
+                    for (int i = 0; i < CODES_PER_THREAD; i++) {
+                        codes.add(allocator.nextCode("CAFEONE", "T7"));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(codes).hasSize(THREADS * CODES_PER_THREAD);
+        assertThat(codes).allSatisfy(code -> assertThat(code).startsWith("CAFEONE-T7-"));
+    }
+
+    @Test
+    public void testIdsStayMonotonicWhenClockGoesBackwards() {
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        QrCodeAllocator allocator = new QrCodeAllocator(7, clock::get);
+
+        long first = allocator.nextId();
+        clock.addAndGet(-5_000);
+        long second = allocator.nextId();
+
+        assertThat(second).isGreaterThan(first);
+        assertThat((second >>> QrCodeAllocator.SEQUENCE_BITS) & QrCodeAllocator.MAX_NODE_ID).isEqualTo(7);
+    }
+
+    @Test
+    public void testRejectsOutOfRangeNodeId() {
+        assertThatThrownBy(() -> new QrCodeAllocator(QrCodeAllocator.MAX_NODE_ID + 1, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,165 @@
+package com.menux.service;
+
+import com.menux.dto.OrderLineRequest;
+import com.menux.dto.PlaceOrderRequest;
+import com.menux.entity.MenuItem;
+import com.menux.entity.OrderStatus;
+import com.menux.entity.Restaurant;
+import com.menux.entity.RollupGranularity;
+import com.menux.entity.User;
+import com.menux.entity.UserRole;
+import com.menux.repository.MenuItemRepository;
+import com.menux.repository.RestaurantRepository;
+import com.menux.repository.SalesHourRepository;
+import com.menux.repository.UserRepository;
+import com.menux.service.SalesLedgerService.ItemSales;
+import com.menux.service.SalesLedgerService.SalesReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class SalesLedgerServiceTest {
+
+    private static final List<OrderStatus> TO_COMPLETED = List.of(
+            OrderStatus.CONFIRMED, OrderStatus.PREPARING, OrderStatus.READY, OrderStatus.COMPLETED);
+
+    @Autowired
+    private SalesLedgerService salesLedgerService;
+
+    @Autowired
+    private OrderIntakeService orderIntakeService;
+
+    @Autowired
+    private OrderLifecycleService orderLifecycleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private SalesHourRepository salesHourRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID restaurantId;
+    private UUID soupId;
+    private UUID breadId;
+
+    @BeforeEach
+    public void setUp() {
+        User owner = userRepository.save(new User("ledger-" + UUID.randomUUID() + "@example.com", "hashedPassword123",
+                "Ledger", "Owner", UserRole.RESTAURANT_OWNER));
+        Restaurant restaurant = restaurantRepository.save(new Restaurant(owner, "Ledger Restaurant", "Ledger Street"));
+        restaurantId = restaurant.getId();
+        soupId = menuItemRepository.save(new MenuItem(restaurant, "Soup", new BigDecimal("6.00"))).getId();
+        breadId = menuItemRepository.save(new MenuItem(restaurant, "Bread", new BigDecimal("4.50"))).getId();
+    }
+
+    @Test
+    public void testConcurrentCompletionsCreateEachBucketOnceWithinTheirTransactions() throws Exception {
+        int orders = 3;
+        List<UUID> orderIds = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            orderIds.add(placeOrder("T" + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(orders);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (UUID orderId : orderIds) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                complete(orderId);
+                return null;
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertReport(report(), orders);
+    }
+
+    @Test
+    public void testRebuildMatchesIncrementalBucketsAndCorrectsDrift() {
+        complete(placeOrder("T1"));
+        complete(placeOrder("T2"));
+        placeOrder("T3");
+        SalesReport incremental = report();
+        assertReport(incremental, 2);
+
+        LocalDateTime bucketStart = incremental.getPoints().stream()
+                .filter(point -> point.getOrderCount() > 0)
+                .findFirst()
+                .orElseThrow()
+                .getBucketStart();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                salesHourRepository.addToBucket(restaurantId, bucketStart, 5, new BigDecimal("100.00")));
+        assertThat(report().getOrderCount()).isEqualTo(7);
+
+        Integer recorded = new TransactionTemplate(transactionManager).execute(status ->
+                salesLedgerService.rebuild(restaurantId));
+
+        assertThat(recorded).isEqualTo(2);
+        assertReport(report(), 2);
+    }
+
+    private void assertReport(SalesReport report, int orders) {
+        assertThat(report.getOrderCount()).isEqualTo(orders);
+        assertThat(report.getRevenue()).isEqualByComparingTo(new BigDecimal("16.50").multiply(BigDecimal.valueOf(orders)));
+        assertThat(report.getItems()).hasSize(2);
+        ItemSales soup = report.getItems().get(0);
+        assertThat(soup.getMenuItemId()).isEqualTo(soupId);
+        assertThat(soup.getQuantity()).isEqualTo(2L * orders);
+        assertThat(soup.getLineCount()).isEqualTo(orders);
+        assertThat(soup.getRevenue()).isEqualByComparingTo(new BigDecimal("12.00").multiply(BigDecimal.valueOf(orders)));
+        ItemSales bread = report.getItems().get(1);
+        assertThat(bread.getMenuItemId()).isEqualTo(breadId);
+        assertThat(bread.getQuantity()).isEqualTo(orders);
+    }
+
+    private SalesReport report() {
+        LocalDateTime now = LocalDateTime.now();
+        return salesLedgerService.getReport(restaurantId, RollupGranularity.HOUR, now.minusHours(2), now.plusHours(2));
+    }
+
+    private UUID placeOrder(String table) {
+        return orderIntakeService.placeOrder(restaurantId, new PlaceOrderRequest(table, List.of(
+                new OrderLineRequest(soupId, 2), new OrderLineRequest(breadId, 1)))).getOrderId();
+    }
+
+    private void complete(UUID orderId) {
+        for (OrderStatus status : TO_COMPLETED) {
+            orderLifecycleService.transition(restaurantId, orderId, status, null, null);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.menux.service;
+
+import com.menux.service.TextSearchIndex.Hit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TextSearchIndexTest {
+
+    private final UUID margherita = UUID.randomUUID();
+    private final UUID pepperoni = UUID.randomUUID();
+    private final UUID creme = UUID.randomUUID();
+    private final UUID salad = UUID.randomUUID();
+
+    private TextSearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new TextSearchIndex(3.0, 1.0);
+        index.put(margherita, "Margherita Pizza", "Tomato, mozzarella and basil");
+        index.put(pepperoni, "Pepperoni Pizza", "Tomato, mozzarella and spicy pepperoni");
+        index.put(creme, "Crème Brûlée", "Vanilla custard");
+        index.put(salad, "Caprese Salad", "Tomato, mozzarella and basil");
+    }
+
+    @Test
+    public void testPrefixMatchesWhileTyping() {
+        assertThat(ids(index.search("pizz", TextSearchIndex.ALL_FIELDS, 10)))
+                .containsExactlyInAnyOrder(margherita, pepperoni);
+        assertThat(ids(index.search("marg piz", TextSearchIndex.ALL_FIELDS, 10)))
+                .containsExactly(margherita);
+    }
+
+    @Test
+    public void testToleratesTyposAndAccents() {
+        assertThat(ids(index.search("margarita", TextSearchIndex.ALL_FIELDS, 10))).containsExactly(margherita);
+        assertThat(ids(index.search("peperoni", TextSearchIndex.ALL_FIELDS, 10))).containsExactly(pepperoni);
+        assertThat(ids(index.search("creme brulee", TextSearchIndex.ALL_FIELDS, 10))).containsExactly(creme);
+    }
+
+    @Test
+    public void testRanksNameMatchesAboveDescriptionMatches() {
+        List<Hit> hits = index.search("pepperoni", TextSearchIndex.ALL_FIELDS, 10);
+
+        assertThat(ids(hits)).containsExactly(pepperoni);
+        assertThat(ids(index.search("basil", TextSearchIndex.ALL_FIELDS, 10))).containsExactlyInAnyOrder(margherita, salad)
+                .doesNotContain(pepperoni);
+        assertThat(ids(index.search("tomato", 1, 10))).isEmpty();
+        assertThat(index.search("salad", TextSearchIndex.ALL_FIELDS, 10).get(0).getScore())
+                .isGreaterThan(index.search("basil", TextSearchIndex.ALL_FIELDS, 10).get(0).getScore());
+    }
+
+    @Test
+    public void testReplaceAndRemoveKeepPostingsCurrent() {
+        index.put(salad, "Greek Salad", "Feta and olives");
+        assertThat(ids(index.search("caprese", TextSearchIndex.ALL_FIELDS, 10))).isEmpty();
+        assertThat(ids(index.search("feta", TextSearchIndex.ALL_FIELDS, 10))).containsExactly(salad);
+
+        index.remove(salad);
+        assertThat(ids(index.search("salad", TextSearchIndex.ALL_FIELDS, 10))).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    private static List<UUID> ids(List<Hit> hits) {
+        return hits.stream().map(Hit::getId).toList();
+    }
+}
@@ -91,6 +91,7 @@ CREATE TABLE orders (
     status order_status DEFAULT 'PENDING',
     total_amount DECIMAL(10,2) NOT NULL,
     special_instructions TEXT,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
@@ -121,6 +122,23 @@ CREATE TABLE feedback (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Maintained per-restaurant feedback aggregates
+CREATE TABLE feedback_summaries (
+    restaurant_id UUID PRIMARY KEY REFERENCES restaurants(id) ON DELETE CASCADE,
+    feedback_count BIGINT NOT NULL DEFAULT 0,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    rating_1_count BIGINT NOT NULL DEFAULT 0,
+    rating_2_count BIGINT NOT NULL DEFAULT 0,
+    rating_3_count BIGINT NOT NULL DEFAULT 0,
+    rating_4_count BIGINT NOT NULL DEFAULT 0,
+    rating_5_count BIGINT NOT NULL DEFAULT 0,
+    positive_count BIGINT NOT NULL DEFAULT 0,
+    neutral_count BIGINT NOT NULL DEFAULT 0,
+    negative_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
 -- QR codes table
 CREATE TABLE qr_codes (
     id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
@@ -143,25 +161,91 @@ CREATE TABLE analytics (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Hourly and daily event counts folded from the analytics table
+CREATE TABLE analytics_rollups (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    restaurant_id UUID NOT NULL REFERENCES restaurants(id) ON DELETE CASCADE,
+    event_type VARCHAR(50) NOT NULL,
+    granularity VARCHAR(10) NOT NULL CHECK (granularity IN ('HOUR', 'DAY')),
+    bucket_start TIMESTAMP NOT NULL,
+    event_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_analytics_rollups_bucket UNIQUE (restaurant_id, event_type, granularity, bucket_start)
+);
+
+-- How far raw analytics events have been folded into analytics_rollups
+CREATE TABLE analytics_rollup_watermarks (
+    name VARCHAR(50) PRIMARY KEY,
+    processed_up_to TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create idempotency keys table
+CREATE TABLE idempotency_keys (
+    key_hash VARCHAR(64) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    status_code INTEGER,
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- Hourly revenue of completed orders per restaurant, and per menu item
+CREATE TABLE sales_hours (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    restaurant_id UUID NOT NULL REFERENCES restaurants(id) ON DELETE CASCADE,
+    bucket_start TIMESTAMP NOT NULL,
+    order_count BIGINT NOT NULL DEFAULT 0,
+    revenue DECIMAL(14,2) NOT NULL DEFAULT 0,
+    CONSTRAINT uk_sales_hours_bucket UNIQUE (restaurant_id, bucket_start)
+);
+
+CREATE TABLE item_sales_hours (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    restaurant_id UUID NOT NULL REFERENCES restaurants(id) ON DELETE CASCADE,
+    menu_item_id UUID NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    quantity BIGINT NOT NULL DEFAULT 0,
+    line_count BIGINT NOT NULL DEFAULT 0,
+    revenue DECIMAL(14,2) NOT NULL DEFAULT 0,
+    CONSTRAINT uk_item_sales_hours_bucket UNIQUE (restaurant_id, bucket_start, menu_item_id)
+);
+
+-- Orders recorded in the sales buckets, and the hour they were recorded in
+CREATE TABLE sales_ledger_orders (
+    order_id UUID PRIMARY KEY REFERENCES orders(id) ON DELETE CASCADE,
+    restaurant_id UUID NOT NULL REFERENCES restaurants(id) ON DELETE CASCADE,
+    bucket_start TIMESTAMP NOT NULL,
+    recorded_at TIMESTAMP NOT NULL
+);
+
 -- Create indexes for better performance
 CREATE INDEX idx_users_email ON users(email);
 CREATE INDEX idx_users_role ON users(role);
+CREATE INDEX idx_users_created_at ON users(created_at, id);
+CREATE INDEX idx_users_role_created_at ON users(role, created_at, id);
 CREATE INDEX idx_restaurants_owner_id ON restaurants(owner_id);
 CREATE INDEX idx_restaurants_subscription ON restaurants(subscription_type);
+CREATE INDEX idx_restaurants_created_at ON restaurants(created_at, id);
 CREATE INDEX idx_menu_items_restaurant_id ON menu_items(restaurant_id);
 CREATE INDEX idx_menu_items_category_id ON menu_items(category_id);
 CREATE INDEX idx_orders_restaurant_id ON orders(restaurant_id);
 CREATE INDEX idx_orders_status ON orders(status);
 CREATE INDEX idx_orders_created_at ON orders(created_at);
+CREATE INDEX idx_orders_restaurant_created_at ON orders(restaurant_id, created_at, id);
+CREATE INDEX idx_orders_restaurant_table ON orders(restaurant_id, table_number, status);
 CREATE INDEX idx_order_items_order_id ON order_items(order_id);
+CREATE INDEX idx_order_items_menu_item_id ON order_items(menu_item_id);
 CREATE INDEX idx_feedback_restaurant_id ON feedback(restaurant_id);
 CREATE INDEX idx_feedback_rating ON feedback(rating);
 CREATE INDEX idx_feedback_sentiment ON feedback(sentiment);
+CREATE INDEX idx_feedback_restaurant_created_at ON feedback(restaurant_id, created_at, id);
 CREATE INDEX idx_qr_codes_restaurant_id ON qr_codes(restaurant_id);
 CREATE INDEX idx_qr_codes_code ON qr_codes(code);
 CREATE INDEX idx_analytics_restaurant_id ON analytics(restaurant_id);
 CREATE INDEX idx_analytics_event_type ON analytics(event_type);
 CREATE INDEX idx_analytics_created_at ON analytics(created_at);
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
+CREATE INDEX idx_sales_ledger_orders_restaurant_id ON sales_ledger_orders(restaurant_id);
 
 -- Create updated_at trigger function
 CREATE OR REPLACE FUNCTION update_updated_at_column()